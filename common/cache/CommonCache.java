@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 
@@ -43,6 +44,15 @@ public class CommonCache<KEY, VALUE> {
         cache = Caffeine.newBuilder().maximumSize(size).expireAfterAccess(timeoutMinutes, MINUTES).build();
     }
 
+    /**
+     * A cache bounded by the total weight of its entries rather than their number, for entries that vary in size
+     */
+    public CommonCache(long maximumWeight, ToIntBiFunction<KEY, VALUE> weigher) {
+        cache = Caffeine.newBuilder().maximumWeight(maximumWeight)
+                .weigher((KEY key, VALUE value) -> weigher.applyAsInt(key, value))
+                .expireAfterAccess(CACHE_TIMEOUT_MINUTES, MINUTES).build();
+    }
+
     public VALUE get(KEY key, Function<KEY, VALUE> function) {
         return cache.get(key, function);
     }
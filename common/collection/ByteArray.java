@@ -18,7 +18,6 @@
 
 package com.vaticle.typedb.core.common.collection;
 
-import com.google.common.primitives.UnsignedBytes;
 import com.vaticle.typedb.common.collection.Bytes;
 import com.vaticle.typedb.core.common.exception.TypeDBCheckedException;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
@@ -119,7 +118,11 @@ public abstract class ByteArray implements Comparable<ByteArray> {
 
     public abstract void copyTo(byte[] destination, int destinationPos);
 
-    public abstract boolean hasPrefix(ByteArray prefix);
+    public boolean hasPrefix(ByteArray prefix) {
+        if (length() < prefix.length()) return false;
+        return Arrays.equals(array, offset(), offset() + prefix.length(),
+                prefix.array, prefix.offset(), prefix.offset() + prefix.length());
+    }
 
     public String toHexString() {
         return Bytes.bytesToHexString(getBytes());
@@ -219,6 +222,45 @@ public abstract class ByteArray implements Comparable<ByteArray> {
         return ByteBuffer.wrap(clone).getLong();
     }
 
+    /**
+     * Convert {@code long} to lexicographically sorted bytes of variable length.
+     * <p>
+     * The first byte is a header that orders numbers by their sign, and then by how many bytes their magnitude
+     * needs. It is followed by that many low-order bytes of the number, in big-endian order. Numbers of small
+     * magnitude, such as generated keys, therefore take two or three bytes rather than eight, and still sort in
+     * numerical order.
+     */
+    public static ByteArray encodeLongAsSortedCompact(long num) {
+        int size = compactSignificantBytes(num);
+        byte[] bytes = new byte[1 + size];
+        bytes[0] = (byte) (num < 0 ? LONG_SIZE - size : LONG_SIZE + 1 + size);
+        for (int i = size; i > 0; i--) {
+            bytes[i] = (byte) num;
+            num >>= 8;
+        }
+        return of(bytes);
+    }
+
+    private static int compactSignificantBytes(long num) {
+        long magnitude = num < 0 ? ~num : num;
+        return (Long.SIZE - Long.numberOfLeadingZeros(magnitude) + 7) / 8;
+    }
+
+    /**
+     * @return the length of a number encoded by {@link #encodeLongAsSortedCompact(long)}, given its first byte
+     */
+    public static int compactLongLength(byte header) {
+        int key = header & 0xFF;
+        return 1 + (key <= LONG_SIZE ? LONG_SIZE - key : key - LONG_SIZE - 1);
+    }
+
+    public long decodeSortedAsCompactLong() {
+        assert length() == compactLongLength(get(0));
+        long num = (get(0) & 0xFF) <= LONG_SIZE ? -1L : 0L;
+        for (int i = 1; i < length(); i++) num = (num << 8) | (get(i) & 0xFF);
+        return num;
+    }
+
     /**
      * Convert {@code double} to lexicographically sorted bytes.
      * <p>
@@ -308,30 +350,37 @@ public abstract class ByteArray implements Comparable<ByteArray> {
         return longs;
     }
 
+    /**
+     * @return the index in the backing array at which this byte array starts
+     */
+    abstract int offset();
+
+    /**
+     * Compares the unsigned bytes of both ranges of the backing arrays in place, so views are never copied.
+     */
     @Override
     public int compareTo(ByteArray that) {
-        return UnsignedBytes.lexicographicalComparator().compare(getBytes(), that.getBytes());
+        return Arrays.compareUnsigned(array, offset(), offset() + length(),
+                that.array, that.offset(), that.offset() + that.length());
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null) return false;
-        if (o.getClass() == Base.class) return equalsBase((Base) o);
-        else if (o.getClass() == View.class) return equalsView((View) o);
-        else return false;
+        if (o == null || (o.getClass() != Base.class && o.getClass() != View.class)) return false;
+        ByteArray that = (ByteArray) o;
+        return Arrays.equals(array, offset(), offset() + length(), that.array, that.offset(), that.offset() + that.length());
     }
 
-    abstract boolean equalsView(View o);
-
-    abstract boolean equalsBase(Base o);
-
+    /**
+     * Equal to Arrays.hashCode() of the bytes, whether this is a Base or a View over them.
+     */
     @Override
     public final int hashCode() {
         if (hash == 0) {
             int arrayHash = 1;
-            for (int i = 0; i < length(); i++) {
-                arrayHash = 31 * arrayHash + (int) get(i);
+            for (int i = offset(), end = offset() + length(); i < end; i++) {
+                arrayHash = 31 * arrayHash + array[i];
             }
             hash = arrayHash;
         }
@@ -426,28 +475,9 @@ public abstract class ByteArray implements Comparable<ByteArray> {
         }
 
         @Override
-        public boolean hasPrefix(ByteArray prefix) {
-            if (array.length < prefix.length()) return false;
-            for (int i = 0; i < prefix.length(); i++) {
-                if (array[i] != prefix.get(i)) return false;
-            }
-            return true;
-        }
-
-        @Override
-        public boolean equalsBase(Base o) {
-            return Arrays.equals(array, o.array);
-        }
-
-        @Override
-        boolean equalsView(View o) {
-            if (array.length != o.length()) return false;
-            for (int i = 0; i < array.length; i++) {
-                if (array[i] != o.array[i + o.start]) return false;
-            }
-            return true;
+        int offset() {
+            return 0;
         }
-
     }
 
     public static class View extends ByteArray {
@@ -539,30 +569,8 @@ public abstract class ByteArray implements Comparable<ByteArray> {
         }
 
         @Override
-        public boolean hasPrefix(ByteArray prefix) {
-            if (length < prefix.length()) return false;
-            for (int i = 0; i < prefix.length(); i++) {
-                if (array[i + start] != prefix.get(i)) return false;
-            }
-            return true;
-        }
-
-        @Override
-        boolean equalsBase(Base o) {
-            if (length != o.length()) return false;
-            for (int i = 0; i < length; i++) {
-                if (array[i + start] != o.array[i]) return false;
-            }
-            return true;
-        }
-
-        @Override
-        boolean equalsView(View o) {
-            if (length != o.length()) return false;
-            for (int i = 0; i < length; i++) {
-                if (array[i + start] != o.array[i + o.start]) return false;
-            }
-            return true;
+        int offset() {
+            return start;
         }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.common.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static com.vaticle.typedb.core.common.collection.ByteArray.compactLongLength;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSortedCompact;
+import static junit.framework.TestCase.assertEquals;
+
+public class ByteArrayTest {
+
+    /**
+     * @return the numbers on either side of every boundary between magnitude lengths, for both signs
+     */
+    private static List<Long> compactLengthBoundaries() {
+        TreeSet<Long> numbers = new TreeSet<>();
+        for (int bits = 0; bits < Long.SIZE - 1; bits++) {
+            long power = 1L << bits;
+            for (long num : new long[]{power - 1, power, power + 1}) {
+                numbers.add(num);
+                numbers.add(-num);
+                numbers.add(~num);
+            }
+        }
+        numbers.add(Long.MAX_VALUE);
+        numbers.add(Long.MIN_VALUE);
+        numbers.add(Long.MIN_VALUE + 1);
+        return new ArrayList<>(numbers);
+    }
+
+    @Test
+    public void test_compact_longs_decode_to_the_encoded_number() {
+        for (long num : compactLengthBoundaries()) {
+            ByteArray encoded = encodeLongAsSortedCompact(num);
+            assertEquals(encoded.length(), compactLongLength(encoded.get(0)));
+            assertEquals(num, encoded.decodeSortedAsCompactLong());
+        }
+    }
+
+    @Test
+    public void test_compact_longs_sort_in_numerical_order_across_lengths_and_signs() {
+        List<Long> numbers = compactLengthBoundaries();
+        for (int i = 0; i < numbers.size(); i++) {
+            for (int j = 0; j < numbers.size(); j++) {
+                int expected = Long.compare(numbers.get(i), numbers.get(j));
+                int actual = encodeLongAsSortedCompact(numbers.get(i)).compareTo(encodeLongAsSortedCompact(numbers.get(j)));
+                assertEquals(numbers.get(i) + " <=> " + numbers.get(j), expected, Integer.signum(actual));
+            }
+        }
+    }
+
+    @Test
+    public void test_compact_longs_only_take_the_significant_bytes() {
+        assertEquals(1, encodeLongAsSortedCompact(0).length());
+        assertEquals(1, encodeLongAsSortedCompact(-1).length());
+        assertEquals(2, encodeLongAsSortedCompact(255).length());
+        assertEquals(2, encodeLongAsSortedCompact(-256).length());
+        assertEquals(3, encodeLongAsSortedCompact(256).length());
+        assertEquals(3, encodeLongAsSortedCompact(-257).length());
+        assertEquals(3, encodeLongAsSortedCompact(65535).length());
+        assertEquals(4, encodeLongAsSortedCompact(65536).length());
+        assertEquals(9, encodeLongAsSortedCompact(Long.MAX_VALUE).length());
+        assertEquals(9, encodeLongAsSortedCompact(Long.MIN_VALUE).length());
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.common.collection;
+
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNSUPPORTED_OPERATION;
+import static java.util.Collections.synchronizedSet;
+
+/**
+ * A deduplication set that remembers a 128-bit fingerprint of each item instead of the item itself, in a primitive
+ * open-addressing table: 16 bytes per item, however large the item is. Items are expected to be fingerprinted from
+ * their IIDs, which identify them, so two items share a fingerprint only through a 128-bit hash collision.
+ * <p>
+ * Items that cannot be fingerprinted are kept in full in a fallback set, so the set is exact for them.
+ * It only supports the operations needed for deduplication: add(), contains() and size().
+ */
+@ThreadSafe
+public class FingerprintSet<T> extends AbstractSet<T> {
+
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+    private static final int CONCURRENT_SEGMENTS = 16;
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+
+    private final Fingerprinter<T> fingerprinter;
+    private final Segment[] segments;
+    private final Set<T> fallback;
+
+    private FingerprintSet(Fingerprinter<T> fingerprinter, int segments, Set<T> fallback) {
+        this.fingerprinter = fingerprinter;
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) this.segments[i] = new Segment();
+        this.fallback = fallback;
+    }
+
+    public static <T> FingerprintSet<T> create(Fingerprinter<T> fingerprinter) {
+        return new FingerprintSet<>(fingerprinter, 1, synchronizedSet(new HashSet<>()));
+    }
+
+    /**
+     * A set to be shared between threads: the table is split into independently locked segments.
+     */
+    public static <T> FingerprintSet<T> concurrent(Fingerprinter<T> fingerprinter) {
+        return new FingerprintSet<>(fingerprinter, CONCURRENT_SEGMENTS, ConcurrentHashMap.newKeySet());
+    }
+
+    @Override
+    public boolean add(T item) {
+        Fingerprint fingerprint = new Fingerprint();
+        if (!fingerprinter.fingerprint(item, fingerprint)) return fallback.add(item);
+        return segment(fingerprint).add(fingerprint.high(), fingerprint.low());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object item) {
+        Fingerprint fingerprint = new Fingerprint();
+        if (!fingerprinter.fingerprint((T) item, fingerprint)) return fallback.contains(item);
+        return segment(fingerprint).contains(fingerprint.high(), fingerprint.low());
+    }
+
+    private Segment segment(Fingerprint fingerprint) {
+        return segments[(int) ((fingerprint.high() >>> 32) % segments.length)];
+    }
+
+    @Override
+    public int size() {
+        int size = fallback.size();
+        for (Segment segment : segments) size += segment.size();
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw TypeDBException.of(UNSUPPORTED_OPERATION);
+    }
+
+    public interface Fingerprinter<T> {
+
+        /**
+         * @return false if the item cannot be fingerprinted, in which case it is deduplicated exactly
+         */
+        boolean fingerprint(T item, Fingerprint fingerprint);
+    }
+
+    /**
+     * An order-independent 128-bit hash of a set of keyed entries, so that maps with the same entries fingerprint
+     * the same regardless of their iteration order.
+     */
+    public static class Fingerprint {
+
+        private long high;
+        private long low;
+
+        /**
+         * @param key the full identifier of the entry, hashed together with its value, so that entries under
+         *            distinct keys never collide by their keys alone
+         */
+        public void add(String key, ByteArray value) {
+            long hashHigh = keyHigh(key), hashLow = keyLow(key);
+            for (int i = 0; i < value.length(); i++) {
+                hashHigh = stepHigh(hashHigh, value.get(i) & 0xFF);
+                hashLow = stepLow(hashLow, value.get(i) & 0xFF);
+            }
+            high += mix(hashHigh ^ value.length());
+            low += mix(hashLow + value.length());
+        }
+
+        public void add(String key, String value) {
+            long hashHigh = keyHigh(key), hashLow = keyLow(key);
+            for (int i = 0; i < value.length(); i++) {
+                hashHigh = stepHigh(hashHigh, value.charAt(i));
+                hashLow = stepLow(hashLow, value.charAt(i));
+            }
+            high += mix(~hashHigh ^ value.length());
+            low += mix(~hashLow + value.length());
+        }
+
+        private static long keyHigh(String key) {
+            long hash = SEED_HIGH;
+            for (int i = 0; i < key.length(); i++) hash = stepHigh(hash, key.charAt(i));
+            return stepHigh(hash, key.length());
+        }
+
+        private static long keyLow(String key) {
+            long hash = SEED_LOW;
+            for (int i = 0; i < key.length(); i++) hash = stepLow(hash, key.charAt(i));
+            return stepLow(hash, key.length());
+        }
+
+        long high() {
+            return high;
+        }
+
+        long low() {
+            // the all-zero fingerprint marks an empty slot in a segment
+            return high == 0 && low == 0 ? 1 : low;
+        }
+
+        private static long stepHigh(long hash, int value) {
+            return (hash ^ value) * 0x100000001B3L;
+        }
+
+        private static long stepLow(long hash, int value) {
+            hash = (hash ^ value) * 0xFF51AFD7ED558CCDL;
+            return hash ^ (hash >>> 29);
+        }
+
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
+    private static class Segment {
+
+        private long[] table;
+        private int size;
+
+        private Segment() {
+            this.table = new long[INITIAL_SEGMENT_CAPACITY * 2];
+            this.size = 0;
+        }
+
+        private synchronized boolean add(long high, long low) {
+            if ((size + 1) * 4L > capacity() * 3L) resize();
+            int slot = find(table, high, low);
+            if (table[slot] == high && table[slot + 1] == low) return false;
+            table[slot] = high;
+            table[slot + 1] = low;
+            size++;
+            return true;
+        }
+
+        private synchronized boolean contains(long high, long low) {
+            int slot = find(table, high, low);
+            return table[slot] == high && table[slot + 1] == low;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private int capacity() {
+            return table.length / 2;
+        }
+
+        /**
+         * @return the index of the slot holding the fingerprint, or of the empty slot where it belongs
+         */
+        private static int find(long[] table, long high, long low) {
+            int mask = table.length / 2 - 1;
+            int slot = (int) (low ^ (low >>> 32)) & mask;
+            while (true) {
+                int index = slot * 2;
+                if ((table[index] == 0 && table[index + 1] == 0) ||
+                        (table[index] == high && table[index + 1] == low)) {
+                    return index;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void resize() {
+            long[] resized = new long[table.length * 2];
+            for (int i = 0; i < table.length; i += 2) {
+                if (table[i] == 0 && table[i + 1] == 0) continue;
+                int slot = find(resized, table[i], table[i + 1]);
+                resized[slot] = table[i];
+                resized[slot + 1] = table[i + 1];
+            }
+            table = resized;
+        }
+    }
+}
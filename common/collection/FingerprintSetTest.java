@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.common.collection;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.vaticle.typedb.common.collection.Collections.list;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+public class FingerprintSetTest {
+
+    private static boolean fingerprint(List<Long> tuple, FingerprintSet.Fingerprint fingerprint) {
+        if (tuple.isEmpty()) return false;
+        for (int i = 0; i < tuple.size(); i++) fingerprint.add(String.valueOf(i), ByteArray.encodeLong(tuple.get(i)));
+        return true;
+    }
+
+    @Test
+    public void test_tuples_are_deduplicated_by_their_entries() {
+        Set<List<Long>> set = FingerprintSet.create(FingerprintSetTest::fingerprint);
+        int added = 0;
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (long i = 0; i < 1000; i++) {
+                for (long j = 0; j < 1000; j++) {
+                    if (set.add(list(i, j))) added++;
+                }
+            }
+        }
+        assertEquals(1_000_000, added);
+        assertEquals(1_000_000, set.size());
+        assertTrue(set.contains(list(3L, 7L)));
+        assertFalse(set.contains(list(3L, 1000L)));
+    }
+
+    @Test
+    public void test_tuples_that_cannot_be_fingerprinted_are_deduplicated_exactly() {
+        Set<List<Long>> set = FingerprintSet.create(FingerprintSetTest::fingerprint);
+        assertTrue(set.add(list()));
+        assertFalse(set.add(list()));
+        assertTrue(set.add(list(1L)));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void test_concurrent_set_is_shared_between_threads() throws InterruptedException {
+        Set<List<Long>> set = FingerprintSet.concurrent(FingerprintSetTest::fingerprint);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (long i = 0; i < 100_000; i++) set.add(list(i, i * 31));
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(100_000, set.size());
+    }
+
+    @Test
+    public void test_entries_are_distinguished_by_keys_with_colliding_hash_codes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        Set<Map<String, Long>> set = FingerprintSet.create((entries, fingerprint) -> {
+            entries.forEach((key, value) -> fingerprint.add(key, ByteArray.encodeLong(value)));
+            return true;
+        });
+        Map<String, Long> entries = new HashMap<>();
+        entries.put("Aa", 1L);
+        entries.put("BB", 2L);
+        Map<String, Long> swapped = new HashMap<>();
+        swapped.put("Aa", 2L);
+        swapped.put("BB", 1L);
+        assertTrue(set.add(entries));
+        assertTrue(set.add(swapped));
+        assertFalse(set.add(new HashMap<>(entries)));
+        assertEquals(2, set.size());
+    }
+}
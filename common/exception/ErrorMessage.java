@@ -111,6 +111,8 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Server(36, "An error occurred while logging server connection info.");
         public static final Server USER_MANAGEMENT_NOT_AVAILABLE =
                 new Server(37, "User management is only available in TypeDB Cloud.");
+        public static final Server VIRTUAL_THREADS_UNSUPPORTED =
+                new Server(38, "Virtual threads were enabled in the server configuration, but are not supported by the Java runtime version '%s'. Please use Java 21 or above.");
 
         private static final String codePrefix = "SRV";
         private static final String messagePrefix = "Invalid Server Operation";
@@ -662,6 +664,16 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new TypeWrite(62, "Type '%s' cannot declare plays role type '%s' as it is already inherited.");
         public static final TypeWrite MAX_SUBTYPE_REACHED =
                 new TypeWrite(63, "The maximum number of '%s' types has been reached: '%s'.");
+        public static final TypeWrite PURGED_INSTANCES_PLAY_ROLES =
+                new TypeWrite(64, "The instances of type '%s' cannot be purged, as some of them play roles.");
+        public static final TypeWrite EXPIRY_ON_ATTRIBUTE_TYPE =
+                new TypeWrite(65, "The attribute type '%s' cannot have an expiry, as only entity and relation types can.");
+        public static final TypeWrite EXPIRY_NOT_POSITIVE =
+                new TypeWrite(66, "The expiry of type '%s' must be positive, but was '%s'.");
+        public static final TypeWrite SHORTCUT_ROLE_UNRELATED =
+                new TypeWrite(67, "The relation type '%s' cannot declare a shortcut through the role type '%s', as it does not relate it.");
+        public static final TypeWrite SHORTCUT_ROLE_UNSET =
+                new TypeWrite(68, "The role type '%s' cannot be unset from the relation type '%s', as it declares a shortcut through it.");
 
         private static final String codePrefix = "TYW";
         private static final String messagePrefix = "Invalid Type Write";
@@ -19,6 +19,7 @@
 package com.vaticle.typedb.core.concept.answer;
 
 import com.vaticle.typedb.common.collection.Pair;
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.concept.Concept;
@@ -177,6 +178,23 @@ public class ConceptMap {
         return hash;
     }
 
+    /**
+     * Fingerprints this answer by the IIDs and labels of its concepts, so it can be deduplicated without being kept.
+     * Answers with explainables are distinguished by more than their concepts, so they are not fingerprinted.
+     */
+    public boolean fingerprint(FingerprintSet.Fingerprint fingerprint) {
+        if (!explainables.isEmpty()) return false;
+        for (Map.Entry<Retrievable, ? extends Concept> entry : concepts.entrySet()) {
+            String key = entry.getKey().toString();
+            Concept concept = entry.getValue();
+            if (concept.isThing()) fingerprint.add(key, concept.asThing().getIID());
+            else if (concept.isValue()) fingerprint.add(key, concept.asValue().getIID());
+            else if (concept.isType()) fingerprint.add(key, concept.asType().getLabel().scopedName());
+            else return false;
+        }
+        return true;
+    }
+
     public static class Sortable extends ConceptMap implements Comparable<Sortable> {
 
         private final Comparator conceptsComparator;
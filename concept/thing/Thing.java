@@ -125,6 +125,15 @@ public interface Thing extends Concept, Comparable<Thing> {
      */
     FunctionalIterator<? extends Attribute> getHas(List<? extends AttributeType> attributeTypes, Set<Annotation> ownsAnnotations);
 
+    /**
+     * Counts the attributes of the given type, and its subtypes, owned by this {@code Thing}. The count is read from
+     * the degree counters of the owner type when it is degree counted, rather than by iterating the attributes.
+     *
+     * @param attributeType the type of the attributes to count
+     * @return the number of attributes of the type owned by this {@code Thing}
+     */
+    long getHasCount(AttributeType attributeType);
+
     /**
      * Check whether a Has edge to a given attribute instance exists, and that edge is inferred
      *
@@ -41,11 +41,13 @@ public class RoleImpl {
         ThingVertex.Write relation = vertex.ins().edge(RELATING).from().first().get().toWrite();
         ThingVertex.Write player = vertex.ins().edge(PLAYING).from().first().get().toWrite();
         relation.outs().put(ROLEPLAYER, player, vertex, vertex.existence());
+        vertex.graph().shortcuts().rolePlayerAdded(relation, player, vertex);
     }
 
     public void delete() {
         ThingVertex.Write relation = vertex.ins().edge(RELATING).from().first().get().toWrite();
         ThingVertex.Write player = vertex.ins().edge(PLAYING).from().first().get().toWrite();
+        vertex.graph().shortcuts().rolePlayerDeleted(relation, player, vertex);
         relation.outs().edge(ROLEPLAYER, player, vertex).delete();
         vertex.delete();
     }
@@ -36,6 +36,7 @@ import com.vaticle.typedb.core.encoding.iid.PrefixIID;
 import com.vaticle.typedb.core.graph.edge.ThingEdge;
 import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
 import com.vaticle.typedb.core.graph.vertex.ThingVertex;
+import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typeql.lang.common.TypeQLToken.Annotation;
 
 import java.util.Arrays;
@@ -207,6 +208,14 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
         return getAttributeVertices(list(attributeType)).map(v -> AttributeImpl.of(conceptMgr, v).asDateTime());
     }
 
+    @Override
+    public long getHasCount(AttributeType attributeType) {
+        Set<TypeVertex> attributeTypes = attributeType.getSubtypes().map(t -> ((TypeImpl) t).vertex).toSet();
+        ThingVertex vertex = readableVertex();
+        return vertex.graph().degrees().degree(vertex, HAS.forward(), attributeTypes)
+                .orElseGet(() -> getAttributeVertices(list(attributeType)).count());
+    }
+
     private FunctionalIterator<AttributeImpl<?>> getHas(AttributeType... attributeTypes) {
         return getAttributeVertices(Arrays.asList(attributeTypes)).map(v -> AttributeImpl.of(conceptMgr, v));
     }
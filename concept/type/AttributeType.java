@@ -63,6 +63,14 @@ public interface AttributeType extends ThingType {
 
     Forwardable<? extends ThingType, Order.Asc> getOwners(Transitivity transitivity, Set<Annotation> annotations);
 
+    /**
+     * An ownership indexed type keeps an index of its instances by owner type, to find the instances owned by one
+     * owner type, in order of value, without reading the owners of every instance.
+     */
+    void setOwnershipIndexed(boolean isOwnershipIndexed);
+
+    boolean isOwnershipIndexed();
+
     boolean isBoolean();
 
     boolean isLong();
@@ -243,6 +251,14 @@ public interface AttributeType extends ThingType {
 
         Pattern getRegex();
 
+        /**
+         * A text indexed type keeps a trigram index of its instances, to find the candidates of {@code contains} and
+         * {@code like} predicates without scanning every instance.
+         */
+        void setTextIndexed(boolean isTextIndexed);
+
+        boolean isTextIndexed();
+
         Attribute.String put(java.lang.String value);
 
         Attribute.String put(java.lang.String value, Existence existence);
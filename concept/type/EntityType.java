@@ -49,4 +49,10 @@ public interface EntityType extends ThingType {
     Entity create();
 
     Entity create(Existence existence);
+
+    /**
+     * Deletes every instance of this type and its subtypes, with range deletes over their keys rather than by
+     * deleting them one by one, in a schema write transaction. Instances that play roles cannot be purged.
+     */
+    void purgeInstances();
 }
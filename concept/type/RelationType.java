@@ -18,12 +18,15 @@
 
 package com.vaticle.typedb.core.concept.type;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.core.common.iterator.sorted.SortedIterator.Forwardable;
 import com.vaticle.typedb.core.common.parameters.Order;
 import com.vaticle.typedb.core.common.parameters.Concept.Existence;
 import com.vaticle.typedb.core.common.parameters.Concept.Transitivity;
 import com.vaticle.typedb.core.concept.thing.Relation;
 
+import java.util.Optional;
+
 
 public interface RelationType extends ThingType {
 
@@ -63,6 +66,17 @@ public interface RelationType extends ThingType {
 
     RoleType getRelatesOverridden(String roleLabel);
 
+    /**
+     * Connects the players of the first role type to the players of the second, in each instance of this relation
+     * type, with shortcut edges that let a traversal between the two players skip the relation. Only the instances
+     * of this exact type are connected, and a relation type declares at most one shortcut.
+     */
+    void setShortcut(RoleType from, RoleType to);
+
+    void unsetShortcut();
+
+    Optional<Pair<RoleType, RoleType>> getShortcut();
+
     Relation create();
 
     Relation create(Existence existence);
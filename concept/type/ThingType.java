@@ -25,6 +25,7 @@ import com.vaticle.typedb.core.concept.thing.Thing;
 import com.vaticle.typedb.core.concept.type.impl.ThingTypeImpl;
 import com.vaticle.typeql.lang.common.TypeQLToken.Annotation;
 
+import java.time.Duration;
 import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
@@ -53,6 +54,25 @@ public interface ThingType extends Type {
 
     void unsetAbstract();
 
+    /**
+     * A degree counted type keeps, for each of its instances, a count of its edges by kind and by the type at their
+     * other end, so that the number of attributes or roles of an instance can be read without iterating them.
+     */
+    void setDegreeCounted(boolean isDegreeCounted);
+
+    boolean isDegreeCounted();
+
+    /**
+     * An instance of a type with an expiry is deleted once the expiry has elapsed since it was committed. It is hidden
+     * from reads as soon as it expires, and is deleted in the background some time later. Instances committed before
+     * the expiry was set do not expire, and neither do those of a type whose expiry is unset.
+     */
+    void setExpiry(Duration expiry);
+
+    void unsetExpiry();
+
+    Optional<Duration> getExpiry();
+
     void setOwns(AttributeType attributeType);
 
     void setOwns(AttributeType attributeType, Set<Annotation> annotations);
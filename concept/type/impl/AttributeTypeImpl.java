@@ -168,6 +168,21 @@ public abstract class AttributeTypeImpl extends ThingTypeImpl implements Attribu
                 );
     }
 
+    @Override
+    public void setOwnershipIndexed(boolean isOwnershipIndexed) {
+        validateIsNotDeleted();
+        if (isRoot()) throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
+        if (isOwnershipIndexed == vertex.isOwnershipIndexed()) return;
+        if (isOwnershipIndexed) graphMgr().data().ownershipIndex().build(vertex);
+        else graphMgr().data().ownershipIndex().drop(vertex);
+        vertex.isOwnershipIndexed(isOwnershipIndexed);
+    }
+
+    @Override
+    public boolean isOwnershipIndexed() {
+        return vertex.isOwnershipIndexed();
+    }
+
     Forwardable<TypeVertex, Order.Asc> getOwnerVertices(Transitivity transitivity, Set<Annotation> annotations) {
         if (isRoot()) return emptySorted();
         if (transitivity == EXPLICIT) return vertex.ins().edge(OWNS_KEY).from().merge(vertex.ins().edge(OWNS).from());
@@ -866,6 +881,20 @@ public abstract class AttributeTypeImpl extends ThingTypeImpl implements Attribu
             return vertex.regex();
         }
 
+        @Override
+        public void setTextIndexed(boolean isTextIndexed) {
+            validateIsNotDeleted();
+            if (isTextIndexed == vertex.isTextIndexed()) return;
+            if (isTextIndexed) graphMgr().data().textIndex().build(vertex);
+            else graphMgr().data().textIndex().drop(vertex);
+            vertex.isTextIndexed(isTextIndexed);
+        }
+
+        @Override
+        public boolean isTextIndexed() {
+            return vertex.isTextIndexed();
+        }
+
         @Override
         public Attribute.String put(java.lang.String value) {
             return put(value, STORED);
@@ -967,6 +996,11 @@ public abstract class AttributeTypeImpl extends ThingTypeImpl implements Attribu
             public void unsetRegex() {
                 throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
             }
+
+            @Override
+            public void setTextIndexed(boolean isTextIndexed) {
+                throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
+            }
         }
     }
 
@@ -36,6 +36,7 @@ import com.vaticle.typeql.lang.common.TypeQLToken.Annotation;
 
 import java.util.Set;
 
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Transaction.SESSION_DATA_VIOLATION;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeRead.TYPE_ROOT_MISMATCH;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.ROOT_TYPE_MUTATION;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SCHEMA_VALIDATION_INVALID_SET_SUPERTYPE;
@@ -124,6 +125,13 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
         return EntityImpl.of(conceptMgr, instance);
     }
 
+    @Override
+    public void purgeInstances() {
+        validateIsNotDeleted();
+        if (graphMgr().schema().isReadOnly()) throw exception(TypeDBException.of(SESSION_DATA_VIOLATION));
+        getSubtypes().forEachRemaining(type -> graphMgr().data().purge(type.vertex));
+    }
+
     @Override
     public boolean isEntityType() {
         return true;
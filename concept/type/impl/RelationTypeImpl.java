@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.concept.type.impl;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.iterator.sorted.SortedIterator.Forwardable;
@@ -40,6 +41,7 @@ import com.vaticle.typeql.lang.common.TypeQLToken.Annotation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeRead.TYPE_ROOT_MISMATCH;
@@ -49,6 +51,8 @@ import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.RO
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SCHEMA_VALIDATION_INVALID_DEFINE;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SCHEMA_VALIDATION_INVALID_SET_SUPERTYPE;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SCHEMA_VALIDATION_INVALID_UNDEFINE;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SHORTCUT_ROLE_UNRELATED;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.SHORTCUT_ROLE_UNSET;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.TYPE_HAS_INSTANCES_SET_ABSTRACT;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.iterateSorted;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
@@ -197,9 +201,48 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
             throw exception(TypeDBException.of(SCHEMA_VALIDATION_INVALID_UNDEFINE,
                     SubtypeValidation.Relates.format(this, roleType, getRelatesOverridden(roleType.getLabel().toString())), e));
         });
+        Pair<TypeVertex, TypeVertex> shortcut = vertex.shortcut();
+        TypeVertex roleVertex = ((RoleTypeImpl) roleType).vertex;
+        if (shortcut != null && (shortcut.first().equals(roleVertex) || shortcut.second().equals(roleVertex))) {
+            throw exception(TypeDBException.of(SHORTCUT_ROLE_UNSET, roleType.getLabel(), getLabel()));
+        }
         roleType.delete();
     }
 
+    @Override
+    public void setShortcut(RoleType from, RoleType to) {
+        validateIsNotDeleted();
+        if (isRoot()) throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
+        Set<TypeVertex> relates = getRelatesVertices(TRANSITIVE).toSet();
+        for (RoleType roleType : List.of(from, to)) {
+            if (!relates.contains(((RoleTypeImpl) roleType).vertex)) {
+                throw exception(TypeDBException.of(SHORTCUT_ROLE_UNRELATED, getLabel(), roleType.getLabel()));
+            }
+        }
+        Pair<TypeVertex, TypeVertex> shortcut = new Pair<>(((RoleTypeImpl) from).vertex, ((RoleTypeImpl) to).vertex);
+        if (shortcut.equals(vertex.shortcut())) return;
+        unsetShortcut();
+        graphMgr().data().shortcuts().build(vertex, shortcut);
+        vertex.shortcut(shortcut);
+    }
+
+    @Override
+    public void unsetShortcut() {
+        Pair<TypeVertex, TypeVertex> shortcut = vertex.shortcut();
+        if (shortcut != null) {
+            validateIsNotDeleted();
+            graphMgr().data().shortcuts().drop(vertex, shortcut);
+            vertex.shortcut(null);
+        }
+    }
+
+    @Override
+    public Optional<Pair<RoleType, RoleType>> getShortcut() {
+        return Optional.ofNullable(vertex.shortcut()).map(shortcut -> new Pair<>(
+                conceptMgr.convertRoleType(shortcut.first()), conceptMgr.convertRoleType(shortcut.second())
+        ));
+    }
+
     @Override
     public Forwardable<RoleTypeImpl, Order.Asc> getRelates() {
         return getRelates(TRANSITIVE);
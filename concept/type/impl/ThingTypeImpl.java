@@ -43,6 +43,7 @@ import com.vaticle.typeql.lang.common.TypeQLToken;
 import com.vaticle.typeql.lang.common.TypeQLToken.Annotation;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -57,6 +58,8 @@ import static com.vaticle.typedb.common.collection.Collections.concatToList;
 import static com.vaticle.typedb.common.collection.Collections.pair;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNRECOGNISED_VALUE;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.EXPIRY_NOT_POSITIVE;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.EXPIRY_ON_ATTRIBUTE_TYPE;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.INVALID_UNDEFINE_INHERITED_OWNS;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.INVALID_UNDEFINE_INHERITED_PLAYS;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.INVALID_UNDEFINE_NONEXISTENT_OWNS;
@@ -218,6 +221,47 @@ public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
         }
     }
 
+    @Override
+    public void setDegreeCounted(boolean isDegreeCounted) {
+        validateIsNotDeleted();
+        if (isRoot()) throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
+        if (isDegreeCounted == vertex.isDegreeCounted()) return;
+        if (isDegreeCounted) graphMgr().data().degrees().build(vertex);
+        else graphMgr().data().degrees().drop(vertex);
+        vertex.isDegreeCounted(isDegreeCounted);
+    }
+
+    @Override
+    public boolean isDegreeCounted() {
+        return vertex.isDegreeCounted();
+    }
+
+    @Override
+    public void setExpiry(Duration expiry) {
+        validateIsNotDeleted();
+        if (isRoot()) throw exception(TypeDBException.of(ROOT_TYPE_MUTATION));
+        if (isAttributeType()) throw exception(TypeDBException.of(EXPIRY_ON_ATTRIBUTE_TYPE, getLabel()));
+        if (expiry.isZero() || expiry.isNegative()) {
+            throw exception(TypeDBException.of(EXPIRY_NOT_POSITIVE, getLabel(), expiry));
+        }
+        if (expiry.equals(vertex.expiry())) return;
+        vertex.expiry(expiry);
+    }
+
+    @Override
+    public void unsetExpiry() {
+        if (vertex.expiry() != null) {
+            validateIsNotDeleted();
+            vertex.expiry(null);
+            graphMgr().data().expiries().clear(vertex);
+        }
+    }
+
+    @Override
+    public Optional<Duration> getExpiry() {
+        return Optional.ofNullable(vertex.expiry());
+    }
+
     @Override
     public abstract ThingTypeImpl getSupertype();
 
@@ -21,6 +21,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -34,7 +35,12 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
     boolean isTerminated;
 
     public static <A extends Actor<A>> Driver<A> driver(Function<Driver<A>, A> actorFn, ActorExecutorGroup service) {
-        return new Driver<>(actorFn, service);
+        return new Driver<>(actorFn, service, service.nextExecutor());
+    }
+
+    public static <A extends Actor<A>> Driver<A> driver(Function<Driver<A>, A> actorFn, ActorExecutorGroup service,
+                                                        Driver<?> neighbour) {
+        return new Driver<>(actorFn, service, service.colocatedExecutor(neighbour));
     }
 
     protected Actor(Driver<ACTOR> driver, Supplier<String> debugName) {
@@ -58,6 +64,16 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
         return debugName;
     }
 
+    /**
+     * @return true if the time this actor spends handling each message should be passed to recordExecution()
+     */
+    protected boolean isProfiled() {
+        return false;
+    }
+
+    protected void recordExecution(long nanos) {
+    }
+
     public static class Driver<ACTOR extends Actor<ACTOR>> {
 
         private static final String ERROR_ACTOR_NOT_SETUP =
@@ -67,11 +83,14 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
         private final ACTOR actor;
         private final ActorExecutorGroup executorService;
         private final ActorExecutor executor;
+        private final AtomicBoolean isColocationClaimed;
 
-        private Driver(Function<Driver<ACTOR>, ACTOR> actorFn, ActorExecutorGroup executorService) {
+        private Driver(Function<Driver<ACTOR>, ACTOR> actorFn, ActorExecutorGroup executorService,
+                       ActorExecutor executor) {
             this.actor = actorFn.apply(this);
             this.executorService = executorService;
-            this.executor = executorService.nextExecutor();
+            this.executor = executor;
+            this.isColocationClaimed = new AtomicBoolean(false);
         }
 
         // TODO: do not use this method - any usages should be removed ASAP
@@ -87,7 +106,7 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
             assert actor != null : ERROR_ACTOR_NOT_SETUP;
             if (!actor.isTerminated) {
                 executor.submit(() -> {
-                    if (!actor.isTerminated) consumer.accept(actor);
+                    if (!actor.isTerminated) run(consumer);
                 }, actor::exception);
             }
         }
@@ -96,7 +115,7 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
             assert actor != null : ERROR_ACTOR_NOT_SETUP;
             if (!actor.isTerminated) {
                 executor.submitFirst(() -> {
-                    if (!actor.isTerminated) consumer.accept(actor);
+                    if (!actor.isTerminated) run(consumer);
                 }, actor::exception);
             }
         }
@@ -129,11 +148,23 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
             assert actor != null : ERROR_ACTOR_NOT_SETUP;
             if (!actor.isTerminated) {
                 return Optional.of(executor.schedule(() -> {
-                    if (!actor.isTerminated) consumer.accept(actor);
+                    if (!actor.isTerminated) run(consumer);
                 }, scheduleMillis, actor::exception));
             } else return Optional.empty();
         }
 
+        private void run(Consumer<ACTOR> consumer) {
+            if (!actor.isProfiled()) consumer.accept(actor);
+            else {
+                long start = System.nanoTime();
+                try {
+                    consumer.accept(actor);
+                } finally {
+                    actor.recordExecution(System.nanoTime() - start);
+                }
+            }
+        }
+
         public ActorExecutorGroup executorService() {
             return executorService;
         }
@@ -141,5 +172,9 @@ public abstract class Actor<ACTOR extends Actor<ACTOR>> {
         public ActorExecutor executor() {
             return executor;
         }
+
+        boolean claimColocation() {
+            return !isColocationClaimed.get() && isColocationClaimed.compareAndSet(false, true);
+        }
     }
 }
@@ -26,10 +26,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.Optional;
 import java.util.PriorityQueue;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -37,12 +38,20 @@ import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILL
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+/**
+ * Runs the actors assigned to it on a single thread. Tasks are submitted to a lock-free mailbox by any number of
+ * threads, and drained by the executor thread in batches of up to DRAIN_BATCH_SIZE before it looks at its scheduled
+ * tasks again. Submitters only wake the executor thread when it has parked on an empty mailbox.
+ */
 @ThreadSafe
 public class ActorExecutor {
 
     private static final Logger LOG = LoggerFactory.getLogger(ActorExecutor.class);
+    private static final int DRAIN_BATCH_SIZE = 256;
 
-    private final BlockingDeque<Task> submittedTasks;
+    private final ConcurrentLinkedDeque<Task> submittedTasks;
+    private final AtomicInteger submittedCount;
+    private final AtomicBoolean isParked;
     private final ScheduledTaskQueue scheduledTasks;
     private final AtomicBoolean isStopped;
     private final Supplier<Long> clock;
@@ -52,7 +61,9 @@ public class ActorExecutor {
     public ActorExecutor(ThreadFactory threadFactory, Supplier<Long> clock) {
         this.thread = threadFactory.newThread(this::run);
         this.clock = clock;
-        submittedTasks = new LinkedBlockingDeque<>();
+        submittedTasks = new ConcurrentLinkedDeque<>();
+        submittedCount = new AtomicInteger(0);
+        isParked = new AtomicBoolean(false);
         scheduledTasks = new ScheduledTaskQueue();
         isStopped = new AtomicBoolean(false);
         active = true;
@@ -61,28 +72,45 @@ public class ActorExecutor {
 
     private void run() {
         while (active) {
-            Task task = scheduledTasks.poll();
-            if (task != null) {
+            Task task;
+            while ((task = scheduledTasks.poll()) != null) task.run();
+            int drained = 0;
+            while (active && drained < DRAIN_BATCH_SIZE && (task = submittedTasks.poll()) != null) {
+                submittedCount.decrementAndGet();
                 task.run();
-            } else {
-                try {
-                    task = submittedTasks.poll(scheduledTasks.timeToNext(), MILLISECONDS);
-                    if (task != null) task.run();
-                } catch (InterruptedException e) {
-                    throw TypeDBException.of(UNEXPECTED_INTERRUPTION);
-                }
+                drained++;
             }
+            if (drained == 0) park();
         }
     }
 
+    private void park() {
+        isParked.set(true);
+        if (submittedTasks.isEmpty()) {
+            long timeToNext = scheduledTasks.timeToNext();
+            if (timeToNext == Long.MAX_VALUE) LockSupport.park(this);
+            else if (timeToNext > 0) LockSupport.parkNanos(this, MILLISECONDS.toNanos(timeToNext));
+        }
+        isParked.set(false);
+        if (Thread.interrupted()) throw TypeDBException.of(UNEXPECTED_INTERRUPTION);
+    }
+
+    private void unpark() {
+        if (isParked.get() && isParked.compareAndSet(true, false)) LockSupport.unpark(thread);
+    }
+
     public void submit(Runnable runnable, Consumer<Throwable> errorHandler) {
         assert active;
         submittedTasks.offer(new Task(runnable, errorHandler));
+        submittedCount.incrementAndGet();
+        unpark();
     }
 
     public void submitFirst(Runnable runnable, Consumer<Throwable> errorHandler) {
         assert active;
         submittedTasks.addFirst(new Task(runnable, errorHandler));
+        submittedCount.incrementAndGet();
+        unpark();
     }
 
     public FutureTask schedule(Runnable runnable, long scheduleMillis, Consumer<Throwable> errorHandler) {
@@ -104,7 +132,7 @@ public class ActorExecutor {
     }
 
     public int outstandingTaskCount() {
-        return submittedTasks.size();
+        return submittedCount.get();
     }
 
     @NotThreadSafe
@@ -42,6 +42,16 @@ public class ActorExecutorGroup {
         return executors[nextIndexAndIncrement()];
     }
 
+    /**
+     * Places an actor on the executor of an actor it will exchange most of its messages with, so that those messages
+     * stay on one thread. Each actor hosts at most one such neighbour, so that chains of actors are co-located while
+     * fan-outs are still spread across the group.
+     */
+    ActorExecutor colocatedExecutor(Actor.Driver<?> neighbour) {
+        if (neighbour.executorService() == this && neighbour.claimColocation()) return neighbour.executor();
+        else return nextExecutor();
+    }
+
     public void await() throws InterruptedException {
         for (int i = 0; i < executors.length; i++) {
             executors[i].await();
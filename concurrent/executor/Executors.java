@@ -25,11 +25,14 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_OPERATION;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Server.VIRTUAL_THREADS_UNSUPPORTED;
 
 public class Executors {
 
@@ -39,8 +42,10 @@ public class Executors {
 
     private static final Logger LOG = LoggerFactory.getLogger(Executors.class);
     private static final String TYPEDB_CORE_SERVICE_THREAD_NAME = "typedb-service";
+    private static final String TYPEDB_CORE_VIRTUAL_SERVICE_THREAD_NAME = "typedb-service-virtual-";
     private static final String TYPEDB_CORE_ASYNC_THREAD_1_NAME = "typedb-async-1";
     private static final String TYPEDB_CORE_ASYNC_THREAD_2_NAME = "typedb-async-2";
+    private static final String TYPEDB_CORE_QUERY_THREAD_NAME = "typedb-query";
     private static final String TYPEDB_CORE_NETWORK_THREAD_NAME = "typedb-network";
     private static final String TYPEDB_CORE_ACTOR_THREAD_NAME = "typedb-actor";
     private static final String TYPEDB_CORE_SERIAL_THREAD_NAME = "typedb-serial";
@@ -52,16 +57,19 @@ public class Executors {
     private final ParallelThreadPoolExecutor serviceExecutorService;
     private final ParallelThreadPoolExecutor asyncExecutorService1;
     private final ParallelThreadPoolExecutor asyncExecutorService2;
+    private final QueryScheduler queryScheduler;
     private final ActorExecutorGroup actorExecutorService;
     private final NioEventLoopGroup networkExecutorService;
     private final ScheduledThreadPoolExecutor scheduledThreadPool;
     private final ExecutorService serialService;
+    private ExecutorService virtualServiceExecutorService;
 
     private Executors(int parallelisation) {
         if (parallelisation <= 0) throw TypeDBException.of(ILLEGAL_ARGUMENT);
         serviceExecutorService = new ParallelThreadPoolExecutor(parallelisation, threadFactory(TYPEDB_CORE_SERVICE_THREAD_NAME));
         asyncExecutorService1 = new ParallelThreadPoolExecutor(parallelisation, threadFactory(TYPEDB_CORE_ASYNC_THREAD_1_NAME));
         asyncExecutorService2 = new ParallelThreadPoolExecutor(parallelisation, threadFactory(TYPEDB_CORE_ASYNC_THREAD_2_NAME));
+        queryScheduler = new QueryScheduler(parallelisation, threadFactory(TYPEDB_CORE_QUERY_THREAD_NAME));
         actorExecutorService = new ActorExecutorGroup(parallelisation, threadFactory(TYPEDB_CORE_ACTOR_THREAD_NAME));
         networkExecutorService = new NioEventLoopGroup(parallelisation, threadFactory(TYPEDB_CORE_NETWORK_THREAD_NAME));
         scheduledThreadPool = new ScheduledThreadPoolExecutor(TYPEDB_CORE_SCHEDULED_THREAD_SIZE,
@@ -89,6 +97,34 @@ public class Executors {
         return singleton.serviceExecutorService;
     }
 
+    /**
+     * An executor that runs every task on a new virtual thread, so that request handling that blocks on query
+     * iterators or storage does not pin a platform thread. CPU-bound query work is still handed off to the bounded
+     * query scheduler and async pools, so its parallelism stays bounded by the carrier threads.
+     */
+    public static synchronized ExecutorService virtualService() {
+        assert isInitialised();
+        if (singleton.virtualServiceExecutorService == null) {
+            singleton.virtualServiceExecutorService = newVirtualThreadPerTaskExecutor();
+        }
+        return singleton.virtualServiceExecutorService;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        // virtual threads are only available from Java 21, while we compile against Java 11
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, TYPEDB_CORE_VIRTUAL_SERVICE_THREAD_NAME, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = java.util.concurrent.Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw TypeDBException.of(VIRTUAL_THREADS_UNSUPPORTED, System.getProperty("java.version"));
+        }
+    }
+
     public static ParallelThreadPoolExecutor async1() {
         assert isInitialised();
         return singleton.asyncExecutorService1;
@@ -99,6 +135,11 @@ public class Executors {
         return singleton.asyncExecutorService2;
     }
 
+    public static QueryScheduler scheduler() {
+        assert isInitialised();
+        return singleton.queryScheduler;
+    }
+
     public static ActorExecutorGroup actor() {
         assert isInitialised();
         return singleton.actorExecutorService;
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.vaticle.typedb.core.concurrent.executor;
+
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.perfcounter.PerfCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Executes query work on a fixed set of worker threads, sharing them fairly between tenants.
+ *
+ * A tenant is typically a transaction, and is the unit of fairness: tenants of the same priority class take turns
+ * in round-robin order, one task at a time, so an expensive query cannot starve short queries of other transactions
+ * of the same class. Priority classes are served in weighted round-robin order, so lower classes are never starved.
+ *
+ * Interactive tenants that exceed a cumulative run time are demoted to the batch class, such that long-running
+ * reporting queries automatically yield to short lookups without the client having to classify its queries.
+ */
+@ThreadSafe
+public class QueryScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryScheduler.class);
+    private static final long DEMOTION_NANOS = MILLISECONDS.toNanos(200);
+    private static final long YIELD_QUANTUM_NANOS = MILLISECONDS.toNanos(2);
+
+    public enum Priority {
+        INTERACTIVE(8), BATCH(2), BACKGROUND(1);
+
+        private final int weight;
+
+        Priority(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final ReentrantLock lock;
+    private final Condition hasWork;
+    private final ClassQueue[] queues;
+    private final Priority[] schedule;
+    private final PerfCounters counters;
+    private final Thread[] workers;
+    private int scheduleIndex;
+    private volatile boolean isStopped;
+
+    public QueryScheduler(int parallelisation, NamedThreadFactory threadFactory) {
+        if (parallelisation <= 0) throw TypeDBException.of(ILLEGAL_ARGUMENT);
+        this.lock = new ReentrantLock();
+        this.hasWork = lock.newCondition();
+        this.counters = new PerfCounters(true);
+        this.queues = new ClassQueue[Priority.values().length];
+        int scheduleLength = 0;
+        for (Priority priority : Priority.values()) {
+            queues[priority.ordinal()] = new ClassQueue(priority, counters);
+            scheduleLength += priority.weight;
+        }
+        this.schedule = new Priority[scheduleLength];
+        int i = 0;
+        for (Priority priority : Priority.values()) {
+            for (int w = 0; w < priority.weight; w++) schedule[i++] = priority;
+        }
+        this.scheduleIndex = 0;
+        this.isStopped = false;
+        this.workers = new Thread[parallelisation];
+        for (int w = 0; w < parallelisation; w++) {
+            workers[w] = threadFactory.newThread(this::run);
+            workers[w].start();
+        }
+    }
+
+    public Tenant tenant(Priority priority) {
+        return new Tenant(priority, Integer.MAX_VALUE);
+    }
+
+    public Tenant serialTenant(Priority priority) {
+        return new Tenant(priority, 1);
+    }
+
+    public long queueDepth(Priority priority) {
+        return queues[priority.ordinal()].depth.get();
+    }
+
+    public PerfCounters counters() {
+        return counters;
+    }
+
+    public void stop() {
+        isStopped = true;
+        lock.lock();
+        try {
+            hasWork.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (!isStopped) {
+            Tenant tenant;
+            Runnable task;
+            lock.lock();
+            try {
+                while ((tenant = nextTenant()) == null) {
+                    if (isStopped) return;
+                    hasWork.awaitUninterruptibly();
+                }
+                task = tenant.poll();
+            } finally {
+                lock.unlock();
+            }
+            tenant.run(task);
+        }
+    }
+
+    private Tenant nextTenant() {
+        assert lock.isHeldByCurrentThread();
+        for (int i = 0; i < schedule.length; i++) {
+            Priority priority = schedule[scheduleIndex];
+            scheduleIndex = (scheduleIndex + 1) % schedule.length;
+            Tenant tenant = queues[priority.ordinal()].poll();
+            if (tenant != null) return tenant;
+        }
+        return null;
+    }
+
+    /**
+     * @return true if a tenant other than the given one is queued in the class of the tenant or a higher class
+     */
+    private boolean hasOtherWaitingTenants(Tenant tenant) {
+        Priority priority = tenant.priority;
+        for (int p = 0; p <= priority.ordinal(); p++) {
+            int waiting = queues[p].queued.get();
+            if (p == priority.ordinal() && tenant.isQueued) waiting--;
+            if (waiting > 0) return true;
+        }
+        return false;
+    }
+
+    private static class ClassQueue {
+
+        private final Queue<Tenant> tenants;
+        private final AtomicInteger queued; // read without the lock by yielding tasks
+        private final PerfCounters.Counter depth;
+        private final PerfCounters.Counter executed;
+
+        private ClassQueue(Priority priority, PerfCounters counters) {
+            String name = priority.name().toLowerCase();
+            this.tenants = new ArrayDeque<>();
+            this.queued = new AtomicInteger(0);
+            this.depth = counters.register("query_scheduler_" + name + "_queue_depth");
+            this.executed = counters.register("query_scheduler_" + name + "_executed");
+        }
+
+        private void add(Tenant tenant) {
+            tenants.add(tenant);
+            queued.incrementAndGet();
+        }
+
+        private Tenant poll() {
+            Tenant tenant = tenants.poll();
+            if (tenant != null) queued.decrementAndGet();
+            return tenant;
+        }
+
+        private void remove(Tenant tenant) {
+            if (tenants.remove(tenant)) queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * An executor whose tasks are scheduled fairly against the tasks of all other tenants.
+     */
+    @ThreadSafe
+    public class Tenant implements Executor {
+
+        private final Queue<Runnable> tasks;
+        private final int maxConcurrency;
+        private final AtomicLong runNanos;
+        private volatile Priority priority;
+        private int running;
+        private volatile boolean isQueued;
+
+        private Tenant(Priority priority, int maxConcurrency) {
+            this.priority = priority;
+            this.maxConcurrency = maxConcurrency;
+            this.tasks = new ArrayDeque<>();
+            this.runNanos = new AtomicLong(0);
+            this.running = 0;
+            this.isQueued = false;
+        }
+
+        public Priority priority() {
+            return priority;
+        }
+
+        @Override
+        public void execute(@Nonnull Runnable runnable) {
+            lock.lock();
+            try {
+                tasks.add(runnable);
+                queues[priority.ordinal()].depth.add(1);
+                mayEnqueue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Cooperative yielding point for long-running tasks: returns true if the task has run for longer than its
+         * quantum, and another tenant of the same or a higher priority class is waiting for a worker. The queued
+         * tasks of this tenant do not count, as yielding to them would only requeue the work behind itself.
+         */
+        public boolean shouldYield(long taskStartNanos) {
+            return System.nanoTime() - taskStartNanos > YIELD_QUANTUM_NANOS && hasOtherWaitingTenants(this);
+        }
+
+        private void mayEnqueue() {
+            assert lock.isHeldByCurrentThread();
+            if (!isQueued && !tasks.isEmpty() && running < maxConcurrency) {
+                queues[priority.ordinal()].add(this);
+                isQueued = true;
+                hasWork.signal();
+            }
+        }
+
+        private Runnable poll() {
+            assert lock.isHeldByCurrentThread() && isQueued;
+            isQueued = false;
+            running++;
+            queues[priority.ordinal()].depth.add(-1);
+            queues[priority.ordinal()].executed.add(1);
+            Runnable task = tasks.poll();
+            // re-queue at the back, so that other tenants of this class take their turn before our next task
+            mayEnqueue();
+            return task;
+        }
+
+        private void run(Runnable task) {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.error("Unexpected error in scheduled query task", e);
+            } finally {
+                long total = runNanos.addAndGet(System.nanoTime() - start);
+                lock.lock();
+                try {
+                    running--;
+                    if (priority == Priority.INTERACTIVE && total > DEMOTION_NANOS) demote();
+                    mayEnqueue();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void demote() {
+            assert lock.isHeldByCurrentThread();
+            if (isQueued) queues[priority.ordinal()].remove(this);
+            queues[priority.ordinal()].depth.add(-tasks.size());
+            priority = Priority.BATCH;
+            queues[priority.ordinal()].depth.add(tasks.size());
+            if (isQueued) queues[priority.ordinal()].add(this);
+        }
+    }
+}
@@ -21,8 +21,11 @@ package com.vaticle.typedb.core.concurrent.producer;
 import com.vaticle.typedb.common.collection.ConcurrentSet;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import com.vaticle.typedb.core.concurrent.executor.QueryScheduler;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -39,8 +42,11 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 @ThreadSafe
 public class AsyncProducer<T> implements FunctionalProducer<T> {
 
+    private static final int YIELD_CHECK_INTERVAL = 64;
+
     private final int parallelisation;
     private final FunctionalIterator<FunctionalIterator<T>> iterators;
+    private final Splittable splittable;
     private final ConcurrentMap<FunctionalIterator<T>, CompletableFuture<Void>> runningJobs;
     private final AtomicBoolean isDone;
     private final ReadWriteLock recycleLock;
@@ -48,8 +54,14 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
     private boolean isInitialised;
 
     AsyncProducer(FunctionalIterator<FunctionalIterator<T>> iterators, int parallelisation) {
+        this(iterators, iterators instanceof Splittable ? (Splittable) iterators : null, parallelisation);
+    }
+
+    private AsyncProducer(FunctionalIterator<FunctionalIterator<T>> iterators, @Nullable Splittable splittable,
+                          int parallelisation) {
         assert parallelisation > 0;
         this.iterators = iterators;
+        this.splittable = splittable;
         this.parallelisation = parallelisation;
         this.runningJobs = new ConcurrentHashMap<>();
         this.isDone = new AtomicBoolean(false);
@@ -60,18 +72,25 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
 
     @Override
     public <U> AsyncProducer<U> map(Function<T, U> mappingFn) {
-        return new AsyncProducer<>(iterators.map(iter -> iter.map(mappingFn)), parallelisation);
+        return new AsyncProducer<>(iterators.map(iter -> iter.map(mappingFn)), splittable, parallelisation);
     }
 
     @Override
     public AsyncProducer<T> filter(Predicate<T> predicate) {
-        return new AsyncProducer<>(iterators.map(iter -> iter.filter(predicate)), parallelisation);
+        return new AsyncProducer<>(iterators.map(iter -> iter.filter(predicate)), splittable, parallelisation);
     }
 
     @Override
     public AsyncProducer<T> distinct() {
-        ConcurrentSet<T> produced = new ConcurrentSet<>();
-        return new AsyncProducer<>(iterators.map(iter -> iter.distinct(produced)), parallelisation);
+        return distinct(new ConcurrentSet<>());
+    }
+
+    /**
+     * The set of duplicates is shared by all the iterators, and therefore must be thread-safe.
+     */
+    @Override
+    public AsyncProducer<T> distinct(Set<T> duplicates) {
+        return new AsyncProducer<>(iterators.map(iter -> iter.distinct(duplicates)), splittable, parallelisation);
     }
 
     @Override
@@ -87,10 +106,12 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
         }
         isInitialised = true;
         if (runningJobs.isEmpty()) done(queue);
+        else if (runningJobs.size() < parallelisation) requestSplit();
     }
 
     private synchronized void distribute(Queue<T> queue, int request, Executor executor) {
         if (isDone.get()) return;
+        replenish();
         int requestSplitMax = (int) Math.ceil((double) request / runningJobs.size());
         int requestSent = 0;
         for (FunctionalIterator<T> iterator : runningJobs.keySet()) {
@@ -103,13 +124,42 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
         }
     }
 
+    /**
+     * Fill any idle slots with work that the source has produced since they went idle, such as remainders split off
+     * by running iterators.
+     */
+    private synchronized void replenish() {
+        while (runningJobs.size() < parallelisation && iterators.hasNext()) {
+            runningJobs.put(iterators.next(), completedFuture(null));
+        }
+        if (runningJobs.size() < parallelisation) requestSplit();
+    }
+
+    private void requestSplit() {
+        if (splittable != null) splittable.requestSplit();
+    }
+
+    private boolean hasSplit() {
+        return splittable != null && splittable.hasSplit();
+    }
+
+    private synchronized int offload(Queue<T> queue, int request, Executor executor) {
+        if (isDone.get() || runningJobs.size() >= parallelisation || !iterators.hasNext()) return 0;
+        compensate(queue, request, executor);
+        return request;
+    }
+
     private synchronized void transition(Queue<T> queue, FunctionalIterator<T> iterator, int unfulfilled, Executor executor) {
         if (isRecycled) done(queue);
         else if (!iterator.hasNext()) {
-            if (runningJobs.remove(iterator) != null && iterators.hasNext()) compensate(queue, unfulfilled, executor);
-            else if (!runningJobs.isEmpty() && unfulfilled > 0) distribute(queue, unfulfilled, executor);
-            else if (runningJobs.isEmpty()) done(queue);
-            else if (unfulfilled != 0) throw TypeDBException.of(ILLEGAL_STATE);
+            boolean isRemoved = runningJobs.remove(iterator) != null;
+            if (isRemoved && iterators.hasNext()) compensate(queue, unfulfilled, executor);
+            else {
+                if (isRemoved && !runningJobs.isEmpty()) requestSplit();
+                if (!runningJobs.isEmpty() && unfulfilled > 0) distribute(queue, unfulfilled, executor);
+                else if (runningJobs.isEmpty()) done(queue);
+                else if (unfulfilled != 0) throw TypeDBException.of(ILLEGAL_STATE);
+            }
         } else {
             if (unfulfilled != 0) throw TypeDBException.of(ILLEGAL_STATE);
         }
@@ -127,7 +177,8 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
 
     private void job(Queue<T> queue, FunctionalIterator<T> iterator, int request, Executor executor) {
         try {
-            int unfulfilled = request;
+            int unfulfilled = request, produced = 0;
+            long start = System.nanoTime();
             if (runningJobs.containsKey(iterator)) {
                 for (; unfulfilled > 0 && !isDone.get(); unfulfilled--) {
                     try {
@@ -138,9 +189,18 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
                         }
                         if (iterator.hasNext()) queue.put(iterator.next());
                         else break;
+                        produced++;
                     } finally {
                         recycleLock.readLock().unlock();
                     }
+                    if (unfulfilled > 2 && runningJobs.size() < parallelisation && hasSplit()) {
+                        // share the rest of this request with an idle slot, now that the source has new work for it
+                        unfulfilled -= offload(queue, (unfulfilled - 1) / 2, executor);
+                    }
+                    if (produced % YIELD_CHECK_INTERVAL == 0 && unfulfilled > 1 && shouldYield(executor, start)) {
+                        resume(queue, iterator, unfulfilled - 1, executor);
+                        return;
+                    }
                 }
             }
             if (!isDone.get()) transition(queue, iterator, unfulfilled, executor);
@@ -149,6 +209,16 @@ public class AsyncProducer<T> implements FunctionalProducer<T> {
         }
     }
 
+    private static boolean shouldYield(Executor executor, long start) {
+        return executor instanceof QueryScheduler.Tenant && ((QueryScheduler.Tenant) executor).shouldYield(start);
+    }
+
+    private synchronized void resume(Queue<T> queue, FunctionalIterator<T> iterator, int request, Executor executor) {
+        runningJobs.computeIfPresent(iterator, (iter, asyncJob) -> asyncJob.thenRunAsync(
+                () -> job(queue, iter, request, executor), executor
+        ));
+    }
+
     private void done(Queue<T> queue) {
         if (isDone.compareAndSet(false, true)) {
             queue.done();
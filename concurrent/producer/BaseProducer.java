@@ -21,6 +21,7 @@ package com.vaticle.typedb.core.concurrent.producer;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,6 +56,11 @@ public class BaseProducer<T> implements FunctionalProducer<T> {
         return new BaseProducer<>(iterator.distinct());
     }
 
+    @Override
+    public BaseProducer<T> distinct(Set<T> duplicates) {
+        return new BaseProducer<>(iterator.distinct(duplicates));
+    }
+
     @Override
     public synchronized void produce(Queue<T> queue, int request, Executor executor) {
         if (isDone.get()) return;
@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.concurrent.producer;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -28,4 +29,6 @@ public interface FunctionalProducer<T> extends Producer<T> {
     FunctionalProducer<T> filter(Predicate<T> predicate);
 
     FunctionalProducer<T> distinct();
+
+    FunctionalProducer<T> distinct(Set<T> duplicates);
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.concurrent.producer;
+
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.iterator.AbstractFunctionalIterator;
+import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNKNOWN_ERROR;
+
+/**
+ * Flattens a sequence of iterators in order, while evaluating up to {@code parallelisation} of them ahead of the
+ * consumer on the given executor. Each iterator is read ahead into a buffer of at most {@code bufferSize} items, and
+ * is paused when its buffer is full, so memory stays bounded however far behind the consumer falls.
+ * <p>
+ * When each iterator covers a disjoint, consecutive range of a sorted sequence, this is the parallel equivalent of
+ * flatMap: the ranges are computed concurrently, and reading them back in range order preserves the global order.
+ * <p>
+ * The consumer is expected to be a single thread.
+ */
+public class OrderedAsyncIterator<T> extends AbstractFunctionalIterator<T> {
+
+    private final FunctionalIterator<FunctionalIterator<T>> iterators;
+    private final int parallelisation;
+    private final int bufferSize;
+    private final Executor executor;
+    private final Queue<Segment> window;
+    private State state;
+    private T next;
+
+    private enum State {EMPTY, FETCHED, COMPLETED}
+
+    private enum Filler {IDLE, SCHEDULED, RUNNING}
+
+    OrderedAsyncIterator(FunctionalIterator<FunctionalIterator<T>> iterators, int parallelisation, int bufferSize,
+                         Executor executor) {
+        assert parallelisation > 0 && bufferSize > 0;
+        this.iterators = iterators;
+        this.parallelisation = parallelisation;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+        this.window = new ArrayDeque<>(parallelisation);
+        this.state = State.EMPTY;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (state == State.COMPLETED) return false;
+        else if (state == State.FETCHED) return true;
+        while (true) {
+            fillWindow();
+            Segment head = window.peek();
+            if (head == null) {
+                state = State.COMPLETED;
+                return false;
+            }
+            try {
+                next = head.take();
+            } catch (Throwable e) {
+                recycle();
+                state = State.COMPLETED;
+                throw e;
+            }
+            if (next != null) {
+                state = State.FETCHED;
+                return true;
+            } else window.remove();
+        }
+    }
+
+    private void fillWindow() {
+        while (window.size() < parallelisation && iterators.hasNext()) {
+            Segment segment = new Segment(iterators.next());
+            window.add(segment);
+            segment.schedule();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        state = State.EMPTY;
+        return next;
+    }
+
+    @Override
+    public void recycle() {
+        iterators.recycle();
+        window.forEach(Segment::recycle);
+        window.clear();
+    }
+
+    private class Segment {
+
+        private final FunctionalIterator<T> iterator;
+        private final Queue<T> buffer;
+        private Filler filler;
+        private boolean isExhausted;
+        private boolean isRecycled;
+        private boolean isIteratorRecycled;
+        private Throwable error;
+
+        private Segment(FunctionalIterator<T> iterator) {
+            this.iterator = iterator;
+            this.buffer = new ArrayDeque<>();
+            this.filler = Filler.IDLE;
+            this.isExhausted = false;
+            this.isRecycled = false;
+            this.isIteratorRecycled = false;
+        }
+
+        private synchronized void schedule() {
+            if (filler != Filler.IDLE || isExhausted || isRecycled) return;
+            filler = Filler.SCHEDULED;
+            executor.execute(() -> {
+                if (claimScheduled()) fill();
+            });
+        }
+
+        /**
+         * A scheduled fill may already have been run by the consumer, in which case the queued task has nothing to do.
+         */
+        private synchronized boolean claimScheduled() {
+            if (filler != Filler.SCHEDULED) return false;
+            filler = Filler.RUNNING;
+            return true;
+        }
+
+        private void fill() {
+            try {
+                while (true) {
+                    synchronized (this) {
+                        if (isRecycled || buffer.size() >= bufferSize) break;
+                    }
+                    boolean hasNext = iterator.hasNext();
+                    T item = hasNext ? iterator.next() : null;
+                    synchronized (this) {
+                        if (hasNext) buffer.add(item);
+                        else isExhausted = true;
+                        if (buffer.size() == 1 || isExhausted) notifyAll();
+                    }
+                    if (!hasNext) break;
+                }
+            } catch (Throwable e) {
+                synchronized (this) {
+                    error = e;
+                    isExhausted = true;
+                    notifyAll();
+                }
+            }
+            synchronized (this) {
+                filler = Filler.IDLE;
+                if (isRecycled || isExhausted) recycleIterator();
+            }
+        }
+
+        /**
+         * The consumer only waits while another thread is filling this segment. A fill that is merely scheduled is
+         * run by the consumer itself, since the consumer may be a worker of the same executor, and waiting for a task
+         * queued behind it could block it forever.
+         *
+         * @return the next item, or null if this segment is exhausted
+         */
+        private T take() {
+            while (true) {
+                synchronized (this) {
+                    if (!buffer.isEmpty() || isExhausted) return poll();
+                    else if (filler == Filler.RUNNING) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            throw TypeDBException.of(UNEXPECTED_INTERRUPTION);
+                        }
+                        continue;
+                    }
+                    filler = Filler.RUNNING;
+                }
+                fill();
+            }
+        }
+
+        private synchronized T poll() {
+            T item = buffer.poll();
+            if (item == null && error != null) {
+                if (error instanceof TypeDBException) throw (TypeDBException) error;
+                else throw TypeDBException.of(UNKNOWN_ERROR, error);
+            }
+            if (buffer.size() <= bufferSize / 2) schedule();
+            return item;
+        }
+
+        private synchronized void recycle() {
+            isRecycled = true;
+            buffer.clear();
+            if (filler != Filler.RUNNING) recycleIterator();
+        }
+
+        private synchronized void recycleIterator() {
+            if (isIteratorRecycled) return;
+            isIteratorRecycled = true;
+            iterator.recycle();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.concurrent.producer;
+
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.iterator.AbstractFunctionalIterator;
+import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
+import static java.util.Collections.singletonList;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+
+public class OrderedAsyncIteratorTest {
+
+    private static FunctionalIterator<FunctionalIterator<Integer>> ranges(int count, int size) {
+        List<FunctionalIterator<Integer>> ranges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Integer> range = new ArrayList<>();
+            for (int j = 0; j < size; j++) range.add(i * size + j);
+            ranges.add(iterate(range));
+        }
+        return iterate(ranges);
+    }
+
+    @Test
+    public void test_ranges_are_read_back_in_order() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> items = new OrderedAsyncIterator<>(ranges(50, 100), 4, 8, executor).toList();
+            assertEquals(5000, items.size());
+            for (int i = 0; i < items.size(); i++) assertEquals(i, (int) items.get(i));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_consumer_on_the_same_single_worker_does_not_deadlock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // every segment is scheduled on the worker that is busy running the consumer
+            Future<List<Integer>> consumed = executor.submit(
+                    () -> new OrderedAsyncIterator<>(ranges(10, 100), 4, 8, executor).toList()
+            );
+            assertEquals(1000, consumed.get(10, TimeUnit.SECONDS).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_failed_segment_is_recycled_and_rethrown() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean isRecycled = new AtomicBoolean(false);
+        FunctionalIterator<Integer> failing = new AbstractFunctionalIterator<Integer>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw TypeDBException.of(ILLEGAL_STATE);
+            }
+
+            @Override
+            public void recycle() {
+                isRecycled.set(true);
+            }
+        };
+        try {
+            OrderedAsyncIterator<Integer> iterator = new OrderedAsyncIterator<>(iterate(singletonList(failing)), 2, 8, executor);
+            try {
+                iterator.hasNext();
+                fail();
+            } catch (TypeDBException e) {
+                assertEquals(ILLEGAL_STATE, e.errorMessage());
+            }
+            assertTrue(isRecycled.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -44,6 +44,11 @@ public class Producers {
         return new BaseProducer<>(iterator);
     }
 
+    public static <T> FunctionalIterator<T> asyncOrdered(FunctionalIterator<FunctionalIterator<T>> iterators,
+                                                         int parallelisation, Executor executor) {
+        return new OrderedAsyncIterator<>(iterators, parallelisation, BATCH_SIZE_DEFAULT, executor);
+    }
+
     public static <T> ProducerIterator<T> produce(Producer<T> producer, Either<Arguments.Query.Producer, Long> context, Executor executor) {
         return produce(list(producer), context, executor);
     }
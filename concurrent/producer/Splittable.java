@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.concurrent.producer;
+
+/**
+ * A source of iterators for an AsyncProducer that can split the work of its running iterators into new ones.
+ * <p>
+ * Splitting is requested when the producer has an idle slot and the source has no other work for it. Whether a
+ * split is waiting can be checked without synchronisation, so running jobs only contend for the producer when there
+ * is actually something to hand over.
+ */
+public interface Splittable {
+
+    void requestSplit();
+
+    boolean hasSplit();
+}
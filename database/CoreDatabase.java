@@ -27,19 +27,24 @@ import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.parameters.Arguments;
 import com.vaticle.typedb.core.common.parameters.Options;
+import com.vaticle.typedb.core.concept.thing.Thing;
 import com.vaticle.typedb.core.concept.type.Type;
 import com.vaticle.typedb.core.concurrent.executor.Executors;
+import com.vaticle.typedb.core.concurrent.executor.QueryScheduler;
 import com.vaticle.typedb.core.encoding.Encoding;
+import com.vaticle.typedb.core.encoding.iid.IndexIID;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 import com.vaticle.typedb.core.encoding.key.Key;
 import com.vaticle.typedb.core.encoding.key.KeyGenerator;
 import com.vaticle.typedb.core.encoding.key.StatisticsKey;
+import com.vaticle.typedb.core.graph.ThingGraph;
 import com.vaticle.typedb.core.graph.TypeGraph;
 import com.vaticle.typedb.core.graph.edge.ThingEdge;
 import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
 import com.vaticle.typedb.core.graph.vertex.ThingVertex;
 import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typedb.core.logic.LogicCache;
+import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanCache;
 import com.vaticle.typedb.core.traversal.TraversalCache;
 import com.vaticle.typeql.lang.TypeQL;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -68,6 +73,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -99,7 +105,8 @@ import static com.vaticle.typedb.core.common.parameters.Arguments.Session.Type.D
 import static com.vaticle.typedb.core.common.parameters.Arguments.Session.Type.SCHEMA;
 import static com.vaticle.typedb.core.common.parameters.Arguments.Transaction.Type.READ;
 import static com.vaticle.typedb.core.common.parameters.Arguments.Transaction.Type.WRITE;
-import static com.vaticle.typedb.core.concurrent.executor.Executors.serial;
+import static com.vaticle.typedb.core.concurrent.executor.Executors.scheduler;
+import static com.vaticle.typedb.core.concurrent.executor.QueryScheduler.Priority.BACKGROUND;
 import static com.vaticle.typedb.core.encoding.Encoding.ENCODING_VERSION;
 import static com.vaticle.typedb.core.encoding.Encoding.System.ENCODING_VERSION_KEY;
 import static java.util.Collections.emptySet;
@@ -129,6 +136,7 @@ public class CoreDatabase implements TypeDB.Database {
     public final Diagnostics.ScheduledDiagnosticProvider txnDiagnosticProvider;
     public long txnDiagnosticLastTransactionID;
     private final StatisticsCorrector statisticsCorrector;
+    private final ExpirySweeper expirySweeper;
 
     protected OptimisticTransactionDB rocksSchema;
     protected OptimisticTransactionDB rocksData;
@@ -147,6 +155,7 @@ public class CoreDatabase implements TypeDB.Database {
         dataKeyGenerator = new KeyGenerator.Data.Persisted();
         isolationMgr = new IsolationManager();
         statisticsCorrector = createStatisticsCorrector();
+        expirySweeper = new ExpirySweeper(this);
         sessions = new ConcurrentHashMap<>();
         rocksConfiguration = new RocksConfiguration(options().storageDataCacheSize(),
                 options().storageIndexCacheSize(), LOG.isDebugEnabled() || LOG.isTraceEnabled(), ROCKS_LOG_PERIOD);
@@ -198,6 +207,7 @@ public class CoreDatabase implements TypeDB.Database {
             }
             statisticsCorrector.markActivating();
             statisticsCorrector.doActivate();
+            expirySweeper.start();
         } catch (RocksDBException e) {
             closeResources();
             throw TypeDBException.of(STORAGE_ERROR, e);
@@ -257,6 +267,7 @@ public class CoreDatabase implements TypeDB.Database {
             }
             statisticsCorrector.markReactivating();
             statisticsCorrector.doReactivate();
+            expirySweeper.start();
         } catch (RocksDBException e) {
             closeResources();
             throw TypeDBException.of(STORAGE_ERROR, e);
@@ -399,6 +410,10 @@ public class CoreDatabase implements TypeDB.Database {
         return statisticsCorrector;
     }
 
+    protected ExpirySweeper expirySweeper() {
+        return expirySweeper;
+    }
+
     /**
      * Get the lock that guarantees that the schema is not modified at the same
      * time as data being written to the database. When a schema session is
@@ -601,6 +616,7 @@ public class CoreDatabase implements TypeDB.Database {
 
     protected void closeResources() {
         statisticsCorrector.close();
+        expirySweeper.close();
         sessions.values().forEach(p -> p.first().close());
         cacheClose();
         if (rocksDataPartitionMgr != null) rocksDataPartitionMgr.close();
@@ -663,7 +679,8 @@ public class CoreDatabase implements TypeDB.Database {
                 throw TypeDBException.of(TRANSACTION_ISOLATION_MODIFY_DELETE_VIOLATION);
             } else if (txn.dataStorage.deleteModifyConflict(mayConflict.dataStorage)) {
                 throw TypeDBException.of(TRANSACTION_ISOLATION_DELETE_MODIFY_VIOLATION);
-            } else if (txn.dataStorage.exclusiveCreateConflict(mayConflict.dataStorage)) {
+            } else if (txn.dataStorage.exclusiveCreateConflict(mayConflict.dataStorage) ||
+                    txn.dataStorage.exclusiveValueConflict(mayConflict.dataStorage)) {
                 throw TypeDBException.of(TRANSACTION_ISOLATION_EXCLUSIVE_CREATE_VIOLATION);
             }
         }
@@ -719,6 +736,7 @@ public class CoreDatabase implements TypeDB.Database {
         protected final AtomicReference<State> state;
         protected final ConcurrentSet<CompletableFuture<Void>> corrections;
         private final ConcurrentSet<Long> deletedTxnIDs;
+        private final QueryScheduler.Tenant executor;
         protected CoreSession.Data session;
 
         protected enum State {INACTIVE, ACTIVATING, REACTIVATING, WAITING, CORRECTION_QUEUED, CLOSED}
@@ -727,6 +745,7 @@ public class CoreDatabase implements TypeDB.Database {
             this.database = database;
             corrections = new ConcurrentSet<>();
             deletedTxnIDs = new ConcurrentSet<>();
+            executor = scheduler().serialTenant(BACKGROUND);
             state = new AtomicReference<>(State.INACTIVE);
         }
 
@@ -806,7 +825,7 @@ public class CoreDatabase implements TypeDB.Database {
         CompletableFuture<Void> submitCorrection() {
             CompletableFuture<Void> correction = CompletableFuture.runAsync(() -> {
                 if (state.compareAndSet(State.CORRECTION_QUEUED, State.WAITING)) correctMiscounts();
-            }, serial());
+            }, executor);
             corrections.add(correction);
             correction.exceptionally(exception -> {
                 LOG.debug("StatisticsCorrection task failed with exception: " + exception.toString());
@@ -884,12 +903,14 @@ public class CoreDatabase implements TypeDB.Database {
                         StatisticsKey.hasEdgeCount(has.first().type(), has.second().type()),
                         encodeLong(-1)
                 );
+                txn.graphMgr.data().degrees().correctHasEdge(has.first(), has.second(), -1);
             } else if (miscount.isHasEdgeUndercount()) {
                 Pair<VertexIID.Thing, VertexIID.Attribute<?>> has = miscount.getMiscountableHasEdge();
                 txn.dataStorage.mergeUntracked(
                         StatisticsKey.hasEdgeCount(has.first().type(), has.second().type()),
                         encodeLong(1)
                 );
+                txn.graphMgr.data().degrees().correctHasEdge(has.first(), has.second(), 1);
             }
         }
 
@@ -986,11 +1007,105 @@ public class CoreDatabase implements TypeDB.Database {
         }
     }
 
+
+    /**
+     * Deletes the instances of the types with an expiry once they have expired. Expired instances are already hidden
+     * from reads, so the sweep only reclaims their storage, and runs periodically: it scans the expiry index from the
+     * earliest deadline, and deletes the expired instances in bounded batches, each in its own write transaction, so
+     * that the statistics of the deletions are counted and corrected like those of any other.
+     */
+    public static class ExpirySweeper {
+
+        private static final long SWEEP_PERIOD_MILLIS = 60_000;
+        private static final int SWEEP_BATCH_SIZE = 1_000;
+
+        private final CoreDatabase database;
+        private final QueryScheduler.Tenant executor;
+        private final AtomicBoolean isQueued;
+        private final AtomicBoolean isClosed;
+        private final ConcurrentSet<CompletableFuture<Void>> sweeps;
+        private ScheduledFuture<?> schedule;
+        private CoreSession.Data session;
+
+        protected ExpirySweeper(CoreDatabase database) {
+            this.database = database;
+            this.executor = scheduler().serialTenant(BACKGROUND);
+            this.isQueued = new AtomicBoolean(false);
+            this.isClosed = new AtomicBoolean(false);
+            this.sweeps = new ConcurrentSet<>();
+        }
+
+        protected void start() {
+            schedule = Executors.scheduled().scheduleWithFixedDelay(
+                    this::maySweep, SWEEP_PERIOD_MILLIS, SWEEP_PERIOD_MILLIS, MILLISECONDS
+            );
+        }
+
+        public void maySweep() {
+            if (isClosed.get() || !isQueued.compareAndSet(false, true)) return;
+            CompletableFuture<Void> sweep = CompletableFuture.runAsync(() -> {
+                if (isQueued.compareAndSet(true, false) && !isClosed.get()) sweep();
+            }, executor);
+            sweeps.add(sweep);
+            sweep.exceptionally(exception -> {
+                LOG.debug("ExpirySweeper task failed with exception: " + exception.toString());
+                return null;
+            }).thenRun(() -> sweeps.remove(sweep));
+        }
+
+        private synchronized void sweep() {
+            if (session == null) session = database.createAndOpenSession(DATA, new Options.Session()).asData();
+            boolean isExhausted = false;
+            while (!isExhausted && !isClosed.get()) {
+                try (CoreTransaction.Data txn = session.transaction(WRITE)) {
+                    ThingGraph.Expiries expiries = txn.graphMgr.data().expiries();
+                    List<IndexIID.Expiry> expired = expiries.expired(System.currentTimeMillis())
+                            .limit(SWEEP_BATCH_SIZE).toList();
+                    if (expired.isEmpty()) return;
+                    isExhausted = expired.size() < SWEEP_BATCH_SIZE;
+                    for (IndexIID.Expiry expiry : expired) {
+                        Thing thing = txn.concepts().getThing(expiry.thing().bytes());
+                        // deleting the instance deletes its entry, which otherwise outlives it or the type's expiry
+                        if (thing != null && thing.getType().getExpiry().isPresent()) thing.delete();
+                        else expiries.deleteEntry(expiry);
+                    }
+                    txn.commit();
+                }
+            }
+        }
+
+        protected void close() {
+            try {
+                isClosed.set(true);
+                if (schedule != null) schedule.cancel(false);
+                for (CompletableFuture<Void> sweep : sweeps) {
+                    sweep.get(Executors.SHUTDOWN_TIMEOUT_MS, MILLISECONDS);
+                }
+                sweeps.clear();
+            } catch (InterruptedException | TimeoutException e) {
+                throw TypeDBException.of(JAVA_ERROR, e);
+            } catch (ExecutionException e) {
+                if (!((e.getCause() instanceof TypeDBException) && (
+                        ((TypeDBException) e.getCause()).errorMessage().code().equals(RESOURCE_CLOSED.code()) ||
+                                ((TypeDBException) e.getCause()).errorMessage().code().equals(DATABASE_CLOSED.code())
+                ))) {
+                    throw TypeDBException.of(JAVA_ERROR, e);
+                }
+            } finally {
+                synchronized (this) {
+                    if (session != null) session.close();
+                }
+            }
+        }
+    }
+
     static class Cache {
 
         private final TraversalCache traversalCache;
         private final LogicCache logicCache;
+        private final ReasonerPlanCache reasonerPlanCache;
         private final TypeGraph typeGraph;
+        private final ThingGraph.AttributeCache attributeCache;
         private final RocksStorage schemaStorage;
         private final AtomicLong statisticsVersion;
         private long borrowerCount;
@@ -999,8 +1114,10 @@ public class CoreDatabase implements TypeDB.Database {
         private Cache(CoreDatabase database) {
             schemaStorage = new RocksStorage.Cache(database.rocksSchema, database.rocksSchemaPartitionMgr);
             typeGraph = new TypeGraph(schemaStorage, true);
+            attributeCache = ThingGraph.AttributeCache.create();
             traversalCache = new TraversalCache();
             logicCache = new LogicCache();
+            reasonerPlanCache = new ReasonerPlanCache();
             borrowerCount = 0L;
             invalidated = false;
             statisticsVersion = new AtomicLong(0);
@@ -1014,10 +1131,18 @@ public class CoreDatabase implements TypeDB.Database {
             return logicCache;
         }
 
+        public ReasonerPlanCache reasonerPlans() {
+            return reasonerPlanCache;
+        }
+
         public TypeGraph typeGraph() {
             return typeGraph;
         }
 
+        public ThingGraph.AttributeCache attributes() {
+            return attributeCache;
+        }
+
         private void borrow() {
             borrowerCount++;
         }
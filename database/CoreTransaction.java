@@ -25,6 +25,7 @@ import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.parameters.Arguments;
 import com.vaticle.typedb.core.common.parameters.Context;
+import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.common.parameters.Options;
 import com.vaticle.typedb.core.concept.ConceptManager;
 import com.vaticle.typedb.core.graph.GraphManager;
@@ -34,6 +35,7 @@ import com.vaticle.typedb.core.logic.LogicCache;
 import com.vaticle.typedb.core.logic.LogicManager;
 import com.vaticle.typedb.core.query.QueryManager;
 import com.vaticle.typedb.core.reasoner.Reasoner;
+import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanCache;
 import com.vaticle.typedb.core.traversal.TraversalCache;
 import com.vaticle.typedb.core.traversal.TraversalEngine;
 import io.sentry.NoOpTransaction;
@@ -73,11 +75,12 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
                 .diagnosticTxn(NoOpTransaction.getInstance());
     }
 
-    void initialise(GraphManager graphMgr, TraversalCache traversalCache, LogicCache logicCache) {
+    void initialise(GraphManager graphMgr, TraversalCache traversalCache, LogicCache logicCache,
+                    ReasonerPlanCache reasonerPlanCache) {
         traversalEng = new TraversalEngine(graphMgr, traversalCache);
         conceptMgr = new ConceptManager(graphMgr);
         logicMgr = new LogicManager(graphMgr, conceptMgr, traversalEng, logicCache);
-        reasoner = new Reasoner(conceptMgr, logicMgr, traversalEng, context);
+        reasoner = new Reasoner(conceptMgr, logicMgr, traversalEng, reasonerPlanCache, context);
         queryMgr = new QueryManager(conceptMgr, logicMgr, reasoner, context);
         isOpen = new AtomicBoolean(true);
     }
@@ -177,10 +180,10 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
 
             dataStorage = storageFactory.storageData(session.database(), this);
             ThingGraph.Statistics statistics = new ThingGraph.Statistics(typeGraph, dataStorage, new AtomicLong(0));
-            ThingGraph thingGraph = new ThingGraph(dataStorage, typeGraph, statistics);
+            ThingGraph thingGraph = new ThingGraph(dataStorage, typeGraph, statistics, ThingGraph.AttributeCache.disabled());
 
             graphMgr = new GraphManager(typeGraph, thingGraph);
-            initialise(graphMgr, new TraversalCache(), new LogicCache());
+            initialise(graphMgr, new TraversalCache(), new LogicCache(), new ReasonerPlanCache());
         }
 
         @Override
@@ -238,6 +241,9 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
                     conceptMgr.validateTypes();
                     logicMgr.revalidateAndReindexRules();
                     graphMgr.schema().commit();
+                    // data maintained directly in storage by schema changes, such as indices, is committed first,
+                    // so that the schema never describes data that is not there
+                    if (dataStorage.hasWrite()) dataStorage.commit();
                     schemaStorage.commit();
                     session.database().cacheInvalidate();
                 } catch (RocksDBException e) {
@@ -257,6 +263,7 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
             try {
                 graphMgr.clear();
                 schemaStorage.rollback();
+                dataStorage.rollback();
             } catch (RocksDBException e) {
                 throw TypeDBException.of(STORAGE_ERROR, e);
             }
@@ -288,11 +295,11 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
             this.cache = session.database().cacheBorrow();
             this.dataStorage = storageFactory.storageData(session.database(), this);
             ThingGraph.Statistics statistics = new ThingGraph.Statistics(cache.typeGraph(), dataStorage, cache.statisticsVersion());
-            ThingGraph thingGraph = new ThingGraph(dataStorage, cache.typeGraph(), statistics);
+            ThingGraph thingGraph = new ThingGraph(dataStorage, cache.typeGraph(), statistics, cache.attributes());
             this.graphMgr = new GraphManager(cache.typeGraph(), thingGraph);
 
             if (type().isWrite()) session.database().isolationMgr().opened(this);
-            initialise(graphMgr, cache.traversal(), cache.logic());
+            initialise(graphMgr, cache.traversal(), cache.logic(), cache.reasonerPlans());
         }
 
         @Override
@@ -331,12 +338,20 @@ public abstract class CoreTransaction implements TypeDB.Transaction {
                     else if (graphMgr.schema().isModified()) throw TypeDBException.of(SESSION_DATA_VIOLATION);
 
                     conceptMgr.validateThings();
+                    Set<Label> writtenTypes = graphMgr.data().writtenTypes();
                     graphMgr.data().commit();
 
                     Set<CoreTransaction.Data> overlapping =
                             session.database().isolationMgr().validateOverlappingAndStartCommit(this);
                     session.database().statisticsCorrector().recordCorrectionMetadata(this, overlapping);
-                    dataStorage.commit();
+                    cache.logic().conditionTable().writeStarted(writtenTypes);
+                    try {
+                        dataStorage.commit();
+                    } finally {
+                        cache.logic().conditionTable().writeFinished(
+                                writtenTypes, dataStorage.snapshotEnd().orElse(dataStorage.snapshotStart())
+                        );
+                    }
                     session.database().isolationMgr().committed(this);
                     session.database().statisticsCorrector().committed(this);
                     if (graphMgr.data().stats().statisticsPersisted()) cache.incrementStatisticsVersion();
@@ -125,7 +125,8 @@ public class RocksConfiguration {
         }
 
         org.rocksdb.DBOptions dbOptions() {
-            DBOptions dbOptions = new DBOptions().setCreateIfMissing(true);
+            // column families added since a database was created, such as the text index, are created on open
+            DBOptions dbOptions = new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true);
             configureWriteConcurrency(dbOptions);
             if (logStatistics) configureStatistics(dbOptions);
             return dbOptions;
@@ -217,6 +218,21 @@ public class RocksConfiguration {
             return options;
         }
 
+        /**
+         * This CF contains the trigram postings of text indexed attributes, which are always scanned by the prefix of
+         * a trigram. Since every string attribute written to an indexed type writes a posting per trigram, we make
+         * larger write buffers
+         */
+        org.rocksdb.ColumnFamilyOptions textIndexCFOptions() {
+            org.rocksdb.ColumnFamilyOptions options = new org.rocksdb.ColumnFamilyOptions();
+            writeOptimisedWriteBuffers(options);
+            configureSST(options);
+            configureCompression(options);
+            configurePrefixExtractor(options, Key.Partition.TEXT_INDEX.fixedStartBytes().get());
+            options.setTableFormatConfig(tableOptions(true, false));
+            return options;
+        }
+
         org.rocksdb.ColumnFamilyOptions metadataCFOptions() {
             org.rocksdb.ColumnFamilyOptions options = new org.rocksdb.ColumnFamilyOptions();
             readOptimisedWriteBuffers(options);
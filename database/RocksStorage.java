@@ -36,12 +36,14 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Snapshot;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -397,6 +399,8 @@ public abstract class RocksStorage implements Storage {
         private final ConcurrentSkipListSet<ByteArray> modifiedKeys;
         private final ConcurrentSkipListSet<ByteArray> deletedKeys;
         private final ConcurrentSkipListSet<ByteArray> exclusiveBytes; // these are not real keys, just reserved bytes
+        private final ConcurrentMap<ByteArray, ByteArray> exclusiveValues;
+        private final ConcurrentLinkedQueue<Key.Prefix<?>> deletedRanges;
         private final long snapshotStart;
         protected volatile Long snapshotEnd;
         protected boolean hasWrite;
@@ -409,6 +413,8 @@ public abstract class RocksStorage implements Storage {
             this.modifiedKeys = new ConcurrentSkipListSet<>();
             this.deletedKeys = new ConcurrentSkipListSet<>();
             this.exclusiveBytes = new ConcurrentSkipListSet<>();
+            this.exclusiveValues = new ConcurrentHashMap<>();
+            this.deletedRanges = new ConcurrentLinkedQueue<>();
             this.snapshotEnd = null;
             this.hasWrite = false;
         }
@@ -475,6 +481,12 @@ public abstract class RocksStorage implements Storage {
             this.exclusiveBytes.add(bytes);
         }
 
+        @Override
+        public void trackExclusiveValue(ByteArray key, ByteArray value) {
+            assert isOpen();
+            this.exclusiveValues.put(key, value);
+        }
+
         @Override
         public void commit() throws RocksDBException {
             if (!hasWrite) {
@@ -485,10 +497,36 @@ public abstract class RocksStorage implements Storage {
                         ByteArray.empty().getBytes()
                 );
             }
-            super.commit();
+            if (deletedRanges.isEmpty()) super.commit();
+            else commitWithDeletedRanges();
             snapshotEnd = database.rocksData.getLatestSequenceNumber();
         }
 
+        /**
+         * Optimistic transactions cannot delete ranges, so the writes of the transaction are copied into a batch that
+         * also deletes the ranges, after them, and the batch is written in place of the transaction: either all of
+         * them are committed or none are. Conflicts between data transactions are detected by the isolation manager
+         * rather than by RocksDB, so nothing is lost by not committing the transaction itself.
+         */
+        private void commitWithDeletedRanges() throws RocksDBException {
+            try (WriteBatch batch = new WriteBatch(rocksTransaction.getWriteBatch().getWriteBatch().data());
+                 WriteOptions options = new WriteOptions()) {
+                for (Key.Prefix<?> prefix : deletedRanges) {
+                    batch.deleteRange(partitionMgr.get(prefix.partition()), prefix.bytes().getBytes(), upperBound(prefix));
+                }
+                database.rocksData.write(options, batch);
+            }
+            rocksTransaction.rollback();
+        }
+
+        private static byte[] upperBound(Key.Prefix<?> prefix) {
+            byte[] upperBound = prefix.bytes().cloneBytes();
+            int i = upperBound.length - 1;
+            while (upperBound[i] == (byte) 0xFF) upperBound[i--] = 0;
+            upperBound[i]++;
+            return upperBound;
+        }
+
         @Override
         public void rollback() throws RocksDBException {
             super.rollback();
@@ -503,6 +541,8 @@ public abstract class RocksStorage implements Storage {
             modifiedKeys.clear();
             deletedKeys.clear();
             exclusiveBytes.clear();
+            exclusiveValues.clear();
+            deletedRanges.clear();
         }
 
         @Override
@@ -520,7 +560,14 @@ public abstract class RocksStorage implements Storage {
             hasWrite = true;
         }
 
-        long snapshotStart() {
+        @Override
+        public void deleteRangeUntracked(Key.Prefix<?> prefix) {
+            assert isOpen() && !isReadOnly && prefix.bytes().length() > 0;
+            deletedRanges.add(prefix);
+        }
+
+        @Override
+        public long snapshotStart() {
             return snapshotStart;
         }
 
@@ -528,8 +575,13 @@ public abstract class RocksStorage implements Storage {
             return Optional.ofNullable(snapshotEnd);
         }
 
+        boolean hasWrite() {
+            return hasWrite || !deletedRanges.isEmpty();
+        }
+
         boolean hasTrackedWrite() {
-            return !modifiedKeys.isEmpty() || !deletedKeys.isEmpty() || !exclusiveBytes.isEmpty();
+            return !modifiedKeys.isEmpty() || !deletedKeys.isEmpty() || !exclusiveBytes.isEmpty() ||
+                    !exclusiveValues.isEmpty();
         }
 
         boolean modifyDeleteConflict(RocksStorage.Data otherStorage) {
@@ -543,5 +595,13 @@ public abstract class RocksStorage implements Storage {
         boolean exclusiveCreateConflict(RocksStorage.Data otherStorage) {
             return hasIntersection(exclusiveBytes, otherStorage.exclusiveBytes);
         }
+
+        boolean exclusiveValueConflict(RocksStorage.Data otherStorage) {
+            for (Map.Entry<ByteArray, ByteArray> entry : exclusiveValues.entrySet()) {
+                ByteArray otherValue = otherStorage.exclusiveValues.get(entry.getKey());
+                if (otherValue != null && !otherValue.equals(entry.getValue())) return true;
+            }
+            return false;
+        }
     }
 }
@@ -55,14 +55,15 @@ public class Encoding {
 
     public static final String ROCKS_DATA = "data";
     public static final String ROCKS_SCHEMA = "schema";
-    public static final int ENCODING_VERSION = 2;
+    public static final int ENCODING_VERSION = 4;
 
     public enum Partition {
         DEFAULT(0),
         VARIABLE_START_EDGE(1),
         FIXED_START_EDGE(2),
         OPTIMISATION_EDGE(3),
-        METADATA(4);
+        METADATA(4),
+        TEXT_INDEX(5);
 
         private final byte ID;
 
@@ -156,6 +157,9 @@ public class Encoding {
         // leave large open range for future indices
         INDEX_TYPE(20, PrefixType.INDEX),
         INDEX_RULE(21, PrefixType.INDEX),
+        INDEX_TEXT(22, PrefixType.INDEX),
+        INDEX_OWNERSHIP(23, PrefixType.INDEX),
+        INDEX_EXPIRY(24, PrefixType.INDEX),
         METADATA_STATISTICS(60, PrefixType.METADATA),
         VERTEX_THING_TYPE(100, PrefixType.TYPE),
         VERTEX_ENTITY_TYPE(110, PrefixType.TYPE),
@@ -173,6 +177,9 @@ public class Encoding {
                 pair(SYSTEM.key, SYSTEM),
                 pair(INDEX_TYPE.key, INDEX_TYPE),
                 pair(INDEX_RULE.key, INDEX_RULE),
+                pair(INDEX_TEXT.key, INDEX_TEXT),
+                pair(INDEX_OWNERSHIP.key, INDEX_OWNERSHIP),
+                pair(INDEX_EXPIRY.key, INDEX_EXPIRY),
                 pair(METADATA_STATISTICS.key, METADATA_STATISTICS),
                 pair(VERTEX_THING_TYPE.key, VERTEX_THING_TYPE),
                 pair(VERTEX_ENTITY_TYPE.key, VERTEX_ENTITY_TYPE),
@@ -260,6 +267,11 @@ public class Encoding {
         PROPERTY_THEN(6),
         PROPERTY_VALUE(7),
         PROPERTY_VALUE_REF(8),
+        PROPERTY_TEXT_INDEXED(10),
+        PROPERTY_OWNERSHIP_INDEXED(11),
+        PROPERTY_DEGREE_COUNTED(12),
+        PROPERTY_EXPIRY(13),
+        PROPERTY_SHORTCUT(14),
         EDGE_OWNS_PROPERTY_ANNOTATION_UNIQUE(20),
         EDGE_ISA_BACKWARD(-40), // EDGE_ISA_FORWARD does not exist by design
         EDGE_SUB_FORWARD(50),
@@ -279,7 +291,9 @@ public class Encoding {
         EDGE_RELATING_FORWARD(72),
         EDGE_RELATING_BACKWARD(-72),
         EDGE_ROLEPLAYER_FORWARD(73, true),
-        EDGE_ROLEPLAYER_BACKWARD(-73, true);
+        EDGE_ROLEPLAYER_BACKWARD(-73, true),
+        EDGE_SHORTCUT_FORWARD(74, true),
+        EDGE_SHORTCUT_BACKWARD(-74, true);
 
         private static final ByteMap<Infix> infixByKey = ByteMap.create(
                 pair(PROPERTY_LABEL.key, PROPERTY_LABEL),
@@ -291,6 +305,11 @@ public class Encoding {
                 pair(PROPERTY_THEN.key, PROPERTY_THEN),
                 pair(PROPERTY_VALUE.key, PROPERTY_VALUE),
                 pair(PROPERTY_VALUE_REF.key, PROPERTY_VALUE_REF),
+                pair(PROPERTY_TEXT_INDEXED.key, PROPERTY_TEXT_INDEXED),
+                pair(PROPERTY_OWNERSHIP_INDEXED.key, PROPERTY_OWNERSHIP_INDEXED),
+                pair(PROPERTY_DEGREE_COUNTED.key, PROPERTY_DEGREE_COUNTED),
+                pair(PROPERTY_EXPIRY.key, PROPERTY_EXPIRY),
+                pair(PROPERTY_SHORTCUT.key, PROPERTY_SHORTCUT),
                 pair(EDGE_ISA_BACKWARD.key, EDGE_ISA_BACKWARD),
                 pair(EDGE_SUB_FORWARD.key, EDGE_SUB_FORWARD),
                 pair(EDGE_SUB_BACKWARD.key, EDGE_SUB_BACKWARD),
@@ -309,7 +328,9 @@ public class Encoding {
                 pair(EDGE_RELATING_FORWARD.key, EDGE_RELATING_FORWARD),
                 pair(EDGE_RELATING_BACKWARD.key, EDGE_RELATING_BACKWARD),
                 pair(EDGE_ROLEPLAYER_FORWARD.key, EDGE_ROLEPLAYER_FORWARD),
-                pair(EDGE_ROLEPLAYER_BACKWARD.key, EDGE_ROLEPLAYER_BACKWARD)
+                pair(EDGE_ROLEPLAYER_BACKWARD.key, EDGE_ROLEPLAYER_BACKWARD),
+                pair(EDGE_SHORTCUT_FORWARD.key, EDGE_SHORTCUT_FORWARD),
+                pair(EDGE_SHORTCUT_BACKWARD.key, EDGE_SHORTCUT_BACKWARD)
         );
 
         public static final int LENGTH = 1;
@@ -357,7 +378,12 @@ public class Encoding {
             REGEX(Infix.PROPERTY_REGEX),
             VALUE_TYPE(Infix.PROPERTY_VALUE_TYPE),
             VALUE_REF(Infix.PROPERTY_VALUE_REF),
-            VALUE(Infix.PROPERTY_VALUE);
+            VALUE(Infix.PROPERTY_VALUE),
+            TEXT_INDEXED(Infix.PROPERTY_TEXT_INDEXED),
+            OWNERSHIP_INDEXED(Infix.PROPERTY_OWNERSHIP_INDEXED),
+            DEGREE_COUNTED(Infix.PROPERTY_DEGREE_COUNTED),
+            EXPIRY(Infix.PROPERTY_EXPIRY),
+            SHORTCUT(Infix.PROPERTY_SHORTCUT);
 
             private final Infix infix;
 
@@ -416,6 +442,8 @@ public class Encoding {
         public static final Charset STRING_ENCODING = UTF_8;
         public static final int STRING_SIZE_ENCODING = SHORT_SIZE;
         public static final int STRING_MAX_SIZE = SHORT_UNSIGNED_MAX_VALUE;
+        public static final int STRING_INLINE_MAX_SIZE = 128;
+        public static final int STRING_OUT_OF_LINE_PREFIX_SIZE = 64;
         public static final double DOUBLE_PRECISION = 0.000001d;
 
         public static final ValueType<Object> OBJECT = new ValueType<>(
@@ -936,6 +964,8 @@ public class Encoding {
                     return Base.RELATING;
                 } else if (Optimised.ROLEPLAYER.forward.key == infix || Optimised.ROLEPLAYER.backward.key == infix) {
                     return Optimised.ROLEPLAYER;
+                } else if (Optimised.SHORTCUT.forward.key == infix || Optimised.SHORTCUT.backward.key == infix) {
+                    return Optimised.SHORTCUT;
                 } else {
                     throw TypeDBException.of(UNRECOGNISED_VALUE);
                 }
@@ -999,8 +1029,15 @@ public class Encoding {
                 }
             }
 
+            /**
+             * Optimisation edges skip over an intermediate vertex, which is encoded in the edge instead: the type of
+             * the skipped vertex as the tail of the infix, and its key as the suffix of the edge.
+             * ROLEPLAYER connects a relation to its players, skipping the role instance; SHORTCUT connects two
+             * players of the same relation, skipping the relation, for relation types that declare a shortcut.
+             */
             enum Optimised implements Thing {
-                ROLEPLAYER(Infix.EDGE_ROLEPLAYER_FORWARD, Infix.EDGE_ROLEPLAYER_BACKWARD, 2);
+                ROLEPLAYER(Infix.EDGE_ROLEPLAYER_FORWARD, Infix.EDGE_ROLEPLAYER_BACKWARD, 2),
+                SHORTCUT(Infix.EDGE_SHORTCUT_FORWARD, Infix.EDGE_SHORTCUT_BACKWARD, 2);
 
                 private final Infix forward;
                 private final Infix backward;
@@ -1039,7 +1076,10 @@ public class Encoding {
 
         enum Prefix {
             TYPE(Encoding.Prefix.INDEX_TYPE),
-            RULE(Encoding.Prefix.INDEX_RULE);
+            RULE(Encoding.Prefix.INDEX_RULE),
+            TEXT(Encoding.Prefix.INDEX_TEXT),
+            OWNERSHIP(Encoding.Prefix.INDEX_OWNERSHIP),
+            EXPIRY(Encoding.Prefix.INDEX_EXPIRY);
 
             private final Encoding.Prefix prefix;
 
@@ -1095,6 +1135,7 @@ public class Encoding {
                 SNAPSHOT(0),
                 VERTEX_COUNT(10),
                 HAS_EDGE_COUNT(20),
+                DEGREE(30),
                 MISCOUNTABLE(50),
                 TXN_COMMITTED_ID(60);
 
@@ -81,6 +81,8 @@ public interface Storage {
 
         KeyGenerator.Data dataKeyGenerator();
 
+        long snapshotStart();
+
         void putTracked(Key key);
 
         void putTracked(Key key, ByteArray value);
@@ -89,10 +91,23 @@ public interface Storage {
 
         void mergeUntracked(Key key, ByteArray value);
 
+        /**
+         * Deletes every key with the prefix when this transaction commits, with a single range tombstone instead of
+         * one per key. Unlike other writes, it is not seen by this transaction, and it is applied after all of them,
+         * atomically with them.
+         */
+        void deleteRangeUntracked(Key.Prefix<?> prefix);
+
         // TODO: investigate why replacing ByteArray with Key for tracking makes navigable set intersection super slow
         void trackModified(ByteArray key);
 
         void trackExclusiveBytes(ByteArray bytes);
+
+        /**
+         * Reserves the key for the value: this transaction conflicts with a concurrent one that reserves the same key
+         * for a different value, but not with one that reserves it for the same value.
+         */
+        void trackExclusiveValue(ByteArray key, ByteArray value);
     }
 
 }
@@ -195,7 +195,7 @@ public abstract class EdgeViewIID<
 
         static Partition computePartition(VertexIID.Thing start, InfixIID.Thing infix) {
             if (start.isAttribute()) return Partition.VARIABLE_START_EDGE;
-            else if (infix.isRolePlayer()) return Partition.OPTIMISATION_EDGE;
+            else if (infix.isOptimised()) return Partition.OPTIMISATION_EDGE;
             else return Partition.FIXED_START_EDGE;
         }
 
@@ -24,9 +24,12 @@ import com.vaticle.typedb.core.encoding.Encoding.Index;
 import com.vaticle.typedb.core.encoding.key.Key;
 
 import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
 
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSorted;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeString;
 import static com.vaticle.typedb.core.common.collection.ByteArray.join;
+import static com.vaticle.typedb.core.common.collection.Bytes.LONG_SIZE;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_ENCODING;
 
 public abstract class IndexIID extends PartitionedIID {
@@ -188,4 +191,160 @@ public abstract class IndexIID extends PartitionedIID {
             return readableString;
         }
     }
+
+    /**
+     * A posting of the text index of a string attribute type: the attribute contains the trigram, once case-folded.
+     * Postings of one trigram are contiguous and sorted by attribute, so that they can be intersected by seeking.
+     */
+    public static class Text extends IndexIID {
+
+        public static final int TRIGRAM_LENGTH = 3 * Character.BYTES;
+        public static final int TRIGRAM_PREFIX_LENGTH = PrefixIID.LENGTH + VertexIID.Type.LENGTH + TRIGRAM_LENGTH;
+
+        Text(ByteArray bytes) {
+            super(bytes);
+        }
+
+        public static Text of(VertexIID.Type typeIID, String trigram, VertexIID.Attribute.String attributeIID) {
+            return new Text(join(Index.Prefix.TEXT.bytes(), typeIID.bytes, encodeTrigram(trigram), attributeIID.bytes));
+        }
+
+        public static Key.Prefix<Text> prefix(VertexIID.Type typeIID, String trigram) {
+            return new Key.Prefix<>(join(Index.Prefix.TEXT.bytes(), typeIID.bytes, encodeTrigram(trigram)),
+                    Partition.TEXT_INDEX, Text::new);
+        }
+
+        public static Key.Prefix<Text> prefix(VertexIID.Type typeIID) {
+            return new Key.Prefix<>(join(Index.Prefix.TEXT.bytes(), typeIID.bytes), Partition.TEXT_INDEX, Text::new);
+        }
+
+        private static ByteArray encodeTrigram(String trigram) {
+            assert trigram.length() == 3;
+            ByteBuffer buffer = ByteBuffer.allocate(TRIGRAM_LENGTH);
+            for (int i = 0; i < trigram.length(); i++) buffer.putChar(trigram.charAt(i));
+            return ByteArray.of(buffer.array());
+        }
+
+        @Override
+        public Partition partition() {
+            return Partition.TEXT_INDEX;
+        }
+
+        public VertexIID.Attribute.String attribute() {
+            return VertexIID.Attribute.String.extract(bytes, TRIGRAM_PREFIX_LENGTH);
+        }
+
+        @Override
+        public String toString() {
+            if (readableString == null) {
+                ByteBuffer trigram = ByteBuffer.wrap(bytes.view(PrefixIID.LENGTH + VertexIID.Type.LENGTH, TRIGRAM_PREFIX_LENGTH).getBytes());
+                readableString = "[" + PrefixIID.LENGTH + ": " + Index.Prefix.TEXT.toString() + "]" +
+                        "[" + VertexIID.Type.LENGTH + ": " + VertexIID.Type.of(bytes.view(PrefixIID.LENGTH, PrefixIID.LENGTH + VertexIID.Type.LENGTH)) + "]" +
+                        "[" + TRIGRAM_LENGTH + ": " + trigram.getChar() + trigram.getChar() + trigram.getChar() + "]" +
+                        "[" + (bytes.length() - TRIGRAM_PREFIX_LENGTH) + ": " + attribute() + "]" +
+                        "[partition: " + partition() + "]";
+            }
+            return readableString;
+        }
+    }
+
+    /**
+     * An entry of the ownership index of an attribute type: an instance of the owner type has the attribute. Entries
+     * of one owner type and attribute type are contiguous and sorted by attribute, i.e. by value, so that the
+     * attributes owned by instances of one type are found by a prefix scan instead of by reading the edges of every
+     * attribute of the attribute type.
+     */
+    public static class Ownership extends IndexIID {
+
+        private static final int ATTRIBUTE_INDEX = PrefixIID.LENGTH + VertexIID.Type.LENGTH;
+
+        Ownership(ByteArray bytes) {
+            super(bytes);
+        }
+
+        public static Ownership of(VertexIID.Thing ownerIID, VertexIID.Attribute<?> attributeIID) {
+            return new Ownership(join(Index.Prefix.OWNERSHIP.bytes(), ownerIID.type().bytes, attributeIID.bytes, ownerIID.bytes));
+        }
+
+        public static Key.Prefix<Ownership> prefix(VertexIID.Type ownerTypeIID, VertexIID.Type attributeTypeIID) {
+            return new Key.Prefix<>(
+                    join(Index.Prefix.OWNERSHIP.bytes(), ownerTypeIID.bytes, Encoding.Vertex.Thing.ATTRIBUTE.prefix().bytes(), attributeTypeIID.bytes),
+                    Partition.DEFAULT,
+                    Ownership::new
+            );
+        }
+
+        public static Key.Prefix<Ownership> prefix(VertexIID.Type ownerTypeIID) {
+            return new Key.Prefix<>(join(Index.Prefix.OWNERSHIP.bytes(), ownerTypeIID.bytes), Partition.DEFAULT, Ownership::new);
+        }
+
+        /**
+         * @return a key that sorts before every entry of the attribute, or after every entry of it if {@code isUpper}
+         */
+        public static Ownership bound(VertexIID.Type ownerTypeIID, VertexIID.Attribute<?> attributeIID, boolean isUpper) {
+            ByteArray bound = join(Index.Prefix.OWNERSHIP.bytes(), ownerTypeIID.bytes, attributeIID.bytes);
+            return new Ownership(isUpper ? join(bound, ByteArray.of(new byte[]{(byte) 0xFF})) : bound);
+        }
+
+        public VertexIID.Attribute<?> attribute() {
+            return VertexIID.Attribute.extract(bytes, ATTRIBUTE_INDEX);
+        }
+
+        public VertexIID.Thing owner() {
+            return VertexIID.Thing.extract(bytes, ATTRIBUTE_INDEX + attribute().bytes().length());
+        }
+
+        @Override
+        public String toString() {
+            if (readableString == null) {
+                readableString = "[" + PrefixIID.LENGTH + ": " + Index.Prefix.OWNERSHIP.toString() + "]" +
+                        "[" + VertexIID.Type.LENGTH + ": " + VertexIID.Type.extract(bytes, PrefixIID.LENGTH) + "]" +
+                        "[" + attribute().bytes().length() + ": " + attribute() + "]" +
+                        "[" + owner().bytes().length() + ": " + owner() + "]" +
+                        "[partition: " + partition() + "]";
+            }
+            return readableString;
+        }
+    }
+
+    /**
+     * An entry of the expiry index: an instance of a type with an expiry is due to expire at the given time, in epoch
+     * milliseconds. Entries are sorted by that time, so that the expired instances are found at the start of the index.
+     */
+    public static class Expiry extends IndexIID {
+
+        private static final int DEADLINE_INDEX = PrefixIID.LENGTH;
+        private static final int THING_INDEX = DEADLINE_INDEX + LONG_SIZE;
+
+        Expiry(ByteArray bytes) {
+            super(bytes);
+        }
+
+        public static Expiry of(long deadline, VertexIID.Thing thingIID) {
+            return new Expiry(join(Index.Prefix.EXPIRY.bytes(), encodeLongAsSorted(deadline), thingIID.bytes));
+        }
+
+        public static Key.Prefix<Expiry> prefix() {
+            return new Key.Prefix<>(Index.Prefix.EXPIRY.bytes(), Partition.DEFAULT, Expiry::new);
+        }
+
+        public long deadline() {
+            return bytes.view(DEADLINE_INDEX, THING_INDEX).decodeSortedAsLong();
+        }
+
+        public VertexIID.Thing thing() {
+            return VertexIID.Thing.extract(bytes, THING_INDEX);
+        }
+
+        @Override
+        public String toString() {
+            if (readableString == null) {
+                readableString = "[" + PrefixIID.LENGTH + ": " + Index.Prefix.EXPIRY.toString() + "]" +
+                        "[" + LONG_SIZE + ": " + deadline() + "]" +
+                        "[" + thing().bytes().length() + ": " + thing() + "]" +
+                        "[partition: " + partition() + "]";
+            }
+            return readableString;
+        }
+    }
 }
@@ -26,7 +26,6 @@ import java.util.Optional;
 
 import static com.vaticle.typedb.core.common.collection.ByteArray.join;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
-import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
 
 public abstract class InfixIID<EDGE_ENCODING extends Encoding.Edge> extends IID {
 
@@ -85,17 +84,17 @@ public abstract class InfixIID<EDGE_ENCODING extends Encoding.Edge> extends IID
         }
 
         static InfixIID.Thing extract(ByteArray bytes, int from) {
-            if (Encoding.Edge.Thing.of(bytes.get(from)).equals(ROLEPLAYER)) return RolePlayer.extract(bytes, from);
+            if (Encoding.Edge.Thing.of(bytes.get(from)).isOptimisation()) return Optimised.extract(bytes, from);
             else return new Thing(bytes.view(from, from + 1));
         }
 
         public static InfixIID.Thing of(Encoding.Infix infix) {
-            if (Encoding.Edge.Thing.of(infix).equals(ROLEPLAYER)) return new RolePlayer(infix.bytes());
+            if (Encoding.Edge.Thing.of(infix).isOptimisation()) return new Optimised(infix.bytes());
             else return new Thing(infix.bytes());
         }
 
         public static InfixIID.Thing of(Encoding.Infix infix, VertexIID.Type type) {
-            if (Encoding.Edge.Thing.of(infix).equals(ROLEPLAYER)) return RolePlayer.of(infix, type);
+            if (Encoding.Edge.Thing.of(infix).isOptimisation()) return Optimised.of(infix, type);
             else throw TypeDBException.of(ILLEGAL_ARGUMENT);
         }
 
@@ -118,33 +117,36 @@ public abstract class InfixIID<EDGE_ENCODING extends Encoding.Edge> extends IID
             return new InfixIID.Thing(ByteArray.of(bytesClone));
         }
 
-        public InfixIID.RolePlayer asRolePlayer() {
-            if (this instanceof InfixIID.RolePlayer) return (InfixIID.RolePlayer) this;
+        public InfixIID.Optimised asOptimised() {
+            if (this instanceof InfixIID.Optimised) return (InfixIID.Optimised) this;
             else assert false;
             return null;
         }
 
-        public boolean isRolePlayer() {
+        public boolean isOptimised() {
             return false;
         }
     }
 
-    public static class RolePlayer extends InfixIID.Thing {
+    /**
+     * The infix of an optimisation edge, followed by the type of the vertex the edge skips over.
+     */
+    public static class Optimised extends InfixIID.Thing {
 
         public static final int LENGTH = DEFAULT_LENGTH + VertexIID.Type.LENGTH;
 
-        private RolePlayer(ByteArray bytes) {
+        private Optimised(ByteArray bytes) {
             super(bytes);
         }
 
-        public static RolePlayer of(Encoding.Infix infix, VertexIID.Type type) {
-            assert Encoding.Edge.Thing.of(infix).equals(ROLEPLAYER) && type != null;
-            return new RolePlayer(join(infix.bytes(), type.bytes()));
+        public static Optimised of(Encoding.Infix infix, VertexIID.Type type) {
+            assert Encoding.Edge.Thing.of(infix).isOptimisation() && type != null;
+            return new Optimised(join(infix.bytes(), type.bytes()));
         }
 
-        static RolePlayer extract(ByteArray bytes, int from) {
-            assert Encoding.Edge.Thing.of(bytes.get(from)).equals(ROLEPLAYER);
-            return new RolePlayer(join(bytes.view(from, from + DEFAULT_LENGTH), VertexIID.Type.extract(bytes, from + DEFAULT_LENGTH).bytes));
+        static Optimised extract(ByteArray bytes, int from) {
+            assert Encoding.Edge.Thing.of(bytes.get(from)).isOptimisation();
+            return new Optimised(join(bytes.view(from, from + DEFAULT_LENGTH), VertexIID.Type.extract(bytes, from + DEFAULT_LENGTH).bytes));
         }
 
         public Optional<VertexIID.Type> tail() {
@@ -153,7 +155,7 @@ public abstract class InfixIID<EDGE_ENCODING extends Encoding.Edge> extends IID
         }
 
         @Override
-        public boolean isRolePlayer() {
+        public boolean isOptimised() {
             return true;
         }
     }
@@ -27,9 +27,12 @@ import com.vaticle.typedb.core.encoding.key.Key;
 import com.vaticle.typedb.core.encoding.key.KeyGenerator;
 
 import static com.vaticle.typedb.common.util.Objects.className;
+import static com.vaticle.typedb.core.common.collection.ByteArray.compactLongLength;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeDateTimeAsSorted;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeDoubleAsSorted;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLong;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSorted;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeString;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeStringAsSorted;
 import static com.vaticle.typedb.core.common.collection.ByteArray.join;
 import static com.vaticle.typedb.core.common.collection.Bytes.DATETIME_SIZE;
@@ -47,7 +50,8 @@ import static com.vaticle.typedb.core.encoding.Encoding.ValueType.DOUBLE;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.LONG;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_ENCODING;
-import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_MAX_SIZE;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_INLINE_MAX_SIZE;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_OUT_OF_LINE_PREFIX_SIZE;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_SIZE_ENCODING;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.TIME_ZONE_ID;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.ATTRIBUTE;
@@ -138,7 +142,8 @@ public abstract class VertexIID extends PartitionedIID {
     public static class Thing extends VertexIID {
 
         public static final int PREFIX_W_TYPE_LENGTH = PrefixIID.LENGTH + VertexIID.Type.LENGTH;
-        public static final int DEFAULT_LENGTH = PREFIX_W_TYPE_LENGTH + LONG_SIZE;
+        // the generated key is a compact long, which takes three bytes for the keys below 2^16 that most instances have
+        public static final int COMMON_LENGTH = PREFIX_W_TYPE_LENGTH + 3;
 
         private Thing(ByteArray bytes) {
             super(bytes);
@@ -169,7 +174,8 @@ public abstract class VertexIID extends PartitionedIID {
             if (Encoding.Vertex.Thing.of(bytes.get(from)).equals(ATTRIBUTE)) {
                 return VertexIID.Attribute.extract(bytes, from);
             } else {
-                return new VertexIID.Thing(bytes.view(from, from + DEFAULT_LENGTH));
+                int keyLength = compactLongLength(bytes.get(from + PREFIX_W_TYPE_LENGTH));
+                return new VertexIID.Thing(bytes.view(from, from + PREFIX_W_TYPE_LENGTH + keyLength));
             }
         }
 
@@ -203,8 +209,8 @@ public abstract class VertexIID extends PartitionedIID {
             if (readableString == null) {
                 readableString = "[" + PrefixIID.LENGTH + ": " + encoding().toString() + "]" +
                         "[" + VertexIID.Type.LENGTH + ": " + type().toString() + "]" +
-                        "[" + (DEFAULT_LENGTH - PREFIX_W_TYPE_LENGTH) + ": " +
-                        bytes.view(PREFIX_W_TYPE_LENGTH, DEFAULT_LENGTH).decodeSortedAsLong() + "]" +
+                        "[" + (bytes.length() - PREFIX_W_TYPE_LENGTH) + ": " +
+                        bytes.view(PREFIX_W_TYPE_LENGTH).decodeSortedAsCompactLong() + "]" +
                         "[partition: " + partition() + "]";
             }
             return readableString;
@@ -260,6 +266,25 @@ public abstract class VertexIID extends PartitionedIID {
 
         public abstract VALUE value();
 
+        /**
+         * @return false if the value is too large to be encoded in this IID, and is instead stored under it
+         */
+        public boolean isValueInline() {
+            return true;
+        }
+
+        public boolean isValueLoaded() {
+            return true;
+        }
+
+        public ByteArray storedValue() {
+            throw TypeDBException.of(ILLEGAL_STATE);
+        }
+
+        public void loadValue(ByteArray storedValue) {
+            throw TypeDBException.of(ILLEGAL_STATE);
+        }
+
         public Encoding.ValueType<VALUE> valueType() {
             return valueType;
         }
@@ -299,7 +324,7 @@ public abstract class VertexIID extends PartitionedIID {
                 readableString = "[" + PrefixIID.LENGTH + ": " + ATTRIBUTE.toString() + "]" +
                         "[" + VertexIID.Type.LENGTH + ": " + type().toString() + "]" +
                         "[" + VALUE_TYPE_LENGTH + ": " + valueType().toString() + "]" +
-                        "[" + (bytes.length() - VALUE_INDEX) + ": " + value().toString() + "]" +
+                        "[" + (bytes.length() - VALUE_INDEX) + ": " + (isValueLoaded() ? value().toString() : "(stored)") + "]" +
                         "[partition: " + partition() + "]";
             }
             return readableString;
@@ -383,28 +408,110 @@ public abstract class VertexIID extends PartitionedIID {
             }
         }
 
+        /**
+         * A string of up to {@code STRING_INLINE_MAX_SIZE} bytes is encoded in full: its length, then its bytes.
+         * A longer string is stored out of line, under an IID of its length, its first
+         * {@code STRING_OUT_OF_LINE_PREFIX_SIZE} bytes, a hash of its bytes, and a disambiguator between strings that
+         * share all three. The IID is then small enough to be repeated in every edge key, and still sorts by length
+         * and prefix, but its value has to be read from storage, and only the graph can pick its disambiguator.
+         */
         public static class String extends Attribute<java.lang.String> {
 
+            private static final int HASH_LENGTH = LONG_SIZE;
+            private static final int DISAMBIGUATOR_LENGTH = 1;
+            private static final int OUT_OF_LINE_LENGTH = STRING_OUT_OF_LINE_PREFIX_SIZE + HASH_LENGTH + DISAMBIGUATOR_LENGTH;
+            public static final int MAX_DISAMBIGUATOR = 255;
+
             private String(ByteArray bytes) {
                 super(bytes, STRING);
             }
 
+            private String(ByteArray bytes, java.lang.String value) {
+                super(bytes, STRING, value);
+            }
+
             public String(VertexIID.Type typeIID, java.lang.String value) throws TypeDBCheckedException {
-                super(STRING, typeIID, encodeStringAsSorted(value, STRING_ENCODING), value);
-                assert bytes.length() <= STRING_MAX_SIZE + STRING_SIZE_ENCODING;
+                super(STRING, typeIID, encodeValue(value), value);
+                assert bytes.length() <= VALUE_INDEX + STRING_SIZE_ENCODING + STRING_INLINE_MAX_SIZE;
+            }
+
+            private static ByteArray encodeValue(java.lang.String value) throws TypeDBCheckedException {
+                ByteArray sorted = encodeStringAsSorted(value, STRING_ENCODING);
+                if (sorted.length() <= STRING_SIZE_ENCODING + STRING_INLINE_MAX_SIZE) return sorted;
+                return join(
+                        sorted.view(0, STRING_SIZE_ENCODING + STRING_OUT_OF_LINE_PREFIX_SIZE),
+                        hash(sorted.view(STRING_SIZE_ENCODING)),
+                        ByteArray.of((byte) 0)
+                );
+            }
+
+            private static ByteArray hash(ByteArray valueBytes) {
+                long hash = 0xCBF29CE484222325L;
+                for (int i = 0; i < valueBytes.length(); i++) hash = (hash ^ (valueBytes.get(i) & 0xFF)) * 0x100000001B3L;
+                return encodeLong(hash);
             }
 
             public static VertexIID.Attribute.String extract(ByteArray bytes, int from) {
                 int attValIndex = from + VALUE_INDEX;
                 int strValLen = bytes.view(attValIndex, attValIndex + STRING_SIZE_ENCODING).decodeUnsignedShort();
-                int stringEnd = from + PREFIX_W_TYPE_LENGTH + VALUE_TYPE_LENGTH + STRING_SIZE_ENCODING + strValLen;
+                int encodedLen = strValLen <= STRING_INLINE_MAX_SIZE ? strValLen : OUT_OF_LINE_LENGTH;
+                int stringEnd = from + PREFIX_W_TYPE_LENGTH + VALUE_TYPE_LENGTH + STRING_SIZE_ENCODING + encodedLen;
                 return new VertexIID.Attribute.String(bytes.view(from, stringEnd));
             }
 
+            private int valueLength() {
+                return bytes.view(VALUE_INDEX, VALUE_INDEX + STRING_SIZE_ENCODING).decodeUnsignedShort();
+            }
+
+            @Override
+            public boolean isValueInline() {
+                return valueLength() <= STRING_INLINE_MAX_SIZE;
+            }
+
+            @Override
+            public boolean isValueLoaded() {
+                return value != null || isValueInline();
+            }
+
+            public int disambiguator() {
+                assert !isValueInline();
+                return bytes.get(bytes.length() - DISAMBIGUATOR_LENGTH) & 0xFF;
+            }
+
+            public VertexIID.Attribute.String disambiguated(int disambiguator) {
+                assert !isValueInline() && disambiguator <= MAX_DISAMBIGUATOR;
+                byte[] disambiguated = bytes.cloneBytes();
+                disambiguated[disambiguated.length - DISAMBIGUATOR_LENGTH] = (byte) disambiguator;
+                return new VertexIID.Attribute.String(ByteArray.of(disambiguated), value);
+            }
+
+            /**
+             * @return the prefix shared by every out-of-line string this IID could be disambiguated from
+             */
+            public Key.Prefix<VertexIID.Attribute.String> disambiguationPrefix() {
+                assert !isValueInline();
+                return new Key.Prefix<>(bytes.view(0, bytes.length() - DISAMBIGUATOR_LENGTH), PARTITION,
+                        key -> extract(key, 0));
+            }
+
+            @Override
+            public ByteArray storedValue() {
+                assert !isValueInline() && value != null;
+                return encodeString(value, STRING_ENCODING);
+            }
+
+            @Override
+            public void loadValue(ByteArray storedValue) {
+                assert !isValueInline() && storedValue.length() == valueLength();
+                value = storedValue.decodeString(STRING_ENCODING);
+            }
+
             @Override
             public java.lang.String value() {
-                if (value == null)
+                if (value == null) {
+                    if (!isValueInline()) throw TypeDBException.of(ILLEGAL_STATE);
                     value = bytes.view(VALUE_INDEX, bytes.length()).decodeSortedAsString(STRING_ENCODING);
+                }
                 return value;
             }
 
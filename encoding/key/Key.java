@@ -21,6 +21,7 @@ package com.vaticle.typedb.core.encoding.key;
 import com.vaticle.typedb.core.common.collection.ByteArray;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.encoding.Encoding;
+import com.vaticle.typedb.core.encoding.iid.IndexIID;
 import com.vaticle.typedb.core.encoding.iid.InfixIID;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 
@@ -35,9 +36,13 @@ public interface Key extends Comparable<Key> {
     enum Partition {
         DEFAULT(Encoding.Partition.DEFAULT, null),
         VARIABLE_START_EDGE(Encoding.Partition.VARIABLE_START_EDGE, null),
-        FIXED_START_EDGE(Encoding.Partition.FIXED_START_EDGE, VertexIID.Thing.DEFAULT_LENGTH + InfixIID.Thing.DEFAULT_LENGTH + VertexIID.Thing.PREFIX_W_TYPE_LENGTH),
-        OPTIMISATION_EDGE(Encoding.Partition.OPTIMISATION_EDGE, VertexIID.Thing.DEFAULT_LENGTH + InfixIID.Thing.RolePlayer.LENGTH + VertexIID.Thing.PREFIX_W_TYPE_LENGTH),
-        METADATA(Encoding.Partition.METADATA, null);
+        // thing IIDs vary in length, so the fixed start spans the common one: it covers the start vertex, infix and
+        // adjacent type of most vertices, and the start vertex and infix of those with larger keys. Scans from the
+        // shorter IIDs of the first 256 instances of a type are shorter than the fixed start, so they skip the bloom
+        FIXED_START_EDGE(Encoding.Partition.FIXED_START_EDGE, VertexIID.Thing.COMMON_LENGTH + InfixIID.Thing.DEFAULT_LENGTH + VertexIID.Thing.PREFIX_W_TYPE_LENGTH),
+        OPTIMISATION_EDGE(Encoding.Partition.OPTIMISATION_EDGE, VertexIID.Thing.COMMON_LENGTH + InfixIID.Optimised.LENGTH + VertexIID.Thing.PREFIX_W_TYPE_LENGTH),
+        METADATA(Encoding.Partition.METADATA, null),
+        TEXT_INDEX(Encoding.Partition.TEXT_INDEX, IndexIID.Text.TRIGRAM_PREFIX_LENGTH);
 
         private final Encoding.Partition encoding;
         private final Integer fixedStartBytes;
@@ -53,6 +58,8 @@ public interface Key extends Comparable<Key> {
                 return OPTIMISATION_EDGE;
             } else if (ID == Encoding.Partition.METADATA.ID()) {
                 return METADATA;
+            } else if (ID == Encoding.Partition.TEXT_INDEX.ID()) {
+                return TEXT_INDEX;
             } else {
                 throw TypeDBException.of(UNRECOGNISED_VALUE);
             }
@@ -38,7 +38,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeInt;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLong;
-import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSorted;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSortedCompact;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeShortAsSorted;
 import static com.vaticle.typedb.core.common.collection.Bytes.INTEGER_SIZE;
 import static com.vaticle.typedb.core.common.collection.Bytes.LONG_SIZE;
@@ -51,7 +51,6 @@ import static com.vaticle.typedb.core.encoding.Encoding.Key.PERSISTED;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.ENTITY;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.RELATION;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.ROLE;
-import static com.vaticle.typedb.core.encoding.iid.VertexIID.Thing.DEFAULT_LENGTH;
 import static com.vaticle.typedb.core.encoding.iid.VertexIID.Thing.PREFIX_W_TYPE_LENGTH;
 
 public class KeyGenerator {
@@ -186,7 +185,7 @@ public class KeyGenerator {
                 thingKeys.get(typeIID).addAndGet(-1 * delta);
                 throw TypeDBException.of(MAX_INSTANCE_REACHED, typeLabel, LONG_MAX_VALUE);
             }
-            return encodeLongAsSorted(key);
+            return encodeLongAsSortedCompact(key);
         }
 
         public ByteArray serialise() {
@@ -241,7 +240,7 @@ public class KeyGenerator {
                         VertexIID.Type typeIID = typeIterator.next();
                         VertexIID.Thing lastIID = dataStorage.getLastKey(VertexIID.Thing.prefix(typeIID));
                         AtomicLong nextValue = lastIID != null ?
-                                new AtomicLong(lastIID.bytes().view(PREFIX_W_TYPE_LENGTH, DEFAULT_LENGTH).decodeSortedAsLong() + delta) :
+                                new AtomicLong(lastIID.bytes().view(PREFIX_W_TYPE_LENGTH).decodeSortedAsCompactLong() + delta) :
                                 new AtomicLong(initialValue);
                         thingKeys.put(typeIID, nextValue);
                     }
@@ -63,6 +63,24 @@ public class StatisticsKey implements Key {
         ));
     }
 
+    public static StatisticsKey degree(VertexIID.Thing thingIID, Encoding.Infix infix, VertexIID.Type adjacentTypeIID) {
+        return new StatisticsKey(join(
+                Statistics.Prefix.DEGREE.bytes(),
+                thingIID.bytes(),
+                infix.bytes(),
+                adjacentTypeIID.bytes()
+        ));
+    }
+
+    public static Prefix<StatisticsKey> degreePrefix(VertexIID.Thing thingIID) {
+        return new Prefix<>(join(Statistics.Prefix.DEGREE.bytes(), thingIID.bytes()), Partition.METADATA, StatisticsKey::new);
+    }
+
+    public static Prefix<StatisticsKey> degreePrefix(VertexIID.Type typeIID) {
+        return new Prefix<>(join(Statistics.Prefix.DEGREE.bytes(), VertexIID.Thing.prefix(typeIID).bytes()),
+                Partition.METADATA, StatisticsKey::new);
+    }
+
     public static StatisticsKey txnCommitted(long txnID) {
         return new StatisticsKey(join(
                 Statistics.Prefix.TXN_COMMITTED_ID.bytes(),
@@ -20,6 +20,7 @@ package com.vaticle.typedb.core.graph;
 
 import com.vaticle.typedb.common.collection.ConcurrentSet;
 import com.vaticle.typedb.common.collection.Pair;
+import com.vaticle.typedb.core.common.cache.CommonCache;
 import com.vaticle.typedb.core.common.collection.ByteArray;
 import com.vaticle.typedb.core.common.collection.KeyValue;
 import com.vaticle.typedb.core.common.exception.TypeDBCheckedException;
@@ -31,8 +32,12 @@ import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.common.parameters.Order;
 import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.encoding.Storage;
+import com.vaticle.typedb.core.encoding.iid.EdgeViewIID;
+import com.vaticle.typedb.core.encoding.iid.IndexIID;
+import com.vaticle.typedb.core.encoding.iid.InfixIID;
 import com.vaticle.typedb.core.encoding.iid.PartitionedIID;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.encoding.key.Key;
 import com.vaticle.typedb.core.encoding.key.KeyGenerator;
 import com.vaticle.typedb.core.encoding.key.StatisticsKey;
 import com.vaticle.typedb.core.graph.edge.ThingEdge;
@@ -42,30 +47,44 @@ import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typedb.core.graph.vertex.impl.AttributeVertexImpl;
 import com.vaticle.typedb.core.graph.vertex.impl.ThingVertexImpl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.common.collection.Collections.list;
 import static com.vaticle.typedb.common.collection.Collections.pair;
+import static com.vaticle.typedb.common.collection.Collections.set;
 import static com.vaticle.typedb.core.common.collection.ByteArray.empty;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLong;
 import static com.vaticle.typedb.core.common.collection.ByteArray.join;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Encoding.ILLEGAL_STRING_SIZE;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.PURGED_INSTANCES_PLAY_ROLES;
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.iterator.Iterators.link;
+import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.intersect;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.iterateSorted;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.SHORTCUT;
 import static com.vaticle.typedb.core.encoding.Encoding.Status.BUFFERED;
 import static com.vaticle.typedb.core.encoding.Encoding.Status.PERSISTED;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.BOOLEAN;
@@ -76,6 +95,7 @@ import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_MAX_SIZE;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.ATTRIBUTE;
 import static com.vaticle.typedb.core.encoding.iid.VertexIID.Thing.generate;
+import static java.util.Collections.emptySet;
 
 public class ThingGraph {
 
@@ -87,16 +107,29 @@ public class ThingGraph {
     private final ConcurrentMap<VertexIID.Type, ConcurrentSkipListSet<ThingVertex.Write>> thingsByTypeIID;
     private final Map<VertexIID.Thing, VertexIID.Thing> committedIIDs;
     private final Statistics statistics;
+    private final AttributeCache attributeCache;
+    private final TextIndex textIndex;
+    private final OwnershipIndex ownershipIndex;
+    private final Degrees degrees;
+    private final Expiries expiries;
+    private final Shortcuts shortcuts;
     private final ConcurrentSet<AttributeVertex.Write<?>> attributesCreated;
     private final ConcurrentSet<AttributeVertex<?>> attributesDeleted;
     private final ConcurrentSet<ThingEdge> hasEdgeCreated;
     private final ConcurrentSet<ThingEdge> hasEdgeDeleted;
+    private final ConcurrentSet<Label> typesDeleted;
     private boolean isModified;
 
-    public ThingGraph(Storage.Data storage, TypeGraph typeGraph, Statistics statistics) {
+    public ThingGraph(Storage.Data storage, TypeGraph typeGraph, Statistics statistics, AttributeCache attributeCache) {
         this.storage = storage;
         this.typeGraph = typeGraph;
         this.statistics = statistics;
+        this.attributeCache = attributeCache;
+        this.textIndex = new TextIndex(this);
+        this.ownershipIndex = new OwnershipIndex(this);
+        this.degrees = new Degrees(this);
+        this.expiries = new Expiries(this);
+        this.shortcuts = new Shortcuts(this);
         keyGenerator = new KeyGenerator.Data.Buffered();
         thingsByIID = new ConcurrentHashMap<>();
         attributesByIID = new AttributesByIID();
@@ -106,6 +139,7 @@ public class ThingGraph {
         attributesDeleted = new ConcurrentSet<>();
         hasEdgeCreated = new ConcurrentSet<>();
         hasEdgeDeleted = new ConcurrentSet<>();
+        typesDeleted = new ConcurrentSet<>();
     }
 
     public Storage.Data storage() {
@@ -120,10 +154,39 @@ public class ThingGraph {
         return statistics;
     }
 
+    public ThingGraph.TextIndex textIndex() {
+        return textIndex;
+    }
+
+    public ThingGraph.OwnershipIndex ownershipIndex() {
+        return ownershipIndex;
+    }
+
+    public ThingGraph.Degrees degrees() {
+        return degrees;
+    }
+
+    public ThingGraph.Expiries expiries() {
+        return expiries;
+    }
+
+    public ThingGraph.Shortcuts shortcuts() {
+        return shortcuts;
+    }
+
     public FunctionalIterator<ThingVertex.Write> writeVertices() {
         return link(thingsByIID.values().iterator(), attributesByIID.valuesIterator());
     }
 
+    /**
+     * @return the labels of the types whose instances are created, modified or deleted by this graph
+     */
+    public Set<Label> writtenTypes() {
+        Set<Label> types = writeVertices().map(vertex -> vertex.type().properLabel()).toSet();
+        types.addAll(typesDeleted);
+        return types;
+    }
+
     public ThingVertex getReadable(VertexIID.Thing iid, boolean maybeInvalid) {
         assert storage.isOpen();
         if (iid.encoding().equals(ATTRIBUTE)) return getReadable(iid.asAttribute(), maybeInvalid);
@@ -169,11 +232,11 @@ public class ThingGraph {
             else return vertex;
         } else if (valueType == STRING) {
             vertex = attributesByIID.strings.get(attIID.asString());
-            if (vertex == null) return new AttributeVertexImpl.Read.String(this, attIID.asString());
+            if (vertex == null) return new AttributeVertexImpl.Read.String(this, attributeCache.get(attIID.asString()));
             else return vertex;
         } else if (valueType == DATETIME) {
             vertex = attributesByIID.dateTimes.get(attIID.asDateTime());
-            if (vertex == null) return new AttributeVertexImpl.Read.DateTime(this, attIID.asDateTime());
+            if (vertex == null) return new AttributeVertexImpl.Read.DateTime(this, attributeCache.get(attIID.asDateTime()));
             else return vertex;
         }
         assert false;
@@ -231,10 +294,12 @@ public class ThingGraph {
     }
 
     public <ORDER extends Order> Forwardable<ThingVertex, ORDER> getReadable(TypeVertex typeVertex, ORDER order) {
-        Forwardable<ThingVertex, ORDER> vertices = storage.iterate(
+        Forwardable<KeyValue<VertexIID.Thing, ByteArray>, ORDER> kvs = storage.iterate(
                 VertexIID.Thing.prefix(typeVertex.iid()),
                 order
-        ).mapSorted(kv -> convertToReadable(kv.key()), vertex -> KeyValue.of(vertex.iid(), empty()), order);
+        );
+        if (typeVertex.expiry() != null) kvs = kvs.filter(kv -> !expiries.isExpired(kv.value()));
+        Forwardable<ThingVertex, ORDER> vertices = kvs.mapSorted(kv -> convertToReadable(kv.key()), vertex -> KeyValue.of(vertex.iid(), empty()), order);
         if (!thingsByTypeIID.containsKey(typeVertex.iid())) return vertices;
         else {
             // WARN: work around Java's limitations that mean we can't build a .safeCast(Class<SuperType>) on the iterator
@@ -299,11 +364,39 @@ public class ThingGraph {
         }
 
         return getOrReadFromStorage(
-                attributesByIID.strings, attIID,
+                attributesByIID.strings, disambiguate(attIID),
                 iid -> new AttributeVertexImpl.Read.String(this, iid)
         );
     }
 
+    /**
+     * Strings stored out of line share their IID, up to its disambiguator, with any string of the same length,
+     * prefix and hash. Such strings are told apart by their values, which are compared in full.
+     *
+     * @return the IID of the attribute with this value, or the first free IID if there is none
+     */
+    private VertexIID.Attribute.String disambiguate(VertexIID.Attribute.String attIID) {
+        if (attIID.isValueInline()) return attIID;
+        ByteArray value = attIID.storedValue();
+        Set<Integer> stored = new HashSet<>();
+        for (KeyValue<VertexIID.Attribute.String, ByteArray> kv : storage.iterate(attIID.disambiguationPrefix()).toList()) {
+            if (kv.value().equals(value)) return attIID.disambiguated(kv.key().disambiguator());
+            stored.add(kv.key().disambiguator());
+        }
+        VertexIID.Attribute.String free = null;
+        for (int disambiguator = 0; disambiguator <= VertexIID.Attribute.String.MAX_DISAMBIGUATOR; disambiguator++) {
+            VertexIID.Attribute.String candidate = attIID.disambiguated(disambiguator);
+            AttributeVertex.Write<String> buffered = attributesByIID.strings.get(candidate);
+            if (buffered != null) {
+                if (buffered.value().equals(attIID.value())) return candidate;
+            } else if (free == null && !stored.contains(disambiguator)) {
+                free = candidate;
+            }
+        }
+        if (free == null) throw TypeDBException.of(ILLEGAL_STATE);
+        return free;
+    }
+
     public AttributeVertex<LocalDateTime> getReadable(TypeVertex type, LocalDateTime value) {
         assert storage.isOpen();
         assert type.isAttributeType();
@@ -389,7 +482,7 @@ public class ThingGraph {
         }
 
         AttributeVertex.Write<String> vertex = attributesByIID.strings.computeIfAbsent(
-                attIID, iid -> {
+                disambiguate(attIID), iid -> {
                     AttributeVertexImpl.Write.String v = new AttributeVertexImpl.Write.String(this, iid, existence);
                     thingsByTypeIID.computeIfAbsent(type.iid(), t -> new ConcurrentSkipListSet<>()).add(v);
                     vertexCreated(v);
@@ -432,6 +525,7 @@ public class ThingGraph {
                 thingsByTypeIID.get(vertex.iid().type()).remove(vertex);
             }
         }
+        if (vertex.status() == PERSISTED) degrees.vertexDeleted(vertex.iid());
         vertexDeleted(vertex);
     }
 
@@ -451,6 +545,7 @@ public class ThingGraph {
 
     private void vertexDeleted(ThingVertexImpl.Write vertex) {
         statistics.vertexDeleted(vertex.iid().type(), vertex.existence());
+        if (vertex.existence() == STORED) typesDeleted.add(vertex.type().properLabel());
         if (vertex.isAttribute() && vertex.existence() == STORED) {
             if (attributesCreated.contains(vertex.asAttribute())) {
                 // if the vertex has already been created, and we are deleting it, we just reverse the creation
@@ -497,6 +592,45 @@ public class ThingGraph {
         storage.trackExclusiveBytes(join(ownerType.iid().bytes(), attribute.iid().bytes()));
     }
 
+    /**
+     * Deletes every instance of an entity type with range deletes over its vertices, its edges, and its entries in
+     * the ownership index and the degree counters, instead of one delete per key, each of them tracked.
+     * <p>
+     * The only keys of the instances outside these ranges are the reverse has edges, kept by the attributes: they
+     * are deleted as the forward edges are read, without tracking, along with the degree counters of the attributes.
+     * The statistics of the type are reset rather than decremented. Instances that play roles are not purged, as the
+     * role instances and relations they take part in would have to be deleted one by one anyway.
+     */
+    public void purge(TypeVertex type) {
+        assert type.isEntityType();
+        Set<VertexIID.Type> attributeTypes = new HashSet<>();
+        Key.Prefix<EdgeViewIID.Thing> edges = new Key.Prefix<>(
+                VertexIID.Thing.prefix(type.iid()).bytes(), Key.Partition.FIXED_START_EDGE, EdgeViewIID.Thing::of
+        );
+        storage.iterate(edges).forEachRemaining(kv -> {
+            EdgeViewIID.Thing edge = kv.key();
+            if (edge.encoding() != Encoding.Edge.Thing.Base.HAS || !edge.isForward()) {
+                throw storage.exception(TypeDBException.of(PURGED_INSTANCES_PLAY_ROLES, type.properLabel()));
+            }
+            VertexIID.Attribute<?> attribute = edge.end().asAttribute();
+            storage.deleteUntracked(EdgeViewIID.Thing.of(
+                    attribute, InfixIID.Thing.of(Encoding.Edge.Thing.Base.HAS.backward()), edge.start()
+            ));
+            if (degrees.isCounted(attribute)) storage.mergeUntracked(StatisticsKey.degree(
+                    attribute, Encoding.Edge.Thing.Base.HAS.backward(), type.iid()
+            ), encodeLong(-1));
+            attributeTypes.add(attribute.type());
+        });
+        storage.putUntracked(StatisticsKey.vertexCount(type.iid()), encodeLong(0));
+        attributeTypes.forEach(attributeType -> storage.putUntracked(
+                StatisticsKey.hasEdgeCount(type.iid(), attributeType), encodeLong(0)
+        ));
+        storage.deleteRangeUntracked(VertexIID.Thing.prefix(type.iid()));
+        storage.deleteRangeUntracked(edges);
+        storage.deleteRangeUntracked(IndexIID.Ownership.prefix(type.iid()));
+        storage.deleteRangeUntracked(StatisticsKey.degreePrefix(type.iid()));
+    }
+
     public void setModified(PartitionedIID iid) {
         assert storage.isOpen();
         if (!isModified) isModified = true;
@@ -511,6 +645,7 @@ public class ThingGraph {
         thingsByIID.clear();
         thingsByTypeIID.clear();
         attributesByIID.clear();
+        typesDeleted.clear();
         statistics.clear();
     }
 
@@ -560,6 +695,7 @@ public class ThingGraph {
             if (vertex.existence() == STORED) vertex.commit();
         }
         attributesByIID.commit();
+        degrees.commit();
         statistics.commit();
     }
 
@@ -635,6 +771,710 @@ public class ThingGraph {
         }
     }
 
+    /**
+     * The trigram index of the string attribute types that opt into it, which generates the candidates of substring
+     * predicates instead of scanning every attribute of the type. Values are case-folded before being split into
+     * trigrams, so that the candidates are a superset of the answers of a case-insensitive {@code contains}; the
+     * predicates must still be checked on every candidate.
+     * <p>
+     * Postings are written when an attribute is committed, and deleted as soon as the attribute is, so that the index
+     * reads the same snapshot as the attributes themselves, once the attributes buffered in this graph are merged in.
+     */
+    public static class TextIndex {
+
+        private static final int TRIGRAM_SIZE = 3;
+        private static final int MAX_INTERSECTED_TRIGRAMS = 8;
+
+        private final ThingGraph graph;
+
+        private TextIndex(ThingGraph graph) {
+            this.graph = graph;
+        }
+
+        public void put(AttributeVertex<String> attribute) {
+            for (String trigram : trigrams(attribute.value())) {
+                graph.storage.putUntracked(IndexIID.Text.of(attribute.iid().type(), trigram, attribute.iid().asString()));
+            }
+        }
+
+        public void delete(AttributeVertex<String> attribute) {
+            for (String trigram : trigrams(attribute.value())) {
+                graph.storage.deleteUntracked(IndexIID.Text.of(attribute.iid().type(), trigram, attribute.iid().asString()));
+            }
+        }
+
+        /**
+         * Indexes the existing instances of a type that is about to be marked as text indexed.
+         */
+        public void build(TypeVertex type) {
+            assert type.isAttributeType() && type.valueType() == STRING;
+            graph.getReadable(type).forEachRemaining(vertex -> put(vertex.asAttribute().asString()));
+        }
+
+        /**
+         * Deletes all postings of a type that is about to be unmarked as text indexed.
+         */
+        public void drop(TypeVertex type) {
+            graph.storage.iterate(IndexIID.Text.prefix(type.iid()))
+                    .forEachRemaining(kv -> graph.storage.deleteUntracked(kv.key()));
+        }
+
+        /**
+         * @return the attributes of the type that have all the given trigrams, in the order of attribute vertices
+         */
+        public <ORDER extends Order> Forwardable<ThingVertex, ORDER> candidates(
+                TypeVertex type, Set<String> trigrams, ORDER order
+        ) {
+            assert type.isTextIndexed() && !trigrams.isEmpty();
+            // any subset of the trigrams is a correct filter, and seeking through more lists than this rarely pays off
+            List<Forwardable<ThingVertex, ORDER>> postings = new ArrayList<>();
+            for (String trigram : trigrams) {
+                if (postings.size() == MAX_INTERSECTED_TRIGRAMS) break;
+                postings.add(postings(type, trigram, order));
+            }
+            Forwardable<ThingVertex, ORDER> indexed = intersect(iterate(postings), order);
+            if (!graph.thingsByTypeIID.containsKey(type.iid())) return indexed;
+            else {
+                // WARN: work around Java's limitations that mean we can't build a .safeCast(Class<SuperType>) on the iterator
+                Forwardable<ThingVertex, ORDER> buffered = (Forwardable) iterateSorted(graph.thingsByTypeIID.get(type.iid()), order);
+                return indexed.merge(buffered).distinct();
+            }
+        }
+
+        private <ORDER extends Order> Forwardable<ThingVertex, ORDER> postings(TypeVertex type, String trigram, ORDER order) {
+            return graph.storage.iterate(IndexIID.Text.prefix(type.iid(), trigram), order).<ThingVertex, ORDER>mapSorted(
+                    kv -> graph.convertToReadable(kv.key().attribute()),
+                    vertex -> KeyValue.of(IndexIID.Text.of(type.iid(), trigram, vertex.iid().asAttribute().asString()), empty()),
+                    order
+            );
+        }
+
+        /**
+         * @return the trigrams of the case-folded value, which every value that contains it ignoring case also has
+         */
+        public static Set<String> trigrams(String value) {
+            String folded = fold(value);
+            Set<String> trigrams = new HashSet<>();
+            for (int i = 0; i + TRIGRAM_SIZE <= folded.length(); i++) trigrams.add(folded.substring(i, i + TRIGRAM_SIZE));
+            return trigrams;
+        }
+
+        /**
+         * Finds the literal runs that any match of the regex must contain, outside of groups, character classes and
+         * quantified characters, and returns their trigrams. Patterns that are not understood produce no trigrams.
+         */
+        public static Set<String> trigrams(Pattern regex) {
+            if ((regex.flags() & Pattern.LITERAL) != 0) return trigrams(regex.pattern());
+            else if ((regex.flags() & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) return set();
+            String pattern = regex.pattern();
+            Set<String> trigrams = new HashSet<>();
+            StringBuilder run = new StringBuilder();
+            int depth = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                switch (c) {
+                    case '\\':
+                        char escaped = pattern.charAt(++i);
+                        if (Character.isLetterOrDigit(escaped)) {
+                            // escapes followed by arguments (hex, unicode, control, octal, properties, names, quotes
+                            // and back references) are not worth parsing
+                            if ("xuc0123456789pPkNQE".indexOf(escaped) >= 0) return set();
+                            endRun(run, trigrams);
+                        } else if (depth == 0) run.append(escaped);
+                        break;
+                    case '[':
+                        endRun(run, trigrams);
+                        i = endOfClass(pattern, i);
+                        break;
+                    case '(':
+                        endRun(run, trigrams);
+                        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '?' && hasCommentsFlag(pattern, i + 2)) {
+                            return set();
+                        }
+                        depth++;
+                        break;
+                    case ')':
+                        depth--;
+                        break;
+                    case '|':
+                        if (depth == 0) return set();
+                        break;
+                    case '*':
+                    case '?':
+                        removeLast(run);
+                        endRun(run, trigrams);
+                        i = skipQuantifierMode(pattern, i);
+                        break;
+                    case '{':
+                        removeLast(run);
+                        endRun(run, trigrams);
+                        int quantifierEnd = pattern.indexOf('}', i);
+                        if (quantifierEnd < 0) return set();
+                        i = skipQuantifierMode(pattern, quantifierEnd);
+                        break;
+                    case '+':
+                        endRun(run, trigrams);
+                        i = skipQuantifierMode(pattern, i);
+                        break;
+                    case '.':
+                    case '^':
+                    case '$':
+                        endRun(run, trigrams);
+                        break;
+                    default:
+                        if (depth == 0) run.append(c);
+                }
+            }
+            endRun(run, trigrams);
+            return trigrams;
+        }
+
+        private static String fold(String value) {
+            StringBuilder folded = new StringBuilder(value.length());
+            value.codePoints().forEach(c -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+            return folded.toString();
+        }
+
+        private static void endRun(StringBuilder run, Set<String> trigrams) {
+            if (run.length() >= TRIGRAM_SIZE) trigrams.addAll(trigrams(run.toString()));
+            run.setLength(0);
+        }
+
+        private static void removeLast(StringBuilder run) {
+            if (run.length() == 0) return;
+            run.setLength(run.length() - 1);
+            if (run.length() > 0 && Character.isHighSurrogate(run.charAt(run.length() - 1))) run.setLength(run.length() - 1);
+        }
+
+        private static int skipQuantifierMode(String pattern, int quantifierEnd) {
+            // lazy and possessive quantifiers are followed by '?' and '+'
+            if (quantifierEnd + 1 < pattern.length() && (pattern.charAt(quantifierEnd + 1) == '?' ||
+                    pattern.charAt(quantifierEnd + 1) == '+')) {
+                return quantifierEnd + 1;
+            } else return quantifierEnd;
+        }
+
+        private static int endOfClass(String pattern, int start) {
+            int i = start + 1, depth = 1;
+            if (i < pattern.length() && pattern.charAt(i) == '^') i++;
+            if (i < pattern.length() && pattern.charAt(i) == ']') i++;
+            for (; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\') i++;
+                else if (c == '[') depth++;
+                else if (c == ']' && --depth == 0) return i;
+            }
+            return i;
+        }
+
+        private static boolean hasCommentsFlag(String pattern, int flagsStart) {
+            for (int i = flagsStart; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == 'x') return true;
+                else if (!Character.isLetter(c) && c != '-') return false;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The ownership index of the attribute types that opt into it, keyed by owner type, attribute and owner, so that
+     * the attributes of a type owned by instances of one owner type are found by a prefix scan, in the order of
+     * attribute vertices, rather than by reading the backward has edges of every attribute of the type.
+     * <p>
+     * Entries are written as has edges are committed, and deleted as soon as the edges are. The index therefore does
+     * not see the edges buffered in this graph, and must only be read while it {@link #isReadable()}.
+     */
+    public static class OwnershipIndex {
+
+        private final ThingGraph graph;
+
+        private OwnershipIndex(ThingGraph graph) {
+            this.graph = graph;
+        }
+
+        public void put(VertexIID.Thing ownerIID, VertexIID.Attribute<?> attributeIID) {
+            if (isIndexed(attributeIID)) graph.storage.putUntracked(IndexIID.Ownership.of(ownerIID, attributeIID));
+        }
+
+        public void delete(VertexIID.Thing ownerIID, VertexIID.Attribute<?> attributeIID) {
+            if (isIndexed(attributeIID)) graph.storage.deleteUntracked(IndexIID.Ownership.of(ownerIID, attributeIID));
+        }
+
+        private boolean isIndexed(VertexIID.Attribute<?> attributeIID) {
+            return graph.typeGraph.convert(attributeIID.type()).isOwnershipIndexed();
+        }
+
+        /**
+         * Indexes the existing ownerships of a type that is about to be marked as ownership indexed. Ownerships by
+         * owners that are not yet committed are indexed when their edges are.
+         */
+        public void build(TypeVertex attributeType) {
+            assert attributeType.isAttributeType();
+            graph.getReadable(attributeType).forEachRemaining(attribute -> attribute.ins().edge(Encoding.Edge.Thing.Base.HAS).from()
+                    .filter(owner -> owner.status() == PERSISTED)
+                    .forEachRemaining(owner -> graph.storage.putUntracked(
+                            IndexIID.Ownership.of(owner.iid(), attribute.iid().asAttribute())
+                    )));
+        }
+
+        /**
+         * Deletes all entries of a type that is about to be unmarked as ownership indexed.
+         */
+        public void drop(TypeVertex attributeType) {
+            for (TypeVertex ownerType : graph.typeGraph.ownersOfAttributeType(attributeType, emptySet())) {
+                graph.storage.iterate(IndexIID.Ownership.prefix(ownerType.iid(), attributeType.iid()))
+                        .forEachRemaining(kv -> graph.storage.deleteUntracked(kv.key()));
+            }
+        }
+
+        /**
+         * @return false once this graph buffers data, which the index does not see until it is committed
+         */
+        public boolean isReadable() {
+            return !graph.isModified && iterate(graph.thingsByTypeIID.values()).allMatch(Set::isEmpty);
+        }
+
+        /**
+         * @return the attributes of the type that are owned by instances of the owner type, in the order of attribute
+         * vertices, which is the order of their values
+         */
+        public <ORDER extends Order> Forwardable<ThingVertex, ORDER> attributes(
+                TypeVertex ownerType, TypeVertex attributeType, ORDER order
+        ) {
+            assert isReadable() && attributeType.isOwnershipIndexed();
+            return graph.storage.iterate(IndexIID.Ownership.prefix(ownerType.iid(), attributeType.iid()), order)
+                    .<ThingVertex, ORDER>mapSorted(
+                            kv -> graph.convertToReadable(kv.key().attribute()),
+                            // an attribute has an entry per owner, so seek to the first of them in the given order
+                            attribute -> KeyValue.of(IndexIID.Ownership.bound(
+                                    ownerType.iid(), attribute.iid().asAttribute(), order.isDescending()
+                            ), empty()),
+                            order
+                    ).distinct();
+        }
+    }
+
+    /**
+     * Per-vertex degree counters of the types marked as degree counted: for every instance, the number of its edges
+     * with a given infix and a given adjacent type, kept in the statistics keyspace so that the degree of a vertex can
+     * be read with a single lookup instead of a scan of its adjacency.
+     * <p>
+     * Like the rest of the statistics, the counters are written with merge operators as edges are committed and
+     * deleted, so that concurrent transactions never conflict on them, and they do not see the edges buffered in
+     * this graph: they must only be read while {@link #isReadable()}.
+     */
+    public static class Degrees {
+
+        private final ThingGraph graph;
+        private final ConcurrentMap<VertexIID.Thing, ConcurrentMap<Pair<Encoding.Infix, VertexIID.Type>, Long>> deltas;
+        private final ConcurrentSet<VertexIID.Thing> deleted;
+
+        private Degrees(ThingGraph graph) {
+            this.graph = graph;
+            this.deltas = new ConcurrentHashMap<>();
+            this.deleted = new ConcurrentSet<>();
+        }
+
+        public void edgeCreated(VertexIID.Thing fromIID, Encoding.Edge.Thing encoding, VertexIID.Thing toIID) {
+            record(fromIID, encoding, toIID, 1);
+        }
+
+        public void edgeDeleted(VertexIID.Thing fromIID, Encoding.Edge.Thing encoding, VertexIID.Thing toIID) {
+            record(fromIID, encoding, toIID, -1);
+        }
+
+        private void record(VertexIID.Thing fromIID, Encoding.Edge.Thing encoding, VertexIID.Thing toIID, long delta) {
+            if (encoding.isOptimisation()) return;
+            if (isCounted(fromIID)) record(fromIID, encoding.forward(), toIID.type(), delta);
+            if (isCounted(toIID)) record(toIID, encoding.backward(), fromIID.type(), delta);
+        }
+
+        private void record(VertexIID.Thing vertexIID, Encoding.Infix infix, VertexIID.Type adjacentTypeIID, long delta) {
+            deltas.computeIfAbsent(vertexIID, v -> new ConcurrentHashMap<>())
+                    .merge(pair(infix, adjacentTypeIID), delta, Long::sum);
+        }
+
+        public void vertexDeleted(VertexIID.Thing vertexIID) {
+            if (isCounted(vertexIID)) deleted.add(vertexIID);
+        }
+
+        /**
+         * Corrects the counters of a has edge that was counted by two concurrent transactions, or by neither.
+         */
+        public void correctHasEdge(VertexIID.Thing ownerIID, VertexIID.Attribute<?> attributeIID, long delta) {
+            if (isCounted(ownerIID)) graph.storage.mergeUntracked(StatisticsKey.degree(
+                    ownerIID, Encoding.Edge.Thing.Base.HAS.forward(), attributeIID.type()
+            ), encodeLong(delta));
+            if (isCounted(attributeIID)) graph.storage.mergeUntracked(StatisticsKey.degree(
+                    attributeIID, Encoding.Edge.Thing.Base.HAS.backward(), ownerIID.type()
+            ), encodeLong(delta));
+        }
+
+        private boolean isCounted(VertexIID.Thing vertexIID) {
+            TypeVertex type = graph.typeGraph.convert(vertexIID.type());
+            return type != null && type.isDegreeCounted();
+        }
+
+        /**
+         * Counts the degrees of the existing instances of a type that is about to be marked as degree counted.
+         * Edges that are not yet committed are counted when they are.
+         */
+        public void build(TypeVertex type) {
+            graph.getReadable(type).filter(vertex -> vertex.status() == PERSISTED).forEachRemaining(vertex -> {
+                for (Encoding.Edge.Thing.Base encoding : Encoding.Edge.Thing.Base.values()) {
+                    count(vertex.iid(), encoding.forward());
+                    count(vertex.iid(), encoding.backward());
+                }
+            });
+        }
+
+        private void count(VertexIID.Thing vertexIID, Encoding.Infix infix) {
+            Map<VertexIID.Type, Long> counts = new HashMap<>();
+            graph.storage.iterate(EdgeViewIID.Thing.prefix(vertexIID, InfixIID.Thing.of(infix)))
+                    .forEachRemaining(kv -> counts.merge(kv.key().end().type(), 1L, Long::sum));
+            counts.forEach((adjacentTypeIID, count) -> graph.storage.putUntracked(
+                    StatisticsKey.degree(vertexIID, infix, adjacentTypeIID), encodeLong(count)
+            ));
+        }
+
+        /**
+         * Deletes the counters of the instances of a type that is about to be unmarked as degree counted.
+         */
+        public void drop(TypeVertex type) {
+            deltas.keySet().removeIf(vertexIID -> vertexIID.type().equals(type.iid()));
+            graph.getReadable(type).filter(vertex -> vertex.status() == PERSISTED)
+                    .forEachRemaining(vertex -> deleteCounters(vertex.iid()));
+        }
+
+        private void deleteCounters(VertexIID.Thing vertexIID) {
+            graph.storage.iterate(StatisticsKey.degreePrefix(vertexIID))
+                    .forEachRemaining(kv -> graph.storage.deleteUntracked(kv.key()));
+        }
+
+        /**
+         * @return false once this graph buffers data, which the counters do not reflect until it is committed
+         */
+        public boolean isReadable() {
+            return !graph.isModified && iterate(graph.thingsByTypeIID.values()).allMatch(Set::isEmpty);
+        }
+
+        /**
+         * @return the number of edges of the vertex with the given infix whose other end is an instance of one of the
+         * given types, or nothing if the vertex is not counted
+         */
+        public Optional<Long> degree(ThingVertex vertex, Encoding.Infix infix, Set<TypeVertex> adjacentTypes) {
+            if (!vertex.type().isDegreeCounted() || vertex.status() != PERSISTED || !isReadable()) return Optional.empty();
+            long degree = 0;
+            for (TypeVertex adjacentType : adjacentTypes) {
+                ByteArray count = graph.storage.get(StatisticsKey.degree(vertex.iid(), infix, adjacentType.iid()));
+                if (count != null) degree += count.decodeLong();
+            }
+            return Optional.of(degree);
+        }
+
+        private void commit() {
+            for (VertexIID.Thing vertexIID : deleted) {
+                // an attribute may have been deleted and then re-created, in which case its counters remain valid
+                if (graph.storage.get(vertexIID) != null) continue;
+                deltas.remove(vertexIID);
+                deleteCounters(vertexIID);
+            }
+            deltas.forEach((vertexIID, counters) -> counters.forEach((infixAndType, delta) -> {
+                if (delta != 0) graph.storage.mergeUntracked(
+                        StatisticsKey.degree(vertexIID, infixAndType.first(), infixAndType.second()), encodeLong(delta)
+                );
+            }));
+        }
+    }
+
+    /**
+     * The deadlines of the instances of the types that have an expiry. Such an instance is committed with the time at
+     * which it expires, in epoch milliseconds, as its vertex value, and is indexed by that time, so that the expired
+     * instances of all types are found by a scan from the start of the index.
+     * <p>
+     * An expired instance is hidden from reads from the time it expires, whether it is listed by its type or reached
+     * through its edges, and is deleted by a background sweep of the index some time later. Only the instances of the
+     * types that have an expiry are checked, so reads of other types do not pay for a vertex value lookup.
+     */
+    public static class Expiries {
+
+        private final ThingGraph graph;
+        private final long readTime;
+
+        private Expiries(ThingGraph graph) {
+            this.graph = graph;
+            this.readTime = System.currentTimeMillis();
+        }
+
+        public void put(VertexIID.Thing thingIID, Duration expiry) {
+            long deadline = System.currentTimeMillis() + expiry.toMillis();
+            graph.storage.putTracked(thingIID, encodeLong(deadline));
+            graph.storage.putUntracked(IndexIID.Expiry.of(deadline, thingIID));
+        }
+
+        public void delete(VertexIID.Thing thingIID) {
+            ByteArray deadline = graph.storage.get(thingIID);
+            if (deadline != null && !deadline.isEmpty()) {
+                graph.storage.deleteUntracked(IndexIID.Expiry.of(deadline.decodeLong(), thingIID));
+            }
+        }
+
+        /**
+         * @return true if the vertex is a persisted instance of a type with an expiry, whose deadline passed before
+         * this graph was opened
+         */
+        public boolean isExpired(ThingVertex vertex) {
+            if (vertex.isAttribute() || vertex.status() != PERSISTED || vertex.type().expiry() == null) return false;
+            ByteArray vertexValue = graph.storage.get(vertex.iid());
+            return vertexValue != null && isExpired(vertexValue);
+        }
+
+        /**
+         * @return true if the vertex value holds a deadline that passed before this graph was opened
+         */
+        private boolean isExpired(ByteArray vertexValue) {
+            return !vertexValue.isEmpty() && vertexValue.decodeLong() <= readTime;
+        }
+
+        /**
+         * Clears the deadlines of the persisted instances of a type whose expiry is unset, and their index entries.
+         */
+        public void clear(TypeVertex type) {
+            List<KeyValue<VertexIID.Thing, ByteArray>> deadlines = graph.storage.iterate(
+                    VertexIID.Thing.prefix(type.iid())
+            ).filter(kv -> !kv.value().isEmpty()).toList();
+            for (KeyValue<VertexIID.Thing, ByteArray> deadline : deadlines) {
+                graph.storage.deleteUntracked(IndexIID.Expiry.of(deadline.value().decodeLong(), deadline.key()));
+                graph.storage.putUntracked(deadline.key());
+            }
+        }
+
+        /**
+         * @return the entries of the expiry index whose deadline is not after the given time, earliest first
+         */
+        public FunctionalIterator<IndexIID.Expiry> expired(long time) {
+            return graph.storage.iterate(IndexIID.Expiry.prefix())
+                    .takeWhile(kv -> kv.key().deadline() <= time).map(KeyValue::key);
+        }
+
+        /**
+         * Deletes an entry of the index whose instance is deleted, or whose type no longer has an expiry.
+         */
+        public void deleteEntry(IndexIID.Expiry expiry) {
+            graph.storage.deleteUntracked(expiry);
+        }
+    }
+
+    /**
+     * The shortcut edges between the players of the instances of the relation types that declare a shortcut. Such a
+     * relation type declares a pair of the role types it relates, and each of its instances connects every player of
+     * the first role type to every player of the second with an optimisation edge that skips the relation, so that
+     * the co-players of a player are found with a single scan, instead of a scan of the relations it plays in followed
+     * by a scan of the players of each relation.
+     * <p>
+     * Like a traversal through role instances, an edge connects two players that play the two roles through distinct
+     * role instances of the relation, so a player is only connected to itself if it plays in the relation twice.
+     */
+    public static class Shortcuts {
+
+        private final ThingGraph graph;
+
+        private Shortcuts(ThingGraph graph) {
+            this.graph = graph;
+        }
+
+        /**
+         * Connects a player that was just added to a relation, through the given role instance, to its co-players.
+         */
+        public void rolePlayerAdded(ThingVertex.Write relation, ThingVertex.Write player, ThingVertex.Write role) {
+            Pair<TypeVertex, TypeVertex> shortcut = relation.type().shortcut();
+            if (shortcut == null) return;
+            reserve(relation);
+            if (role.type().equals(shortcut.first())) {
+                rolePlayers(relation, shortcut.second()).filter(rp -> !rp.value().equals(role)).forEachRemaining(
+                        rp -> put(player, rp.key().toWrite(), relation, existence(role, rp.value()))
+                );
+            }
+            if (role.type().equals(shortcut.second())) {
+                rolePlayers(relation, shortcut.first()).filter(rp -> !rp.value().equals(role)).forEachRemaining(
+                        rp -> put(rp.key().toWrite(), player, relation, existence(role, rp.value()))
+                );
+            }
+        }
+
+        /**
+         * Disconnects a player that is about to be removed from a relation, through the given role instance, from the
+         * co-players it is no longer connected to through other role instances.
+         */
+        public void rolePlayerDeleted(ThingVertex.Write relation, ThingVertex.Write player, ThingVertex.Write role) {
+            Pair<TypeVertex, TypeVertex> shortcut = relation.type().shortcut();
+            if (shortcut == null) return;
+            reserve(relation);
+            if (role.type().equals(shortcut.first())) {
+                rolePlayers(relation, shortcut.second()).map(KeyValue::key).distinct()
+                        .filter(to -> !isConnected(relation, shortcut, player, to, role))
+                        .forEachRemaining(to -> delete(player, to, relation));
+            }
+            if (role.type().equals(shortcut.second())) {
+                rolePlayers(relation, shortcut.first()).map(KeyValue::key).distinct()
+                        .filter(from -> !isConnected(relation, shortcut, from, player, role))
+                        .forEachRemaining(from -> delete(from, player, relation));
+            }
+        }
+
+        /**
+         * The edges are computed from the role players this transaction sees, so two transactions that change the
+         * players of the same relation concurrently would each miss the edges of the other's players: reserving the
+         * relation makes one of them fail to commit. A relation that is not yet committed cannot be seen by others.
+         */
+        private void reserve(ThingVertex relation) {
+            if (relation.status() == PERSISTED) graph.storage.trackExclusiveBytes(relation.iid().bytes());
+        }
+
+        private void put(ThingVertex.Write from, ThingVertex.Write to, ThingVertex.Write relation, Existence existence) {
+            if (from.outs().edge(SHORTCUT, to, relation) == null) from.outs().put(SHORTCUT, to, relation, existence);
+        }
+
+        private void delete(ThingVertex from, ThingVertex to, ThingVertex relation) {
+            ThingEdge edge = from.toWrite().outs().edge(SHORTCUT, to, relation);
+            if (edge != null) edge.delete();
+        }
+
+        private static Existence existence(ThingVertex role, ThingVertex otherRole) {
+            return role.existence() == INFERRED || otherRole.existence() == INFERRED ? INFERRED : STORED;
+        }
+
+        /**
+         * @return true if the players play the two roles of the shortcut through two distinct role instances of the
+         * relation, other than the excluded role instance
+         */
+        private boolean isConnected(ThingVertex relation, Pair<TypeVertex, TypeVertex> shortcut, ThingVertex from,
+                                    ThingVertex to, ThingVertex excluded) {
+            Set<ThingVertex> fromRoles = roles(relation, shortcut.first(), from, excluded);
+            if (fromRoles.isEmpty()) return false;
+            return iterate(roles(relation, shortcut.second(), to, excluded))
+                    .anyMatch(toRole -> fromRoles.size() > 1 || !fromRoles.contains(toRole));
+        }
+
+        private Set<ThingVertex> roles(ThingVertex relation, TypeVertex roleType, ThingVertex player,
+                                       ThingVertex excluded) {
+            return relation.outs().edge(ROLEPLAYER, roleType, player.iid().prefix(), player.iid().type(), player.iid().key())
+                    .toAndOptimised().map(KeyValue::value).filter(role -> !role.equals(excluded)).toSet();
+        }
+
+        private static FunctionalIterator<KeyValue<ThingVertex, ThingVertex>> rolePlayers(ThingVertex relation,
+                                                                                         TypeVertex roleType) {
+            return relation.outs().edge(ROLEPLAYER, roleType).toAndOptimised();
+        }
+
+        /**
+         * Writes the shortcut edges of the existing instances of a relation type that is about to declare a shortcut.
+         * Relations that are not yet committed are connected as their players are added.
+         */
+        public void build(TypeVertex relationType, Pair<TypeVertex, TypeVertex> shortcut) {
+            forEachShortcut(relationType, shortcut, (forward, backward) -> {
+                graph.storage.putUntracked(forward);
+                graph.storage.putUntracked(backward);
+            });
+        }
+
+        /**
+         * Deletes the shortcut edges of the existing instances of a relation type that is about to drop its shortcut.
+         */
+        public void drop(TypeVertex relationType, Pair<TypeVertex, TypeVertex> shortcut) {
+            forEachShortcut(relationType, shortcut, (forward, backward) -> {
+                graph.storage.deleteUntracked(forward);
+                graph.storage.deleteUntracked(backward);
+            });
+        }
+
+        private void forEachShortcut(TypeVertex relationType, Pair<TypeVertex, TypeVertex> shortcut,
+                                     BiConsumer<EdgeViewIID.Thing, EdgeViewIID.Thing> consumer) {
+            graph.getReadable(relationType).filter(vertex -> vertex.status() == PERSISTED).forEachRemaining(relation -> {
+                List<KeyValue<ThingVertex, ThingVertex>> tos = rolePlayers(relation, shortcut.second()).toList();
+                rolePlayers(relation, shortcut.first()).forEachRemaining(from -> tos.forEach(to -> {
+                    if (from.value().equals(to.value())) return;
+                    consumer.accept(
+                            EdgeViewIID.Thing.of(from.key().iid(), InfixIID.Thing.of(SHORTCUT.forward(), relationType.iid()),
+                                    to.key().iid(), relation.iid().key()),
+                            EdgeViewIID.Thing.of(to.key().iid(), InfixIID.Thing.of(SHORTCUT.backward(), relationType.iid()),
+                                    from.key().iid(), relation.iid().key())
+                    );
+                }));
+            });
+        }
+    }
+
+    /**
+     * The IIDs of string and datetime attributes read by the transactions of a database, with their values decoded,
+     * so that the attributes read repeatedly across transactions are only decoded once.
+     * <p>
+     * The value of an attribute is a function of its IID alone, so entries never go stale: the cache is bounded by
+     * size, and only needs to be discarded when the schema changes, since type IIDs can be reused.
+     */
+    public static class AttributeCache {
+
+        private static final long STRING_CACHE_BYTES = 32 * MB;
+        private static final long DATETIME_CACHE_BYTES = 8 * MB;
+        // approximate bytes of a cache entry besides the IID bytes and value, for the IID and value objects, the
+        // backing array and the cache's own node
+        private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+        private final CommonCache<VertexIID.Attribute.String, VertexIID.Attribute.String> strings;
+        private final CommonCache<VertexIID.Attribute.DateTime, VertexIID.Attribute.DateTime> dateTimes;
+
+        private AttributeCache(long stringBytes, long dateTimeBytes) {
+            this.strings = stringBytes > 0 ? new CommonCache<>(stringBytes, (iid, cached) -> weight(cached)) : null;
+            this.dateTimes = dateTimeBytes > 0 ? new CommonCache<>(dateTimeBytes, (iid, cached) -> weight(cached)) : null;
+        }
+
+        public static AttributeCache create() {
+            return new AttributeCache(STRING_CACHE_BYTES, DATETIME_CACHE_BYTES);
+        }
+
+        public static AttributeCache disabled() {
+            return new AttributeCache(0, 0);
+        }
+
+        VertexIID.Attribute.String get(VertexIID.Attribute.String iid) {
+            if (strings == null || !iid.isValueInline()) return iid;
+            VertexIID.Attribute.String cached = strings.getIfPresent(iid);
+            if (cached != null) return cached;
+            cached = VertexIID.Attribute.of(copy(iid)).asString();
+            cached.value();
+            // the copy is also the key, so that the cache never retains the key the IID was read from
+            strings.put(cached, cached);
+            return cached;
+        }
+
+        VertexIID.Attribute.DateTime get(VertexIID.Attribute.DateTime iid) {
+            if (dateTimes == null) return iid;
+            VertexIID.Attribute.DateTime cached = dateTimes.getIfPresent(iid);
+            if (cached != null) return cached;
+            cached = VertexIID.Attribute.of(copy(iid)).asDateTime();
+            cached.value();
+            dateTimes.put(cached, cached);
+            return cached;
+        }
+
+        private static int weight(VertexIID.Attribute.String cached) {
+            // strings are held as UTF-16 in the worst case
+            return ENTRY_OVERHEAD_BYTES + cached.bytes().length() + 2 * cached.value().length();
+        }
+
+        private static int weight(VertexIID.Attribute.DateTime cached) {
+            return ENTRY_OVERHEAD_BYTES + cached.bytes().length();
+        }
+
+        /**
+         * IIDs read from storage are often views into a larger key, which the cache must not retain
+         */
+        private static ByteArray copy(VertexIID.Attribute<?> iid) {
+            return ByteArray.of(iid.bytes().cloneBytes());
+        }
+    }
+
     public static class Statistics {
 
         private final ConcurrentMap<VertexIID.Type, Long> persistedVertexCount;
@@ -37,7 +37,7 @@ public interface ThingAdjacency {
 
         InEdgeIterator edge(Encoding.Edge.Thing.Base encoding, IID... lookAhead);
 
-        InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType, IID... lookAhead);
+        InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType, IID... lookAhead);
 
         @Override
         default boolean isIn() {
@@ -58,7 +58,7 @@ public interface ThingAdjacency {
 
         OutEdgeIterator edge(Encoding.Edge.Thing.Base encoding, IID... lookAhead);
 
-        OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType, IID... lookAhead);
+        OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType, IID... lookAhead);
 
         @Override
         default boolean isOut() {
@@ -115,6 +115,16 @@ public interface ThingAdjacency {
      */
     ThingEdge edge(Encoding.Edge.Thing encoding, ThingVertex adjacent, ThingVertex optimised);
 
+    /**
+     * Returns true if there is an inferred edge of type {@code encoding} that connects to an {@code adjacent} vertex.
+     * Inferred edges only ever exist in the transaction's buffer, so this never reads from storage.
+     *
+     * @param encoding type of the edge to filter by
+     * @param adjacent vertex that the edge connects to
+     * @return true if the edge to {@code adjacent} is inferred
+     */
+    boolean isInferred(Encoding.Edge.Thing encoding, ThingVertex adjacent);
+
     default boolean isIn() {
         return false;
     }
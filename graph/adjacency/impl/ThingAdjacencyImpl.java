@@ -56,9 +56,9 @@ import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.iterator.Iterators.link;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.emptySorted;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.iterateSorted;
+import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
-import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
 import static java.util.Collections.emptyList;
 
 /**
@@ -128,7 +128,7 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
     }
 
     Forwardable<EDGE_VIEW, Order.Asc> iteratePersistedViews(Encoding.Edge.Thing encoding, List<IID> lookahead) {
-        assert encoding != ROLEPLAYER || lookahead.size() >= 1;
+        assert !encoding.isOptimisation() || lookahead.size() >= 1;
         Key.Prefix<EdgeViewIID.Thing> prefix = viewIIDPrefix(encoding, lookahead);
         return owner().graph().storage().iterate(prefix, ASC).mapSorted(
                 kv -> getView(newPersistedEdge(EdgeViewIID.Thing.of(kv.key().bytes()))),
@@ -171,6 +171,11 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
             else return newPersistedEdge(iid);
         }
 
+        @Override
+        public boolean isInferred(Encoding.Edge.Thing encoding, ThingVertex adjacent) {
+            return false;
+        }
+
         @Override
         public UnsortedEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding) {
             Key.Prefix<EdgeViewIID.Thing> prefix = EdgeViewIID.Thing.prefix(owner().iid(), infixIID(encoding));
@@ -190,9 +195,9 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
             }
 
             @Override
-            public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType, IID... lookAhead) {
+            public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType, IID... lookAhead) {
                 return new InEdgeIteratorImpl(
-                        iteratePersistedViews(encoding, concat(roleType.iid(), lookAhead)), owner, encoding, roleType
+                        iteratePersistedViews(encoding, concat(optimisedType.iid(), lookAhead)), owner, encoding, optimisedType
                 );
             }
 
@@ -214,9 +219,9 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
             }
 
             @Override
-            public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType, IID... lookAhead) {
+            public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType, IID... lookAhead) {
                 return new OutEdgeIteratorImpl(
-                        iteratePersistedViews(encoding, concat(roleType.iid(), lookAhead)), owner, encoding, roleType
+                        iteratePersistedViews(encoding, concat(optimisedType.iid(), lookAhead)), owner, encoding, optimisedType
                 );
             }
 
@@ -249,9 +254,9 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
         List<IID> infixTails(ThingEdge edge) {
             if (edge.encoding().isOptimisation()) {
                 if (isOut()) {
-                    return List.of(edge.forwardView().iid().infix().asRolePlayer().tail().get(), edge.toIID().prefix(), edge.toIID().type(), edge.toIID().key());
+                    return List.of(edge.forwardView().iid().infix().asOptimised().tail().get(), edge.toIID().prefix(), edge.toIID().type(), edge.toIID().key());
                 } else {
-                    return List.of(edge.backwardView().iid().infix().asRolePlayer().tail().get(), edge.fromIID().prefix(), edge.fromIID().type(), edge.fromIID().key());
+                    return List.of(edge.backwardView().iid().infix().asOptimised().tail().get(), edge.fromIID().prefix(), edge.fromIID().type(), edge.fromIID().key());
                 }
             } else {
                 if (isOut()) return List.of(edge.toIID().prefix(), edge.toIID().type());
@@ -308,6 +313,16 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
 
         @Override
         public ThingEdge edge(Encoding.Edge.Thing encoding, ThingVertex adjacent) {
+            return bufferedEdge(encoding, adjacent);
+        }
+
+        @Override
+        public boolean isInferred(Encoding.Edge.Thing encoding, ThingVertex adjacent) {
+            ThingEdge edge = bufferedEdge(encoding, adjacent);
+            return edge != null && edge.existence() == INFERRED;
+        }
+
+        private ThingEdge bufferedEdge(Encoding.Edge.Thing encoding, ThingVertex adjacent) {
             assert !encoding.isOptimisation();
             Predicate<ThingEdge> predicate = isOut() ? e -> e.to().equals(adjacent) : e -> e.from().equals(adjacent);
             Forwardable<EDGE_VIEW, Order.Asc> iterator = iterateBufferedViews(
@@ -454,10 +469,10 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
                 }
 
                 @Override
-                public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType,
+                public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType,
                                            IID... lookahead) {
                     return new InEdgeIteratorImpl(
-                            iterateBufferedViews(ROLEPLAYER, concat(roleType.iid(), lookahead)), owner, encoding, roleType
+                            iterateBufferedViews(encoding, concat(optimisedType.iid(), lookahead)), owner, encoding, optimisedType
                     );
                 }
             }
@@ -479,10 +494,10 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
                 }
 
                 @Override
-                public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType,
+                public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType,
                                             IID... lookahead) {
                     return new OutEdgeIteratorImpl(
-                            iterateBufferedViews(ROLEPLAYER, concat(roleType.iid(), lookahead)), owner, encoding, roleType
+                            iterateBufferedViews(encoding, concat(optimisedType.iid(), lookahead)), owner, encoding, optimisedType
                     );
                 }
 
@@ -511,7 +526,7 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
             }
 
             Forwardable<EDGE_VIEW, Order.Asc> edgeIterator(Encoding.Edge.Thing encoding, List<IID> lookahead) {
-                assert encoding != ROLEPLAYER || lookahead.size() >= 1;
+                assert !encoding.isOptimisation() || lookahead.size() >= 1;
                 Forwardable<EDGE_VIEW, Order.Asc> storageIter = iteratePersistedViews(encoding, lookahead);
                 Forwardable<EDGE_VIEW, Order.Asc> bufferedIter = iterateBufferedViews(encoding, lookahead);
                 return bufferedIter.merge(storageIter).distinct(); // note: has edges can be persisted and buffered
@@ -566,10 +581,10 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
                 }
 
                 @Override
-                public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType,
+                public InEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType,
                                            IID... lookahead) {
                     return new InEdgeIteratorImpl(
-                            edgeIterator(ROLEPLAYER, concat(roleType.iid(), lookahead)), owner, encoding, roleType
+                            edgeIterator(encoding, concat(optimisedType.iid(), lookahead)), owner, encoding, optimisedType
                     );
                 }
             }
@@ -591,10 +606,10 @@ public abstract class ThingAdjacencyImpl<EDGE_VIEW extends ThingEdge.View<EDGE_V
                 }
 
                 @Override
-                public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex roleType,
+                public OutEdgeIterator edge(Encoding.Edge.Thing.Optimised encoding, TypeVertex optimisedType,
                                             IID... lookahead) {
                     return new OutEdgeIteratorImpl(
-                            edgeIterator(ROLEPLAYER, concat(roleType.iid(), lookahead)), owner, encoding, roleType
+                            edgeIterator(encoding, concat(optimisedType.iid(), lookahead)), owner, encoding, optimisedType
                     );
                 }
             }
@@ -40,7 +40,7 @@ import static com.vaticle.typedb.core.common.collection.ByteArray.join;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Transaction.ILLEGAL_OPERATION;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
-import static com.vaticle.typedb.core.encoding.Encoding.Prefix.VERTEX_ROLE;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
 import static com.vaticle.typedb.core.encoding.Encoding.Status.PERSISTED;
 import static java.util.Objects.hash;
 
@@ -250,8 +250,10 @@ public abstract class ThingEdgeImpl implements ThingEdge {
                 from.outs().remove(this);
                 to.ins().remove(this);
                 if (from.status().equals(PERSISTED) && to.status().equals(PERSISTED)) {
+                    if (graph.storage().get(forward.iid()) != null) graph.degrees().edgeDeleted(from.iid(), encoding, to.iid());
                     graph.storage().deleteTracked(forward.iid());
                     graph.storage().deleteUntracked(backward.iid());
+                    if (encoding == HAS) graph.ownershipIndex().delete(from.iid(), to.iid().asAttribute());
                 }
                 graph.edgeDeleted(this);
             }
@@ -268,6 +270,8 @@ public abstract class ThingEdgeImpl implements ThingEdge {
             if (committed.compareAndSet(false, true)) {
                 graph.storage().putTracked(computeForwardIID()); // re-compute IID because vertices may be committed
                 graph.storage().putUntracked(computeBackwardIID());
+                if (encoding == HAS) graph.ownershipIndex().put(from.iid(), to.iid().asAttribute());
+                graph.degrees().edgeCreated(from.iid(), encoding, to.iid());
             }
         }
 
@@ -442,8 +446,9 @@ public abstract class ThingEdgeImpl implements ThingEdge {
                 toIID = iid.start();
             }
             if (!iid.suffix().isEmpty()) {
+                VertexIID.Type optimisedType = iid.infix().asOptimised().tail().get();
                 optimisedIID = VertexIID.Thing.of(join(
-                        VERTEX_ROLE.bytes(), iid.infix().asRolePlayer().tail().get().bytes(), iid.suffix().bytes()
+                        optimisedType.encoding().instance().prefix().bytes(), optimisedType.bytes(), iid.suffix().bytes()
                 ));
             } else {
                 optimisedIID = null;
@@ -521,6 +526,8 @@ public abstract class ThingEdgeImpl implements ThingEdge {
                 graph.convertToWritable(toIID).setModified();
                 graph.storage().deleteTracked(forward.iid());
                 graph.storage().deleteUntracked(backward.iid());
+                if (encoding == HAS) graph.ownershipIndex().delete(fromIID, toIID.asAttribute());
+                graph.degrees().edgeDeleted(fromIID, encoding, toIID);
                 graph.edgeDeleted(this);
             }
         }
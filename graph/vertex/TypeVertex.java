@@ -19,12 +19,14 @@
 
 package com.vaticle.typedb.core.graph.vertex;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.graph.TypeGraph;
 import com.vaticle.typedb.core.graph.adjacency.TypeAdjacency;
 import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 
 public interface TypeVertex extends Vertex<VertexIID.Type, Encoding.Vertex.Type> {
@@ -69,6 +71,30 @@ public interface TypeVertex extends Vertex<VertexIID.Type, Encoding.Vertex.Type>
 
     TypeVertex regex(Pattern regex);
 
+    boolean isTextIndexed();
+
+    TypeVertex isTextIndexed(boolean isTextIndexed);
+
+    boolean isOwnershipIndexed();
+
+    TypeVertex isOwnershipIndexed(boolean isOwnershipIndexed);
+
+    boolean isDegreeCounted();
+
+    TypeVertex isDegreeCounted(boolean isDegreeCounted);
+
+    Duration expiry();
+
+    TypeVertex expiry(Duration expiry);
+
+    /**
+     * @return the pair of role types, played in instances of this relation type, whose players are connected by
+     * shortcut edges, or null if this relation type declares no shortcut
+     */
+    Pair<TypeVertex, TypeVertex> shortcut();
+
+    TypeVertex shortcut(Pair<TypeVertex, TypeVertex> shortcut);
+
     boolean isEntityType();
 
     boolean isAttributeType();
@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.graph.vertex.impl;
 
+import com.vaticle.typedb.core.common.collection.ByteArray;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.parameters.Concept.Existence;
 import com.vaticle.typedb.core.encoding.Encoding;
@@ -31,6 +32,7 @@ import com.vaticle.typedb.core.graph.vertex.Vertex;
 import java.time.LocalDateTime;
 
 import static com.vaticle.typedb.common.util.Objects.className;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.ThingRead.INVALID_THING_VERTEX_CASTING;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
@@ -44,6 +46,18 @@ import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING;
 
 public abstract class AttributeVertexImpl {
 
+    /**
+     * A value stored out of line is only read from storage the first time it is needed.
+     */
+    private static <VALUE> VALUE value(ThingGraph graph, VertexIID.Attribute<VALUE> iid) {
+        if (!iid.isValueLoaded()) {
+            ByteArray storedValue = graph.storage().get(iid);
+            if (storedValue == null) throw TypeDBException.of(ILLEGAL_STATE);
+            iid.loadValue(storedValue);
+        }
+        return iid.value();
+    }
+
     public static abstract class Read<VALUE> extends ThingVertexImpl.Read implements AttributeVertex<VALUE> {
 
         private final VertexIID.Attribute<VALUE> attributeIID;
@@ -89,7 +103,7 @@ public abstract class AttributeVertexImpl {
         @Override
         public VALUE value() {
             if (type().valueType().isWritable()) {
-                return attributeIID.value();
+                return AttributeVertexImpl.value(graph, attributeIID);
             } else {
                 // TODO: implement for ValueType.TEXT
                 return null;
@@ -327,7 +341,7 @@ public abstract class AttributeVertexImpl {
         @Override
         public VALUE value() {
             if (type().valueType().isWritable()) {
-                return attributeIID.value();
+                return AttributeVertexImpl.value(graph, attributeIID);
             } else {
                 // TODO: implement for ValueType.TEXT
                 return null;
@@ -370,6 +384,9 @@ public abstract class AttributeVertexImpl {
         @Override
         public void delete() {
             if (isDeleted.compareAndSet(false, true)) {
+                if (isTextIndexed()) graph.textIndex().delete(asString());
+                // once deleted from storage, a value stored out of line could no longer be read
+                AttributeVertexImpl.value(graph, attributeIID);
                 deleteEdges();
                 deleteVertexFromStorage();
                 deleteVertexFromGraph();
@@ -384,10 +401,27 @@ public abstract class AttributeVertexImpl {
          */
         @Override
         public void commit() {
+            if (isTextIndexed() && !isPersisted()) graph.textIndex().put(asString());
             commitVertex();
             commitEdges();
         }
 
+        @Override
+        void commitVertex() {
+            if (attributeIID.isValueInline()) super.commitVertex();
+            else {
+                AttributeVertexImpl.value(graph, attributeIID);
+                // the disambiguator of a new attribute was picked as free in this snapshot only, so a concurrent
+                // transaction could pick it for another value: reserving it for this value makes only that one fail
+                if (!isPersisted()) graph.storage().trackExclusiveValue(iid.bytes(), attributeIID.storedValue());
+                graph.storage().putTracked(iid, attributeIID.storedValue());
+            }
+        }
+
+        private boolean isTextIndexed() {
+            return isString() && type().isTextIndexed();
+        }
+
         @Override
         public boolean isAttribute() {
             return true;
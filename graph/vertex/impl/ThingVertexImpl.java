@@ -30,6 +30,7 @@ import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
 import com.vaticle.typedb.core.graph.vertex.ThingVertex;
 import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.vaticle.typedb.common.util.Objects.className;
@@ -200,6 +201,7 @@ public abstract class ThingVertexImpl extends VertexImpl<VertexIID.Thing> implem
         }
 
         void deleteVertexFromStorage() {
+            if (type().expiry() != null) graph.expiries().delete(iid);
             graph.storage().deleteTracked(iid);
         }
 
@@ -214,7 +216,9 @@ public abstract class ThingVertexImpl extends VertexImpl<VertexIID.Thing> implem
         }
 
         void commitVertex() {
-            graph.storage().putTracked(iid);
+            Duration expiry = type().expiry();
+            if (expiry != null) graph.expiries().put(iid, expiry);
+            else graph.storage().putTracked(iid);
         }
 
         @Override
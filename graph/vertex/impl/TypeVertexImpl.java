@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.graph.vertex.impl;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.core.common.collection.ByteArray;
 import com.vaticle.typedb.core.common.collection.KeyValue;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
@@ -33,11 +34,14 @@ import com.vaticle.typedb.core.encoding.iid.VertexIID;
 import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLong;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeString;
+import static com.vaticle.typedb.core.common.collection.ByteArray.join;
 import static com.vaticle.typedb.core.common.iterator.Iterators.link;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS_KEY;
@@ -45,8 +49,13 @@ import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.PLAYS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.RELATES;
 import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.LABEL;
 import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.ABSTRACT;
+import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.DEGREE_COUNTED;
+import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.EXPIRY;
+import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.OWNERSHIP_INDEXED;
 import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.REGEX;
 import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.SCOPE;
+import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.SHORTCUT;
+import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.TEXT_INDEXED;
 import static com.vaticle.typedb.core.encoding.Encoding.Property.Vertex.VALUE_TYPE;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_ENCODING;
 import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Type.ATTRIBUTE_TYPE;
@@ -70,6 +79,11 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
     Boolean isAbstract; // needs to be declared as the Boolean class
     Encoding.ValueType<?> valueType;
     Pattern regex;
+    Boolean isTextIndexed; // needs to be declared as the Boolean class
+    Boolean isOwnershipIndexed; // needs to be declared as the Boolean class
+    Boolean isDegreeCounted; // needs to be declared as the Boolean class
+    Duration expiry;
+    Pair<TypeVertex, TypeVertex> shortcut;
 
     private volatile int outOwnsCount;
     private volatile int outPlaysCount;
@@ -264,6 +278,10 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
         ins.commit();
     }
 
+    static ByteArray encodeShortcut(Pair<TypeVertex, TypeVertex> shortcut) {
+        return join(shortcut.first().iid().bytes(), shortcut.second().iid().bytes());
+    }
+
     public static class Buffered extends TypeVertexImpl {
 
         private final AtomicBoolean isCommitted;
@@ -344,6 +362,71 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
             return this;
         }
 
+        @Override
+        public boolean isTextIndexed() {
+            return isTextIndexed != null ? isTextIndexed : false;
+        }
+
+        @Override
+        public TypeVertexImpl isTextIndexed(boolean isTextIndexed) {
+            assert !isDeleted();
+            this.isTextIndexed = isTextIndexed;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public boolean isOwnershipIndexed() {
+            return isOwnershipIndexed != null ? isOwnershipIndexed : false;
+        }
+
+        @Override
+        public TypeVertexImpl isOwnershipIndexed(boolean isOwnershipIndexed) {
+            assert !isDeleted();
+            this.isOwnershipIndexed = isOwnershipIndexed;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public boolean isDegreeCounted() {
+            return isDegreeCounted != null ? isDegreeCounted : false;
+        }
+
+        @Override
+        public TypeVertexImpl isDegreeCounted(boolean isDegreeCounted) {
+            assert !isDeleted();
+            this.isDegreeCounted = isDegreeCounted;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public Duration expiry() {
+            return expiry;
+        }
+
+        @Override
+        public TypeVertexImpl expiry(Duration expiry) {
+            assert !isDeleted();
+            this.expiry = expiry;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public Pair<TypeVertex, TypeVertex> shortcut() {
+            return shortcut;
+        }
+
+        @Override
+        public TypeVertexImpl shortcut(Pair<TypeVertex, TypeVertex> shortcut) {
+            assert !isDeleted();
+            this.shortcut = shortcut;
+            this.setModified();
+            return this;
+        }
+
         @Override
         public void delete() {
             if (isDeleted.compareAndSet(false, true)) {
@@ -372,6 +455,11 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
             if (isAbstract != null && isAbstract) commitPropertyAbstract();
             if (valueType != null) commitPropertyValueType();
             if (regex != null) commitPropertyRegex();
+            if (isTextIndexed != null && isTextIndexed) commitPropertyTextIndexed();
+            if (isOwnershipIndexed != null && isOwnershipIndexed) commitPropertyOwnershipIndexed();
+            if (isDegreeCounted != null && isDegreeCounted) commitPropertyDegreeCounted();
+            if (expiry != null) commitPropertyExpiry();
+            if (shortcut != null) commitPropertyShortcut();
         }
 
         private void commitPropertyScope() {
@@ -393,15 +481,39 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
         private void commitPropertyRegex() {
             graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, REGEX), encodeString(regex.pattern(), STRING_ENCODING));
         }
+
+        private void commitPropertyTextIndexed() {
+            graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, TEXT_INDEXED));
+        }
+
+        private void commitPropertyOwnershipIndexed() {
+            graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, OWNERSHIP_INDEXED));
+        }
+
+        private void commitPropertyDegreeCounted() {
+            graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, DEGREE_COUNTED));
+        }
+
+        private void commitPropertyExpiry() {
+            graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, EXPIRY), encodeLong(expiry.toMillis()));
+        }
+
+        private void commitPropertyShortcut() {
+            graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, SHORTCUT), encodeShortcut(shortcut));
+        }
     }
 
     public static class Persisted extends TypeVertexImpl {
 
         private boolean regexLookedUp;
+        private boolean expiryLookedUp;
+        private boolean shortcutLookedUp;
 
         public Persisted(TypeGraph graph, VertexIID.Type iid, String label, @Nullable String scope) {
             super(graph, iid, label, scope);
             regexLookedUp = false;
+            expiryLookedUp = false;
+            shortcutLookedUp = false;
         }
 
         public Persisted(TypeGraph graph, VertexIID.Type iid) {
@@ -511,6 +623,102 @@ public abstract class TypeVertexImpl extends VertexImpl<VertexIID.Type> implemen
             return this;
         }
 
+        @Override
+        public boolean isTextIndexed() {
+            if (isTextIndexed != null) return isTextIndexed;
+            isTextIndexed = graph.storage().get(PropertyIID.TypeVertex.of(iid, TEXT_INDEXED)) != null;
+            return isTextIndexed;
+        }
+
+        @Override
+        public TypeVertexImpl isTextIndexed(boolean isTextIndexed) {
+            assert !isDeleted();
+            if (isTextIndexed) graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, TEXT_INDEXED));
+            else graph.storage().deleteUntracked(PropertyIID.TypeVertex.of(iid, TEXT_INDEXED));
+            this.isTextIndexed = isTextIndexed;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public boolean isOwnershipIndexed() {
+            if (isOwnershipIndexed != null) return isOwnershipIndexed;
+            isOwnershipIndexed = graph.storage().get(PropertyIID.TypeVertex.of(iid, OWNERSHIP_INDEXED)) != null;
+            return isOwnershipIndexed;
+        }
+
+        @Override
+        public TypeVertexImpl isOwnershipIndexed(boolean isOwnershipIndexed) {
+            assert !isDeleted();
+            if (isOwnershipIndexed) graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, OWNERSHIP_INDEXED));
+            else graph.storage().deleteUntracked(PropertyIID.TypeVertex.of(iid, OWNERSHIP_INDEXED));
+            this.isOwnershipIndexed = isOwnershipIndexed;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public boolean isDegreeCounted() {
+            if (isDegreeCounted != null) return isDegreeCounted;
+            isDegreeCounted = graph.storage().get(PropertyIID.TypeVertex.of(iid, DEGREE_COUNTED)) != null;
+            return isDegreeCounted;
+        }
+
+        @Override
+        public TypeVertexImpl isDegreeCounted(boolean isDegreeCounted) {
+            assert !isDeleted();
+            if (isDegreeCounted) graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, DEGREE_COUNTED));
+            else graph.storage().deleteUntracked(PropertyIID.TypeVertex.of(iid, DEGREE_COUNTED));
+            this.isDegreeCounted = isDegreeCounted;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public Duration expiry() {
+            if (expiryLookedUp) return expiry;
+            ByteArray val = graph.storage().get(PropertyIID.TypeVertex.of(iid, EXPIRY));
+            if (val != null) expiry = Duration.ofMillis(val.decodeLong());
+            expiryLookedUp = true;
+            return expiry;
+        }
+
+        @Override
+        public TypeVertexImpl expiry(Duration expiry) {
+            assert !isDeleted();
+            if (expiry == null) graph.storage().deleteUntracked(PropertyIID.TypeVertex.of(iid, EXPIRY));
+            else graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, EXPIRY), encodeLong(expiry.toMillis()));
+            this.expiry = expiry;
+            this.expiryLookedUp = true;
+            this.setModified();
+            return this;
+        }
+
+        @Override
+        public Pair<TypeVertex, TypeVertex> shortcut() {
+            if (shortcutLookedUp) return shortcut;
+            ByteArray val = graph.storage().get(PropertyIID.TypeVertex.of(iid, SHORTCUT));
+            if (val != null) {
+                shortcut = new Pair<>(
+                        graph.convert(VertexIID.Type.extract(val, 0)),
+                        graph.convert(VertexIID.Type.extract(val, VertexIID.Type.LENGTH))
+                );
+            }
+            shortcutLookedUp = true;
+            return shortcut;
+        }
+
+        @Override
+        public TypeVertexImpl shortcut(Pair<TypeVertex, TypeVertex> shortcut) {
+            assert !isDeleted();
+            if (shortcut == null) graph.storage().deleteUntracked(PropertyIID.TypeVertex.of(iid, SHORTCUT));
+            else graph.storage().putUntracked(PropertyIID.TypeVertex.of(iid, SHORTCUT), encodeShortcut(shortcut));
+            this.shortcut = shortcut;
+            this.shortcutLookedUp = true;
+            this.setModified();
+            return this;
+        }
+
         @Override
         public void commit() {
             commitEdges();
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.logic;
+
+import com.vaticle.typedb.common.collection.Either;
+import com.vaticle.typedb.common.collection.Pair;
+import com.vaticle.typedb.core.common.cache.CommonCache;
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.parameters.Label;
+import com.vaticle.typedb.core.concept.Concept;
+import com.vaticle.typedb.core.concept.ConceptManager;
+import com.vaticle.typedb.core.concept.answer.ConceptMap;
+import com.vaticle.typedb.core.traversal.common.Identifier.Variable.Retrievable;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
+
+/**
+ * A database-wide table of the answers to rule conditions, shared by the read transactions of a database.
+ * <p>
+ * An entry is computed at some storage snapshot, and depends on the data of a set of types. It remains valid for a
+ * reader as long as none of those types has been written since the older of the two snapshots, so a reader never sees
+ * an answer set from the future, nor one that misses a write it can see. Data transactions report the types they
+ * write around their storage commit, and a type being committed invalidates every entry depending on it until the
+ * commit completes.
+ * <p>
+ * Answers are stored as IIDs and labels, so that each reader rebuilds concepts against its own snapshot. Only the
+ * answers of ground conditions, which no rule contributes to, are tabled.
+ */
+public class ConditionTable {
+
+    private static final int ANSWERS_LIMIT = 10_000;
+
+    private final CommonCache<Pair<String, Map<Retrievable, Either<Label, ByteArray>>>, Table> tables;
+    private final ConcurrentMap<Label, Writes> writes;
+
+    public ConditionTable() {
+        this.tables = new CommonCache<>();
+        this.writes = new ConcurrentHashMap<>();
+    }
+
+    public ConditionTable(int size, int timeOutMinutes) {
+        this.tables = new CommonCache<>(size, timeOutMinutes);
+        this.writes = new ConcurrentHashMap<>();
+    }
+
+    public int answersLimit() {
+        return ANSWERS_LIMIT;
+    }
+
+    public Optional<List<Map<Retrievable, Either<Label, ByteArray>>>> get(
+            Rule rule, Map<Retrievable, Either<Label, ByteArray>> bounds, long snapshot
+    ) {
+        Table table = tables.getIfPresent(new Pair<>(rule.getLabel(), bounds));
+        if (table == null || !isUnwritten(table.types, Math.min(table.snapshot, snapshot))) return Optional.empty();
+        else return Optional.of(table.answers);
+    }
+
+    public void put(Rule rule, Map<Retrievable, Either<Label, ByteArray>> bounds,
+                    List<Map<Retrievable, Either<Label, ByteArray>>> answers, Set<Label> types, long snapshot) {
+        if (answers.size() <= ANSWERS_LIMIT && isUnwritten(types, snapshot)) {
+            tables.put(new Pair<>(rule.getLabel(), bounds), new Table(answers, types, snapshot));
+        }
+    }
+
+    public void writeStarted(Set<Label> types) {
+        types.forEach(type -> writes.compute(type, (t, w) -> w == null ? new Writes(1, 0) : w.started()));
+    }
+
+    public void writeFinished(Set<Label> types, long sequence) {
+        types.forEach(type -> writes.computeIfPresent(type, (t, w) -> w.finished(sequence)));
+    }
+
+    private boolean isUnwritten(Set<Label> types, long snapshot) {
+        for (Label type : types) {
+            Writes w = writes.get(type);
+            if (w != null && (w.inFlight > 0 || w.lastSequence > snapshot)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the answer in the form it is tabled, or empty if it holds concepts that do not exist in storage
+     */
+    public static Optional<Map<Retrievable, Either<Label, ByteArray>>> answer(ConceptMap conceptMap) {
+        Map<Retrievable, Either<Label, ByteArray>> answer = new HashMap<>();
+        for (Map.Entry<Retrievable, ? extends Concept> entry : conceptMap.concepts().entrySet()) {
+            Concept concept = entry.getValue();
+            if (concept.isType()) answer.put(entry.getKey(), Either.first(concept.asType().getLabel()));
+            else if (concept.isThing() && concept.asThing().existence() == STORED) {
+                answer.put(entry.getKey(), Either.second(concept.asThing().getIID()));
+            } else return Optional.empty();
+        }
+        return Optional.of(answer);
+    }
+
+    /**
+     * @return the answer's concepts in the transaction of the given ConceptManager, or null if any no longer exists
+     */
+    @Nullable
+    public static ConceptMap conceptMap(Map<Retrievable, Either<Label, ByteArray>> answer, ConceptManager conceptMgr) {
+        Map<Retrievable, Concept> concepts = new HashMap<>();
+        for (Map.Entry<Retrievable, Either<Label, ByteArray>> entry : answer.entrySet()) {
+            Concept concept = entry.getValue().isFirst()
+                    ? conceptMgr.getType(entry.getValue().first())
+                    : conceptMgr.getThing(entry.getValue().second());
+            if (concept == null) return null;
+            concepts.put(entry.getKey(), concept);
+        }
+        return new ConceptMap(concepts);
+    }
+
+    private static class Table {
+
+        private final List<Map<Retrievable, Either<Label, ByteArray>>> answers;
+        private final Set<Label> types;
+        private final long snapshot;
+
+        private Table(List<Map<Retrievable, Either<Label, ByteArray>>> answers, Set<Label> types, long snapshot) {
+            this.answers = answers;
+            this.types = types;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private static class Writes {
+
+        private final int inFlight;
+        private final long lastSequence;
+
+        private Writes(int inFlight, long lastSequence) {
+            this.inFlight = inFlight;
+            this.lastSequence = lastSequence;
+        }
+
+        private Writes started() {
+            return new Writes(inFlight + 1, lastSequence);
+        }
+
+        private Writes finished(long sequence) {
+            return new Writes(inFlight - 1, Math.max(lastSequence, sequence));
+        }
+    }
+}
@@ -21,6 +21,7 @@ package com.vaticle.typedb.core.logic;
 import com.vaticle.typedb.core.common.cache.CommonCache;
 import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.logic.resolvable.Concludable;
+import com.vaticle.typedb.core.logic.resolvable.Resolvable;
 import com.vaticle.typedb.core.logic.resolvable.Unifier;
 import com.vaticle.typedb.core.traversal.GraphTraversal;
 import com.vaticle.typedb.core.traversal.common.Identifier;
@@ -33,21 +34,27 @@ public class LogicCache {
 
     private final CommonCache<String, Rule> ruleCache;
     private final CommonCache<Concludable, Map<Rule, Set<Unifier>>> unifiers;
+    private final CommonCache<String, Set<Resolvable<?>>> compiledConjunctions;
     private final CommonCache<GraphTraversal.Type, Optional<Map<Identifier.Variable.Retrievable, Set<Label>>>> typeInferenceCache;
     private final CommonCache<GraphTraversal.Type, Boolean> queryCoherenceCache;
+    private final ConditionTable conditionTable;
 
     public LogicCache() {
         this.ruleCache = new CommonCache<>();
         this.unifiers = new CommonCache<>();
+        this.compiledConjunctions = new CommonCache<>();
         this.typeInferenceCache = new CommonCache<>();
         this.queryCoherenceCache = new CommonCache<>();
+        this.conditionTable = new ConditionTable();
     }
 
     public LogicCache(int size, int timeOutMinutes) {
         this.ruleCache = new CommonCache<>(size, timeOutMinutes);
         this.unifiers = new CommonCache<>(size, timeOutMinutes);
+        this.compiledConjunctions = new CommonCache<>(size, timeOutMinutes);
         this.typeInferenceCache = new CommonCache<>(size, timeOutMinutes);
         this.queryCoherenceCache = new CommonCache<>(size, timeOutMinutes);
+        this.conditionTable = new ConditionTable(size, timeOutMinutes);
     }
 
     public CommonCache<GraphTraversal.Type, Optional<Map<Identifier.Variable.Retrievable, Set<Label>>>> typeInference() {
@@ -58,6 +65,10 @@ public class LogicCache {
         return queryCoherenceCache;
     }
 
+    public ConditionTable conditionTable() {
+        return conditionTable;
+    }
+
     CommonCache<String, Rule> rule() {
         return ruleCache;
     }
@@ -65,4 +76,8 @@ public class LogicCache {
     CommonCache<Concludable, Map<Rule, Set<Unifier>>> unifiers(){
         return unifiers;
     }
+
+    CommonCache<String, Set<Resolvable<?>>> compiledConjunctions() {
+        return compiledConjunctions;
+    }
 }
@@ -25,6 +25,7 @@ import com.vaticle.typedb.core.concept.ConceptManager;
 import com.vaticle.typedb.core.graph.GraphManager;
 import com.vaticle.typedb.core.graph.structure.RuleStructure;
 import com.vaticle.typedb.core.logic.resolvable.Concludable;
+import com.vaticle.typedb.core.logic.resolvable.Negated;
 import com.vaticle.typedb.core.logic.resolvable.Resolvable;
 import com.vaticle.typedb.core.logic.resolvable.ResolvableConjunction;
 import com.vaticle.typedb.core.logic.resolvable.Retrievable;
@@ -37,6 +38,8 @@ import com.vaticle.typeql.lang.pattern.Pattern;
 import com.vaticle.typeql.lang.pattern.statement.ThingStatement;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -57,7 +60,6 @@ public class LogicManager {
     private final TypeInference typeInference;
     private final ExpressionResolver expressionResolver;
     private final LogicCache logicCache;
-    private final Map<ResolvableConjunction, Set<Resolvable<?>>> compiledConjunctions;
 
     public LogicManager(GraphManager graphMgr, ConceptManager conceptMgr, TraversalEngine traversalEng, LogicCache logicCache) {
         this.graphMgr = graphMgr;
@@ -65,7 +67,6 @@ public class LogicManager {
         this.logicCache = logicCache;
         this.typeInference = new TypeInference(logicCache, traversalEng, graphMgr);
         this.expressionResolver = new ExpressionResolver(graphMgr);
-        this.compiledConjunctions = new HashMap<>();
     }
 
     GraphManager graph() {
@@ -76,6 +77,10 @@ public class LogicManager {
         return typeInference;
     }
 
+    public ConditionTable conditionTable() {
+        return logicCache.conditionTable();
+    }
+
     public ExpressionResolver expressionResolver() {
         return expressionResolver;
     }
@@ -119,22 +124,53 @@ public class LogicManager {
         return logicCache.unifiers().get(concludable, c -> c.computeApplicableRules(conceptMgr, this));
     }
 
-    public Set<Resolvable<?>> compile(ResolvableConjunction conjunction) {
-        if (!compiledConjunctions.containsKey(conjunction)) {
-            synchronized (compiledConjunctions) {
-                if (!compiledConjunctions.containsKey(conjunction)) {
-                    Set<Concludable> concludablesTriggeringRules = iterate(conjunction.positiveConcludables())
-                            .filter(concludable -> !applicableRules(concludable).isEmpty())
-                            .toSet();
-                    Set<Resolvable<?>> resolvables = new HashSet<>();
-                    resolvables.addAll(concludablesTriggeringRules);
-                    resolvables.addAll(Retrievable.extractFrom(conjunction.pattern(), concludablesTriggeringRules));
-                    resolvables.addAll(conjunction.negations());
-                    compiledConjunctions.put(conjunction, resolvables);
-                }
-            }
+    /**
+     * @return the types whose instances can change the answers to a rule's condition, either directly or through the
+     * conditions of the rules it depends on
+     */
+    public Set<Label> conditionDependencies(Rule rule) {
+        Set<Label> types = new HashSet<>();
+        Set<Rule> visited = new HashSet<>();
+        Deque<Rule> toVisit = new ArrayDeque<>();
+        toVisit.add(rule);
+        while (!toVisit.isEmpty()) {
+            Rule next = toVisit.pop();
+            if (!visited.add(next)) continue;
+            next.condition().disjunction().conjunctions().forEach(conjunction -> {
+                collectTypes(conjunction, types);
+                conjunction.allConcludables().flatMap(concludable -> iterate(applicableRules(concludable).keySet()))
+                        .forEachRemaining(toVisit::add);
+            });
+        }
+        return types;
+    }
+
+    private static void collectTypes(ResolvableConjunction conjunction, Set<Label> types) {
+        conjunction.pattern().variables().forEach(variable -> types.addAll(variable.inferredTypes()));
+        for (Negated negated : conjunction.negations()) {
+            negated.disjunction().conjunctions().forEach(negatedConjunction -> collectTypes(negatedConjunction, types));
         }
-        return compiledConjunctions.get(conjunction);
+    }
+
+    /**
+     * Compiled resolvables are cached alongside the rules by the canonical form of their conjunction, so that a
+     * conjunction resolves to the same resolvables in every transaction of the database, and reasoner plans over them
+     * can be shared. The set returned is the cached instance, which identifies the compilation that plans were
+     * costed over.
+     */
+    public Set<Resolvable<?>> compile(ResolvableConjunction conjunction) {
+        return logicCache.compiledConjunctions().get(conjunction.canonical(), c -> compileResolvables(conjunction));
+    }
+
+    private Set<Resolvable<?>> compileResolvables(ResolvableConjunction conjunction) {
+        Set<Concludable> concludablesTriggeringRules = iterate(conjunction.positiveConcludables())
+                .filter(concludable -> !applicableRules(concludable).isEmpty())
+                .toSet();
+        Set<Resolvable<?>> resolvables = new HashSet<>();
+        resolvables.addAll(concludablesTriggeringRules);
+        resolvables.addAll(Retrievable.extractFrom(conjunction.pattern(), concludablesTriggeringRules));
+        resolvables.addAll(conjunction.negations());
+        return resolvables;
     }
 
     /**
@@ -146,6 +182,7 @@ public class LogicManager {
     public void revalidateAndReindexRules() {
         logicCache.rule().clear();
         logicCache.unifiers().clear();
+        logicCache.compiledConjunctions().clear();
 
         if (graphMgr.schema().hasModifiedTypes()) {
             // re-validate all rules are valid
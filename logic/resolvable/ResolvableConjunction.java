@@ -18,17 +18,20 @@
 package com.vaticle.typedb.core.logic.resolvable;
 
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.pattern.Conjunction;
 
 import java.util.Set;
 
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.iterator.Iterators.link;
+import static java.util.stream.Collectors.joining;
 
 public class ResolvableConjunction {
     private final Conjunction conjunctionPattern;
     private final Set<Negated> negations;
     private final Set<Concludable> concludables;
+    private String canonical;
 
     private ResolvableConjunction(Conjunction conjunctionPattern, Set<Concludable> concludables, Set<Negated> negations) {
         this.conjunctionPattern = conjunctionPattern;
@@ -63,6 +66,32 @@ public class ResolvableConjunction {
                         .flatMap(conj -> conj.allConcludables()));
     }
 
+    /**
+     * Conjunctions are rebuilt by every query and by every rule that is reloaded, so work derived from one, such as
+     * its compiled resolvables and reasoner plans, is shared by this form instead of by identity. The form holds the
+     * types inferred for each variable alongside the constraints, as they decide which rules apply and how it is
+     * planned: the same constraints typed differently, such as a negation nested under differently typed outer
+     * variables, have distinct forms. Conjunctions that only differ in the names of their variables also have
+     * distinct forms: what is derived from a conjunction is expressed in its variables, and cannot be reused by one
+     * that names them differently.
+     *
+     * @return a form of this conjunction that is equal for every conjunction of the same typed constraints and negations
+     */
+    public String canonical() {
+        if (canonical == null) {
+            String types = iterate(conjunctionPattern.variables())
+                    .filter(variable -> !variable.id().isLabel())
+                    .map(variable -> variable.id() + ":" + iterate(variable.inferredTypes()).map(Label::scopedName)
+                            .stream().sorted().collect(joining(",", "[", "]")))
+                    .stream().sorted().collect(joining(" "));
+            String negated = iterate(negations).map(negation -> iterate(negation.disjunction().conjunctions())
+                    .map(ResolvableConjunction::canonical).stream().sorted().collect(joining(" or ", "not {", "}")))
+                    .stream().sorted().collect(joining(" "));
+            canonical = conjunctionPattern.toString() + " " + types + " " + negated;
+        }
+        return canonical;
+    }
+
     @Override
     public String toString() {
         return conjunctionPattern.toString();
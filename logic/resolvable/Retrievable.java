@@ -18,24 +18,37 @@
 package com.vaticle.typedb.core.logic.resolvable;
 
 import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import com.vaticle.typedb.core.common.iterator.Iterators;
 import com.vaticle.typedb.core.pattern.Conjunction;
 import com.vaticle.typedb.core.pattern.constraint.Constraint;
 import com.vaticle.typedb.core.pattern.constraint.thing.ThingConstraint;
 import com.vaticle.typedb.core.pattern.constraint.type.TypeConstraint;
 import com.vaticle.typedb.core.pattern.constraint.value.ValueConstraint;
+import com.vaticle.typedb.core.pattern.equivalence.AlphaEquivalence;
+import com.vaticle.typedb.core.pattern.equivalence.AlphaEquivalent;
 import com.vaticle.typedb.core.pattern.variable.Variable;
 import com.vaticle.typedb.core.traversal.common.Identifier;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 
-public class Retrievable extends Resolvable<Conjunction> {
+public class Retrievable extends Resolvable<Conjunction> implements AlphaEquivalent<Retrievable> {
+
+    private static final int MAX_PAIRING_ATTEMPTS = 1_000;
 
     private final Set<Identifier.Variable.Retrievable> retrievableIds;
     private Set<Variable> generating;
+    private Optional<List<Constraint>> comparableConstraints;
+    private Map<Class<? extends Constraint>, Integer> constraintKinds;
 
     public Retrievable(Conjunction conjunction) {
         super(conjunction);
@@ -66,6 +79,113 @@ public class Retrievable extends Resolvable<Conjunction> {
     @Override
     public Set<Variable> variables() { return pattern().variables(); }
 
+    /**
+     * Two retrievables are alpha-equivalent if their constraints pair up one-to-one under a consistent renaming of all
+     * their variables, in which case they retrieve the same answers up to that renaming. A retrievable with a
+     * constraint that does not define alpha-equivalence is not equivalent to any other.
+     *
+     * Only the first equivalence found is returned. The pairing search is exponential in the worst case, so it only
+     * pairs constraints of the same kind and gives up, treating the retrievables as inequivalent, once it has tried
+     * MAX_PAIRING_ATTEMPTS pairings.
+     */
+    @Override
+    public FunctionalIterator<AlphaEquivalence> alphaEquals(Retrievable that) {
+        Optional<List<Constraint>> constraints = comparableConstraints(), thatConstraints = that.comparableConstraints();
+        if (!constraints.isPresent() || !thatConstraints.isPresent() ||
+                !constraintKinds().equals(that.constraintKinds()) ||
+                variables().size() != that.variables().size()) {
+            return Iterators.empty();
+        }
+        Optional<AlphaEquivalence> alphaEquivalence = alphaEquals(
+                constraints.get(), 0, thatConstraints.get(), new boolean[thatConstraints.get().size()],
+                AlphaEquivalence.empty(), variables().size(), new int[]{MAX_PAIRING_ATTEMPTS}
+        );
+        return alphaEquivalence.map(Iterators::single).orElseGet(Iterators::empty);
+    }
+
+    private static Optional<AlphaEquivalence> alphaEquals(List<Constraint> constraints, int index,
+                                                          List<Constraint> thatConstraints, boolean[] paired,
+                                                          AlphaEquivalence alphaMap, int variableCount,
+                                                          int[] attemptsLeft) {
+        if (index == constraints.size()) {
+            return alphaMap.variableMapping().size() == variableCount ? Optional.of(alphaMap) : Optional.empty();
+        }
+        Constraint constraint = constraints.get(index);
+        for (int i = 0; i < thatConstraints.size(); i++) {
+            if (paired[i] || constraint.getClass() != thatConstraints.get(i).getClass()) continue;
+            if (attemptsLeft[0]-- <= 0) return Optional.empty();
+            FunctionalIterator<AlphaEquivalence> extended = alphaEquals(constraint, thatConstraints.get(i))
+                    .flatMap(alphaMap::extendIfCompatible);
+            paired[i] = true;
+            while (extended.hasNext()) {
+                Optional<AlphaEquivalence> found = alphaEquals(constraints, index + 1, thatConstraints, paired,
+                                                               extended.next(), variableCount, attemptsLeft);
+                if (found.isPresent() || attemptsLeft[0] <= 0) {
+                    extended.recycle();
+                    paired[i] = false;
+                    return found;
+                }
+            }
+            paired[i] = false;
+        }
+        return Optional.empty();
+    }
+
+    private static FunctionalIterator<AlphaEquivalence> alphaEquals(Constraint constraint, Constraint that) {
+        if (constraint.isThing() && that.isThing()) {
+            ThingConstraint thing = constraint.asThing(), thatThing = that.asThing();
+            if (thing.isIsa() && thatThing.isIsa()) return thing.asIsa().alphaEquals(thatThing.asIsa());
+            else if (thing.isHas() && thatThing.isHas()) return thing.asHas().alphaEquals(thatThing.asHas());
+            else if (thing.isRelation() && thatThing.isRelation()) {
+                return thing.asRelation().alphaEquals(thatThing.asRelation());
+            } else if (thing.isPredicate() && thatThing.isPredicate()) {
+                return thing.asPredicate().alphaEquals(thatThing.asPredicate());
+            }
+        } else if (constraint.isType() && that.isType()) {
+            TypeConstraint type = constraint.asType(), thatType = that.asType();
+            if (type.isLabel() && thatType.isLabel()) return type.asLabel().alphaEquals(thatType.asLabel());
+            else if (type.isValueType() && thatType.isValueType()) {
+                return type.asValueType().alphaEquals(thatType.asValueType());
+            }
+        } else if (constraint.isValue() && that.isValue()) {
+            if (constraint.asValue().isPredicate() && that.asValue().isPredicate()) {
+                return constraint.asValue().asPredicate().alphaEquals(that.asValue().asPredicate());
+            }
+        }
+        return Iterators.empty();
+    }
+
+    private Map<Class<? extends Constraint>, Integer> constraintKinds() {
+        if (constraintKinds == null) {
+            Map<Class<? extends Constraint>, Integer> kinds = new HashMap<>();
+            comparableConstraints().ifPresent(constraints ->
+                    constraints.forEach(constraint -> kinds.merge(constraint.getClass(), 1, Integer::sum)));
+            constraintKinds = kinds;
+        }
+        return constraintKinds;
+    }
+
+    private Optional<List<Constraint>> comparableConstraints() {
+        if (comparableConstraints == null) {
+            List<Constraint> constraints = new ArrayList<>();
+            variables().forEach(v -> constraints.addAll(v.constraints()));
+            if (iterate(constraints).allMatch(Retrievable::isComparable)) comparableConstraints = Optional.of(constraints);
+            else comparableConstraints = Optional.empty();
+        }
+        return comparableConstraints;
+    }
+
+    private static boolean isComparable(Constraint constraint) {
+        if (constraint.isThing()) {
+            ThingConstraint thing = constraint.asThing();
+            return thing.isIsa() || thing.isHas() || thing.isRelation() || thing.isPredicate();
+        } else if (constraint.isType()) {
+            return constraint.asType().isLabel() || constraint.asType().isValueType();
+        } else if (constraint.isValue()) {
+            return constraint.asValue().isPredicate();
+        } else return false;
+    }
+
     @Override
     public Retrievable asRetrievable() {
         return this;
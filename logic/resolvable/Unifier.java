@@ -27,6 +27,7 @@ import com.vaticle.typedb.core.concept.ConceptManager;
 import com.vaticle.typedb.core.concept.answer.ConceptMap;
 import com.vaticle.typedb.core.concept.thing.Attribute;
 import com.vaticle.typedb.core.concept.thing.impl.AttributeImpl;
+import com.vaticle.typedb.core.concept.type.AttributeType;
 import com.vaticle.typedb.core.concept.type.RoleType;
 import com.vaticle.typedb.core.concept.type.ThingType;
 import com.vaticle.typedb.core.concept.type.Type;
@@ -66,13 +67,16 @@ public class Unifier {
     private final Map<Variable, Set<Retrievable>> reverseUnifier;
     private final Requirements.Constraint requirements;
     private final Requirements.Constraint unifiedRequirements;
+    private final Map<Retrievable, Set<com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?>>> unifiedEqualities;
 
     private Unifier(Map<Retrievable, Set<Variable>> unifier, Requirements.Constraint requirements,
-                    Requirements.Constraint unifiedRequirements) {
+                    Requirements.Constraint unifiedRequirements,
+                    Map<Retrievable, Set<com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?>>> unifiedEqualities) {
         this.unifier = Collections.unmodifiableMap(unifier);
         this.reverseUnifier = reverse(this.unifier);
         this.requirements = requirements;
         this.unifiedRequirements = unifiedRequirements;
+        this.unifiedEqualities = Collections.unmodifiableMap(unifiedEqualities);
     }
 
     public static Unifier.Builder builder() {
@@ -108,6 +112,37 @@ public class Unifier {
         return Optional.of(new Pair<>(new ConceptMap(unifiedMap), new Requirements.Instance(conceptMap.concepts())));
     }
 
+    /*
+    Returns the unified attributes that are fixed by an equality with a constant, so that the constant can be pushed
+    into the rule body as a bound, rather than only being checked against each conclusion answer. This is the
+    binding-propagation step of a magic-sets rewrite, applied to constants.
+
+    An attribute is only fixed when the unified variable has exactly one allowed type and the constant has that type's
+    value type. Attributes that do not exist yet are left unbound, as the rule body may go on to infer them. Doubles
+    are never fixed: they compare equal within a tolerance, and across long and double values, so a constant may equal
+    several attributes.
+     */
+    public ConceptMap constantBounds(ConceptManager conceptMgr) {
+        Map<Retrievable, Concept> bounds = new HashMap<>();
+        unifiedEqualities.forEach((id, constants) -> {
+            Set<Label> types = unifiedRequirements.isaExplicit().get(id);
+            if (constants.size() != 1 || types == null || types.size() != 1) return;
+            AttributeType type = conceptMgr.getAttributeType(types.iterator().next().name());
+            if (type == null) return;
+            Attribute attribute = attribute(type, constants.iterator().next());
+            if (attribute != null) bounds.put(id, attribute);
+        });
+        return new ConceptMap(bounds);
+    }
+
+    private static Attribute attribute(AttributeType type, com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?> constant) {
+        if (constant.isLong() && type.isLong()) return type.asLong().get(constant.asLong().value());
+        else if (constant.isBoolean() && type.isBoolean()) return type.asBoolean().get(constant.asBoolean().value());
+        else if (constant.isString() && type.isString()) return type.asString().get(constant.asString().value());
+        else if (constant.isDateTime() && type.isDateTime()) return type.asDateTime().get(constant.asDateTime().value());
+        else return null;
+    }
+
     /**
      * Un-unify a map of concepts, with given identifiers. These must include anonymous and labelled concepts,
      * as they may be mapped to from a named variable, and may have requirements that need to be met.
@@ -237,15 +272,19 @@ public class Unifier {
         private final Map<Retrievable, Set<Variable>> unifier;
         private final Requirements.Constraint requirements;
         private final Requirements.Constraint unifiedRequirements;
+        private final Map<Retrievable, Set<com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?>>> unifiedEqualities;
 
         private Builder() {
-            this(new HashMap<>(), new Requirements.Constraint(), new Requirements.Constraint());
+            this(new HashMap<>(), new Requirements.Constraint(), new Requirements.Constraint(), new HashMap<>());
         }
 
-        private Builder(Map<Retrievable, Set<Variable>> unifier, Requirements.Constraint requirements, Requirements.Constraint unifiedRequirements) {
+        private Builder(Map<Retrievable, Set<Variable>> unifier, Requirements.Constraint requirements,
+                        Requirements.Constraint unifiedRequirements,
+                        Map<Retrievable, Set<com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?>>> unifiedEqualities) {
             this.unifier = unifier;
             this.requirements = requirements;
             this.unifiedRequirements = unifiedRequirements;
+            this.unifiedEqualities = unifiedEqualities;
         }
 
         public void addThing(com.vaticle.typedb.core.pattern.variable.ThingVariable source, Retrievable target) {
@@ -271,6 +310,9 @@ public class Unifier {
                 assert value.predicate().isConstant();
                 unifiedRequirements().predicates(unifiedId, valuePredicate(value.predicate().asConstant()));
                 requirements().predicates(id, valuePredicate(value.predicate().asConstant()));
+                if (value.predicate().predicate().equals(EQ)) {
+                    unifiedEqualities.computeIfAbsent(unifiedId, u -> new HashSet<>()).add(value.predicate().asConstant());
+                }
             }
         }
 
@@ -283,7 +325,7 @@ public class Unifier {
         }
 
         public Unifier build() {
-            return new Unifier(unifier, requirements, unifiedRequirements);
+            return new Unifier(unifier, requirements, unifiedRequirements, unifiedEqualities);
         }
 
         public Builder clone() {
@@ -291,7 +333,9 @@ public class Unifier {
             unifier.forEach(((identifier, unifieds) -> unifierCopy.put(identifier, new HashSet<>(unifieds))));
             Requirements.Constraint requirementsCopy = requirements.duplicate();
             Requirements.Constraint unifiedRequirementsCopy = unifiedRequirements.duplicate();
-            return new Builder(unifierCopy, requirementsCopy, unifiedRequirementsCopy);
+            Map<Retrievable, Set<com.vaticle.typedb.core.pattern.constraint.common.Predicate.Constant<?>>> unifiedEqualitiesCopy = new HashMap<>();
+            unifiedEqualities.forEach((identifier, constants) -> unifiedEqualitiesCopy.put(identifier, new HashSet<>(constants)));
+            return new Builder(unifierCopy, requirementsCopy, unifiedRequirementsCopy, unifiedEqualitiesCopy);
         }
 
         static FunctionalIterator<Label> subtypeLabels(Set<Label> labels, ConceptManager conceptMgr) {
@@ -191,7 +191,11 @@ public class Conjunction implements Pattern, Cloneable {
 
     public GraphTraversal.Thing traversal(Modifiers.Filter filter, Modifiers.Sorting sorting) {
         GraphTraversal.Thing traversal = new GraphTraversal.Thing();
-        variableSet.forEach(variable -> variable.addTo(traversal));
+        Set<Variable> shortcuts = shortcuts(filter, sorting);
+        variableSet.forEach(variable -> {
+            if (shortcuts.contains(variable)) variable.asThing().relation().get().addShortcutTo(traversal);
+            else variable.addTo(traversal);
+        });
         Modifiers.Filter traversalFilter;
         if (filter.variables().isEmpty()) {
             traversalFilter = Modifiers.Filter.create(iterate(variableSet).filter(v -> v.id().isRetrievable()).map(v -> v.id().asRetrievable()).toSet());
@@ -205,6 +209,18 @@ public class Conjunction implements Pattern, Cloneable {
         return traversal;
     }
 
+    /**
+     * Relations that are neither retrieved nor sorted on only connect their players, so they can be traversed as
+     * shortcuts between them. This requires an explicit filter, as the traversal answers are then deduplicated.
+     */
+    private Set<Variable> shortcuts(Modifiers.Filter filter, Modifiers.Sorting sorting) {
+        if (filter.variables().isEmpty()) return set();
+        return iterate(variableSet).filter(v -> v.isThing() && v.id().isRetrievable() &&
+                !filter.variables().contains(v.id().asRetrievable()) && !sorting.variables().contains(v.id().asRetrievable()) &&
+                v.asThing().relation().isPresent() && v.asThing().relation().get().isShortcut()
+        ).toSet();
+    }
+
     public void setCoherent(boolean isCoherent) {
         this.isCoherent = isCoherent;
     }
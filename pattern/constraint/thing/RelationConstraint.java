@@ -111,6 +111,33 @@ public class RelationConstraint extends ThingConstraint implements AlphaEquivale
         }
     }
 
+    /**
+     * A relation between two players can be traversed as a single shortcut edge between them when it is anonymous
+     * and nothing else refers to it: neither the relation nor its role instances have to be bound.
+     */
+    public boolean isShortcut() {
+        if (!owner.id().isAnonymous() || owner.inferredTypes().isEmpty() || !owner.constraining().isEmpty()) return false;
+        else if (iterate(owner.constraints()).anyMatch(constraint -> !constraint.equals(this) &&
+                !(constraint.isIsa() && constraint.asIsa().type().id().isLabel()))) return false;
+        else if (rolePlayers.size() != 2 || !overlappingRolePlayers().isEmpty()) return false;
+        Iterator<RolePlayer> iterator = rolePlayers.iterator();
+        RolePlayer rp1 = iterator.next(), rp2 = iterator.next();
+        return !rp1.player().equals(rp2.player()) && isShortcutRolePlayer(rp1) && isShortcutRolePlayer(rp2);
+    }
+
+    private boolean isShortcutRolePlayer(RolePlayer rolePlayer) {
+        return !rolePlayer.inferredRoleTypes().isEmpty() &&
+                (!rolePlayer.roleType().isPresent() || !rolePlayer.roleType().get().id().isName());
+    }
+
+    public void addShortcutTo(GraphTraversal.Thing traversal) {
+        assert isShortcut();
+        Iterator<RolePlayer> iterator = rolePlayers.iterator();
+        RolePlayer rp1 = iterator.next(), rp2 = iterator.next();
+        traversal.shortcut(rp1.player().id(), rp2.player().id(), owner.inferredTypes(),
+                rp1.inferredRoleTypes(), rp2.inferredRoleTypes());
+    }
+
     private Set<RolePlayer> overlappingRolePlayers() {
         return iterate(rolePlayers).filter(rp1 ->
                 iterate(rolePlayers).anyMatch(rp2 -> !rp1.equals(rp2) && !equalOrDisjoint(rp1.inferredRoleTypes, rp2.inferredRoleTypes))
@@ -59,6 +59,7 @@ import static com.vaticle.typedb.core.common.exception.ErrorMessage.ThingRead.AG
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.parameters.Arguments.Query.Producer.EXHAUSTIVE;
 import static com.vaticle.typedb.core.query.Getter.Aggregator.aggregator;
+import static com.vaticle.typeql.lang.common.TypeQLToken.Aggregate.Method.COUNT;
 import static java.lang.Math.sqrt;
 import static java.util.stream.Collectors.groupingBy;
 
@@ -136,6 +137,10 @@ public class Getter {
         return reasoner.execute(disjunction, filter, modifiers, context, bindings);
     }
 
+    Optional<Long> countFromDegrees(ConceptMap bindings, Context.Query context) {
+        return reasoner.countFromDegrees(disjunction, filter, modifiers, context, bindings);
+    }
+
     public static class Aggregator {
 
         private final Getter getter;
@@ -160,8 +165,12 @@ public class Getter {
         }
 
         public Optional<Value<?>> execute(ConceptMap bindings) {
-            FunctionalIterator<? extends ConceptMap> answers = getter.execute(bindings, context);
             TypeQLToken.Aggregate.Method method = query.method();
+            if (method == COUNT) {
+                Optional<Long> count = getter.countFromDegrees(bindings, context);
+                if (count.isPresent()) return Optional.of(createValue(conceptMgr, count.get()));
+            }
+            FunctionalIterator<? extends ConceptMap> answers = getter.execute(bindings, context);
             TypeQLVariable var = query.var();
             return aggregate(conceptMgr, answers, method, var);
         }
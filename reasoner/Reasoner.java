@@ -20,6 +20,7 @@ package com.vaticle.typedb.core.reasoner;
 
 import com.vaticle.typedb.common.collection.Either;
 import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.iterator.sorted.SortedIterator;
@@ -31,17 +32,26 @@ import com.vaticle.typedb.core.concept.ConceptManager;
 import com.vaticle.typedb.core.concept.answer.ConceptMap;
 import com.vaticle.typedb.core.concept.type.AttributeType;
 import com.vaticle.typedb.core.concept.type.ThingType;
+import com.vaticle.typedb.core.concurrent.executor.QueryScheduler;
 import com.vaticle.typedb.core.concurrent.producer.Producer;
 import com.vaticle.typedb.core.concurrent.producer.Producers;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.ThingVertex;
+import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typedb.core.logic.LogicManager;
 import com.vaticle.typedb.core.logic.resolvable.Concludable;
 import com.vaticle.typedb.core.pattern.Conjunction;
 import com.vaticle.typedb.core.pattern.Disjunction;
 import com.vaticle.typedb.core.pattern.Negation;
+import com.vaticle.typedb.core.pattern.constraint.thing.HasConstraint;
+import com.vaticle.typedb.core.pattern.constraint.thing.ThingConstraint;
+import com.vaticle.typedb.core.pattern.variable.ThingVariable;
 import com.vaticle.typedb.core.pattern.variable.Variable;
 import com.vaticle.typedb.core.reasoner.answer.Explanation;
 import com.vaticle.typedb.core.reasoner.common.ReasonerPerfCounters;
 import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry;
+import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanCache;
 import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanner;
 import com.vaticle.typedb.core.traversal.TraversalEngine;
 import com.vaticle.typedb.core.traversal.common.Identifier;
@@ -49,6 +59,7 @@ import com.vaticle.typedb.core.traversal.common.Modifiers.Filter;
 import com.vaticle.typedb.core.traversal.common.Modifiers.Sorting;
 import com.vaticle.typeql.lang.query.TypeQLQuery;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -71,8 +82,10 @@ import static com.vaticle.typedb.core.common.parameters.Arguments.Query.Producer
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
 import static com.vaticle.typedb.core.concurrent.executor.Executors.PARALLELISATION_FACTOR;
 import static com.vaticle.typedb.core.concurrent.executor.Executors.actor;
-import static com.vaticle.typedb.core.concurrent.executor.Executors.async1;
+import static com.vaticle.typedb.core.concurrent.executor.Executors.scheduler;
+import static com.vaticle.typedb.core.concurrent.executor.QueryScheduler.Priority.INTERACTIVE;
 import static com.vaticle.typedb.core.concurrent.producer.Producers.produce;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
 
 public class Reasoner {
 
@@ -83,16 +96,18 @@ public class Reasoner {
     private final ExplainablesManager explainablesManager;
     private final ReasonerPlanner planner;
     private final ReasonerPerfCounters perfCounters;
+    private final QueryScheduler.Tenant executor;
 
-    public Reasoner(ConceptManager conceptMgr, LogicManager logicMgr,
-                    TraversalEngine traversalEng, Context.Transaction context) {
+    public Reasoner(ConceptManager conceptMgr, LogicManager logicMgr, TraversalEngine traversalEng,
+                    ReasonerPlanCache planCache, Context.Transaction context) {
         this.conceptMgr = conceptMgr;
         this.traversalEng = traversalEng;
         this.logicMgr = logicMgr;
         this.perfCounters = new ReasonerPerfCounters(context.options().infer() && context.options().reasonerPerfCounters());
-        this.planner = ReasonerPlanner.create(traversalEng, conceptMgr, logicMgr, perfCounters, context.options().explain());
+        this.planner = ReasonerPlanner.create(traversalEng, conceptMgr, logicMgr, planCache, perfCounters, context.options().explain());
         this.controllerRegistry = new ControllerRegistry(actor(), traversalEng, conceptMgr, logicMgr, planner, perfCounters, context);
         this.explainablesManager = new ExplainablesManager();
+        this.executor = scheduler().tenant(INTERACTIVE);
     }
 
     public ControllerRegistry controllerRegistry() {
@@ -134,6 +149,63 @@ public class Reasoner {
         return answers;
     }
 
+    /**
+     * Counts the answers of a has lookup from one owner, such as {@code match $x iid 0x...; $x has name $n; get $n;},
+     * from the degree counters of the owner instead of iterating its attributes.
+     *
+     * @return the count, or nothing if the query has any other shape, may be answered by reasoning, or the degrees of
+     * the owner are not counted or not readable
+     */
+    public Optional<Long> countFromDegrees(Disjunction disjunction, List<Identifier.Variable.Name> filterVars,
+                                           TypeQLQuery.Modifiers modifiers, Context.Query context, ConceptMap bindings) {
+        if (!bindings.concepts().isEmpty() || modifiers.sort().isPresent() || modifiers.offset().isPresent() ||
+                modifiers.limit().isPresent() || disjunction.conjunctions().size() != 1) {
+            return Optional.empty();
+        }
+        Conjunction conjunction = disjunction.conjunctions().get(0);
+        Optional<HasConstraint> has = hasFromOwnerIID(conjunction);
+        if (!has.isPresent()) return Optional.empty();
+        ThingVariable attribute = has.get().attribute();
+        // projecting away the attribute would count its owner at most once
+        if (filterVars.isEmpty() ? !attribute.id().isName() : !filterVars.contains(attribute.id())) {
+            return Optional.empty();
+        }
+        inferAndValidateTypes(disjunction);
+        if (!conjunction.isAnswerable() || mayReason(disjunction, context)) return Optional.empty();
+        GraphManager graphMgr = traversalEng.graph();
+        ThingVertex owner = graphMgr.data().getReadable(VertexIID.Thing.of(has.get().owner().iid().get().iid()), true);
+        if (owner == null || !has.get().owner().inferredTypes().contains(owner.type().properLabel())) {
+            return Optional.empty();
+        }
+        Set<TypeVertex> attributeTypes = iterate(attribute.inferredTypes()).map(graphMgr.schema()::getType).toSet();
+        return graphMgr.data().degrees().degree(owner, HAS.forward(), attributeTypes);
+    }
+
+    /**
+     * @return the has constraint of a conjunction that only looks up the attributes of one owner given by its IID,
+     * with at most labelled types on either side
+     */
+    private static Optional<HasConstraint> hasFromOwnerIID(Conjunction conjunction) {
+        if (!conjunction.negations().isEmpty()) return Optional.empty();
+        List<ThingVariable> things = new ArrayList<>();
+        for (Variable variable : conjunction.variables()) {
+            if (variable.isValue()) return Optional.empty();
+            else if (variable.isType()) {
+                if (!variable.asType().label().isPresent() || variable.constraints().size() != 1) return Optional.empty();
+            } else things.add(variable.asThing());
+        }
+        if (things.size() != 2) return Optional.empty();
+        ThingVariable owner = things.get(0).iid().isPresent() ? things.get(0) : things.get(1);
+        ThingVariable attribute = owner == things.get(0) ? things.get(1) : things.get(0);
+        if (!owner.iid().isPresent() || owner.has().size() != 1 ||
+                owner.has().iterator().next().attribute() != attribute ||
+                !iterate(owner.constraints()).allMatch(c -> c.isIID() || c.isHas() || c.isIsa()) ||
+                !iterate(attribute.constraints()).allMatch(ThingConstraint::isIsa)) {
+            return Optional.empty();
+        }
+        return Optional.of(owner.has().iterator().next());
+    }
+
     private Disjunction filterUnanswerable(Disjunction disjunction) {
         return new Disjunction(iterate(disjunction.conjunctions()).filter(Conjunction::isAnswerable).toList());
     }
@@ -230,21 +302,20 @@ public class Reasoner {
         ReasonerProducer.Match producer = disjunction.conjunctions().size() == 1
                 ? new ReasonerProducer.Match.Conjunction(disjunction.conjunctions().get(0), filter, context.options(), controllerRegistry, explainablesManager)
                 : new ReasonerProducer.Match.Disjunction(disjunction, filter, context.options(), controllerRegistry, explainablesManager);
-        return produce(producer, context.producer(), async1());
+        return produce(producer, context.producer(), executor);
     }
 
     public FunctionalIterator<ConceptMap> executeTraversal(Disjunction disjunction, Context.Query context, Filter filter) {
         FunctionalIterator<ConceptMap> answers;
         FunctionalIterator<Conjunction> conjs = iterate(disjunction.conjunctions());
         if (!context.options().parallel()) answers = conjs.flatMap(conj -> iterator(conj, filter));
-        else answers = produce(conjs.map(c -> producer(c, filter)).toList(), context.producer(), async1());
-        if (disjunction.conjunctions().size() > 1) answers = answers.distinct();
+        else answers = produce(conjs.map(c -> producer(c, filter)).toList(), context.producer(), executor);
+        if (disjunction.conjunctions().size() > 1) answers = answers.distinct(FingerprintSet.create(ConceptMap::fingerprint));
         return answers;
     }
 
     public SortedIterator<ConceptMap.Sortable, Order.Asc> executeTraversalSorted(Disjunction disjunction, Filter filter,
                                                                                  Sorting sorting) {
-        // TODO: parallelised sorted queries
         FunctionalIterator<Conjunction> conjs = iterate(disjunction.conjunctions());
         SortedIterator<ConceptMap.Sortable, Order.Asc> answers = conjs.mergeMap(conj -> iteratorSorted(conj, filter, sorting), ASC);
         if (disjunction.conjunctions().size() > 1) answers = answers.distinct();
@@ -260,7 +331,7 @@ public class Reasoner {
         } else {
             return traversalEng.producer(conjunction.traversal(), PARALLELISATION_FACTOR)
                     .map(conceptMgr::conceptMap).filter(answer -> !isNegated(answer, conjunction.negations()))
-                    .map(answer -> answer.filter(filter)).distinct();
+                    .map(answer -> answer.filter(filter)).distinct(FingerprintSet.concurrent(ConceptMap::fingerprint));
         }
     }
 
@@ -284,7 +355,7 @@ public class Reasoner {
         } else {
             return traversalEng.iterator(conjunction.traversal()).map(conceptMgr::conceptMap)
                     .filter(ans -> !isNegated(ans, conjunction.negations()))
-                    .map(conceptMap -> conceptMap.filter(filter)).distinct();
+                    .map(conceptMap -> conceptMap.filter(filter)).distinct(FingerprintSet.create(ConceptMap::fingerprint));
         }
     }
 
@@ -292,10 +363,10 @@ public class Reasoner {
                                                                           Filter filter, Sorting sorting) {
         ConceptMap.Sortable.Comparator comparator = ConceptMap.Comparator.create(sorting);
         if (conjunction.negations().isEmpty()) {
-            return traversalEng.iterator(conjunction.traversal(filter, sorting))
+            return traversalEng.iterator(conjunction.traversal(filter, sorting), PARALLELISATION_FACTOR, executor)
                     .mapSorted(vertexMap -> conceptMgr.conceptMapOrdered(vertexMap, comparator), ASC);
         } else {
-            return traversalEng.iterator(conjunction.traversal(Filter.create(list()), sorting))
+            return traversalEng.iterator(conjunction.traversal(Filter.create(list()), sorting), PARALLELISATION_FACTOR, executor)
                     .mapSorted(vertexMap -> conceptMgr.conceptMapOrdered(vertexMap, comparator), ASC)
                     .filter(ans -> !isNegated(ans, conjunction.negations()))
                     .mapSorted(conceptMap -> conceptMap.filter(filter), ASC).distinct();
@@ -328,7 +399,7 @@ public class Reasoner {
                 list(new ReasonerProducer.Explain(explainableConcludable, explainableBounds, defaultContext.options(),
                         controllerRegistry, explainablesManager)),
                 Either.first(Arguments.Query.Producer.INCREMENTAL),
-                async1()
+                executor
         );
     }
 
@@ -23,8 +23,13 @@ import com.vaticle.typedb.core.concurrent.executor.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public class ReasonerPerfCounters extends PerfCounters {
 
@@ -43,6 +48,8 @@ public class ReasonerPerfCounters extends PerfCounters {
     public final Counter compoundStreams;
     public final Counter compoundStreamMessagesReceived;
     public final Counter retrievableProcessors;
+    private final ConcurrentMap<String, Profile> profiles;
+    private final Profile disabledProfile;
 
     public ReasonerPerfCounters(boolean enabled) {
         super(enabled);
@@ -52,10 +59,33 @@ public class ReasonerPerfCounters extends PerfCounters {
         compoundStreams = register(COMPOUND_STREAMS);
         compoundStreamMessagesReceived = register(COMPOUND_STREAM_MESSAGES_RECEIVED);
         retrievableProcessors = register(RETRIEVABLE_PROCESSORS);
+        profiles = new ConcurrentHashMap<>();
+        disabledProfile = new Profile(false);
+    }
+
+    /**
+     * @return the counters of the controller with the given description, shared with its processors and with any
+     * other controller described the same way. When counters are disabled, the description is never computed.
+     */
+    public Profile profile(Supplier<String> controller) {
+        if (!enabled) return disabledProfile;
+        return profiles.computeIfAbsent(controller.get(), c -> new Profile(true));
+    }
+
+    public Map<String, Profile> profiles() {
+        return profiles;
     }
 
     public void logCounters() {
-        if (enabled) LOG.debug("Perf counters:\n{}", this);
+        if (enabled) LOG.debug("Perf counters:\n{}\nController profiles:\n{}", this, profilesToString());
+    }
+
+    private String profilesToString() {
+        StringBuilder sb = new StringBuilder();
+        profiles.entrySet().stream()
+                .sorted(Comparator.comparing(e -> -e.getValue().actorTimeNs.get()))
+                .forEach(e -> sb.append(e.getKey()).append('\n').append(e.getValue()));
+        return sb.toString();
     }
 
     private ScheduledFuture<?> printingTask;
@@ -72,4 +102,39 @@ public class ReasonerPerfCounters extends PerfCounters {
             printingTask = null;
         }
     }
+
+    /**
+     * The work done by one controller and its processors, with enough breakdown to tell which rule or pattern an
+     * inferred query spends its time on.
+     */
+    public static class Profile extends PerfCounters {
+
+        public static final String PROCESSORS = "controller_processors";
+        public static final String ANSWERS = "controller_answers";
+        public static final String PULLS = "controller_pulls";
+        public static final String MESSAGES_RECEIVED = "controller_messages_received";
+        public static final String ACTOR_TIME_NS = "controller_actor_time_ns";
+        public static final String MATERIALISATIONS = "controller_materialisations";
+
+        public final Counter processors;
+        public final Counter answers;
+        public final Counter pulls;
+        public final Counter messagesReceived;
+        public final Counter actorTimeNs;
+        public final Counter materialisations;
+
+        private Profile(boolean enabled) {
+            super(enabled);
+            processors = register(PROCESSORS);
+            answers = register(ANSWERS);
+            pulls = register(PULLS);
+            messagesReceived = register(MESSAGES_RECEIVED);
+            actorTimeNs = register(ACTOR_TIME_NS);
+            materialisations = register(MATERIALISATIONS);
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
 }
@@ -41,8 +41,14 @@ public class Traversal {
 
     public static FunctionalIterator<ConceptMap> traversalIterator(ControllerRegistry registry,
                                                                    Conjunction conjunction, ConceptMap bounds) {
+        return traversalIterator(registry, conjunction, bounds, false);
+    }
+
+    public static FunctionalIterator<ConceptMap> traversalIterator(ControllerRegistry registry, Conjunction conjunction,
+                                                                   ConceptMap bounds, boolean excludeInferred) {
         return compatibleBounds(conjunction, bounds).map(c -> {
             GraphTraversal.Thing traversal = boundTraversal(conjunction.traversal(), c);
+            if (excludeInferred) traversal.excludeInferred();
             return registry.traversalEngine().iterator(traversal).map(v -> registry.conceptManager().conceptMap(v));
         }).orElse(Iterators.empty());
     }
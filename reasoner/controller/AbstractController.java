@@ -48,12 +48,14 @@ public abstract class AbstractController<
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractController.class);
     private final Context context;
+    private final ReasonerPerfCounters.Profile profile;
 
     private final Map<PROCESSOR_ID, Actor.Driver<PROCESSOR>> processors;
 
     AbstractController(Driver<CONTROLLER> driver, Context context, Supplier<String> debugName) {
         super(driver, debugName);
         this.context = context;
+        this.profile = context.processor().perfCounters().profile(debugName);
         this.processors = new HashMap<>();
     }
 
@@ -88,22 +90,40 @@ public abstract class AbstractController<
      * Called on the target controller
      */
     <RECEIVED_REQ extends AbstractRequest<?, PROCESSOR_ID, OUTPUT>> void establishProcessorConnection(RECEIVED_REQ req) {
-        getOrCreateProcessor(req.bounds()).execute(actor -> actor.establishConnection(req));
+        getOrCreateProcessor(req.bounds(), req.requestingProcessor()).execute(actor -> actor.establishConnection(req));
     }
 
     Driver<PROCESSOR> getOrCreateProcessor(PROCESSOR_ID processorId) {
+        return getOrCreateProcessor(processorId, null);
+    }
+
+    /**
+     * @param requester the processor the new processor is created to answer, which it is co-located with if possible
+     */
+    private Driver<PROCESSOR> getOrCreateProcessor(PROCESSOR_ID processorId, @Nullable Driver<?> requester) {
         // TODO: We can do subsumption in the subtypes here
-        return processors.computeIfAbsent(processorId, this::createProcessor);
+        return processors.computeIfAbsent(processorId, id -> createProcessor(id, requester));
     }
 
-    private Actor.Driver<PROCESSOR> createProcessor(PROCESSOR_ID processorId) {
-        Driver<PROCESSOR> processor = Actor.driver(
-                d -> createProcessorFromDriver(d, processorId), context.executorService()
-        );
+    private Actor.Driver<PROCESSOR> createProcessor(PROCESSOR_ID processorId, @Nullable Driver<?> requester) {
+        Driver<PROCESSOR> processor = requester == null
+                ? Actor.driver(d -> createProcessorFromDriver(d, processorId), context.executorService())
+                : Actor.driver(d -> createProcessorFromDriver(d, processorId), context.executorService(), requester);
         processor.execute(AbstractProcessor::setUp);
+        profile.processors.add(1);
         return processor;
     }
 
+    @Override
+    protected boolean isProfiled() {
+        return profile.isEnabled();
+    }
+
+    @Override
+    protected void recordExecution(long nanos) {
+        profile.actorTimeNs.add(nanos);
+    }
+
     protected abstract PROCESSOR createProcessorFromDriver(Driver<PROCESSOR> processorDriver, PROCESSOR_ID processorId);
 
     @Override
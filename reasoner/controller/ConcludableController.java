@@ -62,6 +62,7 @@ public abstract class ConcludableController<INPUT, OUTPUT,
 
     private final Map<Conclusion, Driver<? extends ConclusionController<INPUT, ?, ?>>> conclusionControllers;
     final Map<Conclusion, Set<Unifier>> conclusionUnifiers;
+    final Map<Unifier, ConceptMap> constantBounds;
     final Concludable concludable;
 
     private ConcludableController(Driver<CONTROLLER> driver, Concludable concludable, Context context) {
@@ -69,6 +70,7 @@ public abstract class ConcludableController<INPUT, OUTPUT,
         this.concludable = concludable;
         this.conclusionControllers = new HashMap<>();
         this.conclusionUnifiers = new HashMap<>();
+        this.constantBounds = new HashMap<>();
     }
 
     public static boolean canBypassReasoning(Concludable concludable, Set<com.vaticle.typedb.core.traversal.common.Identifier.Variable.Retrievable> boundVariables, boolean isExplainEnabled) {
@@ -82,6 +84,9 @@ public abstract class ConcludableController<INPUT, OUTPUT,
                 Driver<? extends ConclusionController<INPUT, ?, ?>> controller = registerConclusionController(rule);
                 conclusionControllers.put(rule.conclusion(), controller);
                 conclusionUnifiers.put(rule.conclusion(), ruleAndUnifiers.getValue());
+                ruleAndUnifiers.getValue().forEach(unifier -> constantBounds.put(
+                        unifier, unifier.constantBounds(registry().conceptManager())
+                ));
         });
     }
 
@@ -106,7 +111,9 @@ public abstract class ConcludableController<INPUT, OUTPUT,
         protected Processor.Match createProcessorFromDriver(Driver<Processor.Match> matchDriver, ConceptMap bounds) {
             return new Processor.Match(
                     matchDriver, driver(), concludable, processorContext(), bounds, unboundVars, conclusionUnifiers,
+                    constantBounds,
                     () -> Traversal.traversalIterator(registry(), concludable.pattern(), bounds),
+                    () -> Traversal.traversalIterator(registry(), concludable.pattern(), bounds, true),
                     () -> Processor.class.getSimpleName() + "(pattern: " + concludable.pattern() + ", bounds: " + bounds + ")"
             );
         }
@@ -167,7 +174,8 @@ public abstract class ConcludableController<INPUT, OUTPUT,
             //  concludable. They should be filtered before being passed to the concludableProcessor's constructor
             assert bounds.equals(this.bounds);
             return new Processor.Explain(
-                    explainDriver, driver(), processorContext(), concludable, bounds, conclusionUnifiers, reasonerConsumer,
+                    explainDriver, driver(), processorContext(), concludable, bounds, conclusionUnifiers, constantBounds,
+                    reasonerConsumer,
                     () -> Traversal.traversalIterator(registry(), concludable.pattern(), bounds),
                     () -> Processor.class.getSimpleName() + "(pattern: " + concludable.pattern() + ", bounds: " + bounds + ")"
             );
@@ -187,19 +195,21 @@ public abstract class ConcludableController<INPUT, OUTPUT,
         final Concludable concludable;
         final ConceptMap bounds;
         private final Map<Conclusion, Set<Unifier>> conclusionUnifiers;
+        private final Map<Unifier, ConceptMap> constantBounds;
         private final Set<Identifier> requestedConnections;
         final java.util.function.Supplier<FunctionalIterator<ConceptMap>> traversalSuppplier;
 
         Processor(Driver<PROCESSOR> driver,
                   Driver<? extends AbstractController<?, INPUT, OUTPUT, REQ, PROCESSOR, ?>> controller,
                   Concludable concludable, Context context, ConceptMap bounds,
-                  Map<Conclusion, Set<Unifier>> conclusionUnifiers,
+                  Map<Conclusion, Set<Unifier>> conclusionUnifiers, Map<Unifier, ConceptMap> constantBounds,
                   Supplier<FunctionalIterator<ConceptMap>> traversalSuppplier,
                   Supplier<String> debugName) {
             super(driver, controller, context, debugName);
             this.concludable = concludable;
             this.bounds = bounds;
             this.conclusionUnifiers = conclusionUnifiers;
+            this.constantBounds = constantBounds;
             this.traversalSuppplier = traversalSuppplier;
             this.requestedConnections = new HashSet<>();
         }
@@ -207,13 +217,32 @@ public abstract class ConcludableController<INPUT, OUTPUT,
         void addRules() {
             conclusionUnifiers.forEach((conclusion, unifiers) -> {
                 unifiers.forEach(unifier -> unifier.unify(bounds).ifPresent(boundsAndRequirements -> {
+                    ConceptMap conclusionBounds = withConstantBounds(boundsAndRequirements.first(), constantBounds.get(unifier));
+                    if (conclusionBounds == null) return;
                     InputPort<INPUT> inputPort = createInputPort();
-                    mayRequestConnection(createRequest(inputPort.identifier(), conclusion, boundsAndRequirements.first()));
+                    mayRequestConnection(createRequest(inputPort.identifier(), conclusion, conclusionBounds));
                     transformInput(inputPort, unifier, boundsAndRequirements.second()).flatMap(this::rejectMismatchedInference).buffer().registerSubscriber(hubReactive());
                 }));
             });
         }
 
+        /**
+         * Extend the bounds unified into a conclusion with the attributes its constants fix, so the rule body only
+         * explores answers that can satisfy the constants.
+         *
+         * @return the extended bounds, or null if a constant contradicts a bound, so the rule cannot produce answers
+         */
+        @Nullable
+        private static ConceptMap withConstantBounds(ConceptMap unifiedBounds, ConceptMap constantBounds) {
+            if (constantBounds.concepts().isEmpty()) return unifiedBounds;
+            Map<Variable.Retrievable, Concept> bounds = new HashMap<>(unifiedBounds.concepts());
+            for (Map.Entry<Variable.Retrievable, ? extends Concept> entry : constantBounds.concepts().entrySet()) {
+                Concept bound = bounds.putIfAbsent(entry.getKey(), entry.getValue());
+                if (bound != null && !bound.equals(entry.getValue())) return null;
+            }
+            return new ConceptMap(bounds);
+        }
+
         /*
          * This method rectifies a design issue: it is possible for an `Isa` or `Attribute` concludable to unify with a
          * `Conclusion.Has.Explicit` rule. In the case where the `has` edge is inferred but the owned attribute is not,
@@ -239,13 +268,18 @@ public abstract class ConcludableController<INPUT, OUTPUT,
 
         public static class Match extends Processor<Map<Variable, Concept>, ConceptMap, Match.Request, Match> {
 
+            private final Supplier<FunctionalIterator<ConceptMap>> storedTraversalSupplier;
+
             Match(
                     Driver<Match> driver, Driver<ConcludableController.Match> controller, Concludable concludable,
                     Context context, ConceptMap bounds, Set<Variable.Retrievable> unboundVars,
-                    Map<Conclusion, Set<Unifier>> conclusionUnifiers,
-                    Supplier<FunctionalIterator<ConceptMap>> traversalSuppplier, Supplier<String> debugName
+                    Map<Conclusion, Set<Unifier>> conclusionUnifiers, Map<Unifier, ConceptMap> constantBounds,
+                    Supplier<FunctionalIterator<ConceptMap>> traversalSuppplier,
+                    Supplier<FunctionalIterator<ConceptMap>> storedTraversalSupplier, Supplier<String> debugName
             ) {
-                super(driver, controller, concludable, context, bounds, conclusionUnifiers, traversalSuppplier, debugName);
+                super(driver, controller, concludable, context, bounds, conclusionUnifiers, constantBounds,
+                      traversalSuppplier, debugName);
+                this.storedTraversalSupplier = storedTraversalSupplier;
             }
 
 
@@ -275,20 +309,10 @@ public abstract class ConcludableController<INPUT, OUTPUT,
                 if (includeInferred) {
                     new Source<>(this, traversalSuppplier).map(ans -> withExplainable(ans, concludable)).registerSubscriber(hubReactive());
                 } else {
-                    new Source<>(this, traversalSuppplier).flatMap(this::filterInferred).registerSubscriber(hubReactive());
+                    new Source<>(this, storedTraversalSupplier).registerSubscriber(hubReactive());
                 }
             }
 
-            private FunctionalIterator<ConceptMap> filterInferred(ConceptMap conceptMap) {
-                // TODO: Requires duplicate effort to filter out inferred concludable answers. Instead create a new
-                //  traversal mode that doesn't return inferred concepts
-                if (concludable.isInferredAnswer(conceptMap)) return empty();
-                for (Concept c : conceptMap.concepts().values()) {
-                    if (c.isThing() && c.asThing().existence() == INFERRED) return empty();
-                }
-                return Iterators.single(conceptMap);
-            }
-
             @Override
             protected FunctionalIterator<ConceptMap> rejectMismatchedInference(ConceptMap conceptMap) {
                 Concept conceptToCheck = null;
@@ -354,12 +378,13 @@ public abstract class ConcludableController<INPUT, OUTPUT,
                     Concludable concludable,
                     ConceptMap bounds,
                     Map<Conclusion, Set<Unifier>> conclusionUnifiers,
+                    Map<Unifier, ConceptMap> constantBounds,
                     ReasonerConsumer<Explanation> reasonerConsumer,
                     Supplier<FunctionalIterator<ConceptMap>> traversalSuppplier,
                     Supplier<String> debugName
             ) {
-                super(driver, controller, concludable, context, bounds, conclusionUnifiers, traversalSuppplier,
-                      debugName);
+                super(driver, controller, concludable, context, bounds, conclusionUnifiers, constantBounds,
+                      traversalSuppplier, debugName);
                 this.reasonerConsumer = reasonerConsumer;
             }
 
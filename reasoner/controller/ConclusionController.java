@@ -252,6 +252,7 @@ public abstract class ConclusionController<
         private void mayRequestMaterialiser(MaterialiserRequest materialisationRequest) {
             if (!materialisationRequests.contains(materialisationRequest.id())) {
                 materialisationRequests.add(materialisationRequest.id());
+                profile().materialisations.add(1);
                 requestConnection(materialisationRequest);
             }
         }
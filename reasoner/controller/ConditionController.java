@@ -19,15 +19,33 @@
 package com.vaticle.typedb.core.reasoner.controller;
 
 import com.vaticle.typedb.common.collection.Either;
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
+import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.concept.answer.ConceptMap;
-import com.vaticle.typedb.core.logic.Rule;
+import com.vaticle.typedb.core.encoding.Storage;
+import com.vaticle.typedb.core.logic.ConditionTable;
 import com.vaticle.typedb.core.logic.Materialiser.Materialisation;
+import com.vaticle.typedb.core.logic.Rule;
+import com.vaticle.typedb.core.logic.resolvable.ResolvableConjunction;
 import com.vaticle.typedb.core.logic.resolvable.ResolvableDisjunction;
+import com.vaticle.typedb.core.pattern.variable.Variable;
+import com.vaticle.typedb.core.reasoner.common.Traversal;
 import com.vaticle.typedb.core.reasoner.processor.reactive.PoolingStream;
 import com.vaticle.typedb.core.reasoner.processor.reactive.Reactive.Stream;
+import com.vaticle.typedb.core.reasoner.processor.reactive.Source;
+import com.vaticle.typedb.core.traversal.common.Identifier.Variable.Retrievable;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
+import static com.vaticle.typedb.core.common.iterator.Iterators.empty;
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.reasoner.processor.reactive.PoolingStream.BufferedFanStream.fanInFanOut;
 
@@ -39,28 +57,141 @@ public class ConditionController extends DisjunctionController<
     // Either<> here is just to match the input to ConclusionController, but this class only ever returns ConceptMap
 
     private final Rule.Condition condition;
+    private boolean isGround;
+    private Set<Label> groundTypes;
 
     ConditionController(Driver<ConditionController> driver, Rule.Condition condition, Context context) {
         super(driver, condition.disjunction(), iterate(condition.rule().conclusion().retrievableIds()).filter(v -> !v.isAnonymous()).toSet(), context);
         this.condition = condition;
     }
 
+    /**
+     * A ground condition is one that no rule can contribute answers to, so it can be answered by traversals alone,
+     * without any upstream controllers. The answers of ground conditions in read transactions are tabled across
+     * transactions in the database's ConditionTable. Conditions with inferred inputs are not tabled: an upstream
+     * processor is only known to be exhausted once its root finishes, and inferred concepts live in the transaction
+     * that created them.
+     */
+    @Override
+    protected void setUpUpstreamControllers() {
+        isGround = !processorContext().explainEnabled() && iterate(disjunction.conjunctions()).allMatch(this::isGround);
+        if (isGround) groundTypes = registry().logicManager().conditionDependencies(condition.rule());
+        else super.setUpUpstreamControllers();
+    }
+
+    private boolean isGround(ResolvableConjunction conjunction) {
+        return iterate(conjunction.pattern().variables()).noneMatch(Variable::isValue) &&
+                iterate(conjunction.positiveConcludables()).allMatch(
+                        concludable -> registry().logicManager().applicableRules(concludable).isEmpty()
+                ) &&
+                iterate(conjunction.negations()).flatMap(negated -> iterate(negated.disjunction().conjunctions()))
+                        .allMatch(this::isGround);
+    }
+
     @Override
     protected Processor createProcessorFromDriver(Driver<Processor> processorDriver,
                                                           ConceptMap bounds) {
         return new Processor(
                 processorDriver, driver(), processorContext(), disjunction, bounds,
+                isGround ? () -> groundAnswers(bounds) : null,
                 () -> Processor.class.getSimpleName() + "(pattern: " + condition.disjunction().pattern() + ", bounds: " + bounds + ")"
         );
     }
 
+    private FunctionalIterator<ConceptMap> groundAnswers(ConceptMap bounds) {
+        Storage.Data storage = registry().conceptManager().graph().data().storage();
+        Optional<Map<Retrievable, Either<Label, ByteArray>>> tableBounds;
+        if (!storage.isReadOnly() || !(tableBounds = ConditionTable.answer(bounds)).isPresent()) return traverse(bounds);
+
+        ConditionTable table = registry().logicManager().conditionTable();
+        Optional<List<Map<Retrievable, Either<Label, ByteArray>>>> tabled =
+                table.get(condition.rule(), tableBounds.get(), storage.snapshotStart());
+        Optional<List<ConceptMap>> answers;
+        if (tabled.isPresent() && (answers = conceptMaps(tabled.get())).isPresent()) {
+            return iterate(answers.get());
+        }
+        Recording recording = new Recording(table, tableBounds.get(), storage.snapshotStart());
+        return traverse(bounds).map(recording::record).onConsumed(recording::publish);
+    }
+
+    private FunctionalIterator<ConceptMap> traverse(ConceptMap bounds) {
+        return iterate(disjunction.conjunctions())
+                .flatMap(conjunction -> traverse(conjunction, bounds).map(answer -> answer.filter(outputVariables)))
+                .distinct(FingerprintSet.create(ConceptMap::fingerprint));
+    }
+
+    private FunctionalIterator<ConceptMap> traverse(ResolvableConjunction conjunction, ConceptMap bounds) {
+        if (!conjunction.pattern().isAnswerable()) return empty();
+        return Traversal.traversalIterator(registry(), conjunction.pattern(), bounds.filter(conjunction.pattern().retrieves()))
+                .filter(answer -> iterate(conjunction.negations())
+                        .flatMap(negated -> iterate(negated.disjunction().conjunctions()))
+                        .noneMatch(negatedConjunction -> traverse(negatedConjunction, answer).first().isPresent()));
+    }
+
+    private Optional<List<ConceptMap>> conceptMaps(List<Map<Retrievable, Either<Label, ByteArray>>> tabled) {
+        List<ConceptMap> conceptMaps = new ArrayList<>(tabled.size());
+        for (Map<Retrievable, Either<Label, ByteArray>> answer : tabled) {
+            ConceptMap conceptMap = ConditionTable.conceptMap(answer, registry().conceptManager());
+            if (conceptMap == null) return Optional.empty();
+            conceptMaps.add(conceptMap);
+        }
+        return Optional.of(conceptMaps);
+    }
+
+    /**
+     * Records the answers of a fully traversed ground condition, to be published to the ConditionTable. Recording is
+     * abandoned if an answer cannot be tabled, or the table's limit is exceeded.
+     */
+    private class Recording {
+
+        private final ConditionTable table;
+        private final Map<Retrievable, Either<Label, ByteArray>> bounds;
+        private final long snapshot;
+        private List<Map<Retrievable, Either<Label, ByteArray>>> answers;
+
+        private Recording(ConditionTable table, Map<Retrievable, Either<Label, ByteArray>> bounds, long snapshot) {
+            this.table = table;
+            this.bounds = bounds;
+            this.snapshot = snapshot;
+            this.answers = new ArrayList<>();
+        }
+
+        private ConceptMap record(ConceptMap answer) {
+            if (answers == null) return answer;
+            Optional<Map<Retrievable, Either<Label, ByteArray>>> tableable = ConditionTable.answer(answer);
+            if (tableable.isPresent() && answers.size() < table.answersLimit()) answers.add(tableable.get());
+            else answers = null;
+            return answer;
+        }
+
+        private void publish() {
+            if (answers != null) table.put(condition.rule(), bounds, answers, groundTypes, snapshot);
+        }
+    }
+
     protected static class Processor
             extends DisjunctionController.Processor<Either<ConceptMap, Materialisation>, Processor> {
 
+        private final Supplier<FunctionalIterator<ConceptMap>> groundAnswers;
+
         private Processor(Driver<Processor> driver, Driver<ConditionController> controller,
                           Context context, ResolvableDisjunction disjunction, ConceptMap bounds,
+                          @Nullable Supplier<FunctionalIterator<ConceptMap>> groundAnswers,
                           Supplier<String> debugName) {
             super(driver, controller, context, disjunction, bounds, debugName);
+            this.groundAnswers = groundAnswers;
+        }
+
+        @Override
+        public void setUp() {
+            if (groundAnswers == null) super.setUp();
+            else {
+                Stream<ConceptMap, Either<ConceptMap, Materialisation>> mapStream =
+                        new Source<>(this, groundAnswers).map(Either::first);
+                PoolingStream.BufferedFanStream<Either<ConceptMap, Materialisation>> fanMap = fanInFanOut(this);
+                mapStream.registerSubscriber(fanMap);
+                setHubReactive(fanMap);
+            }
         }
 
         @Override
@@ -34,8 +34,8 @@ import com.vaticle.typedb.core.reasoner.controller.ConjunctionController.Process
 import com.vaticle.typedb.core.reasoner.controller.ConjunctionController.Processor.NegatedRequest;
 import com.vaticle.typedb.core.reasoner.controller.ConjunctionController.Processor.RetrievableRequest;
 import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry.ControllerView.FilteredNegation;
-import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry.ControllerView.FilteredRetrievable;
 import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry.ControllerView.MappedConcludable;
+import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry.ControllerView.MappedRetrievable;
 import com.vaticle.typedb.core.reasoner.processor.AbstractProcessor;
 import com.vaticle.typedb.core.reasoner.processor.AbstractRequest;
 import com.vaticle.typedb.core.reasoner.processor.InputPort;
@@ -74,7 +74,7 @@ public abstract class ConjunctionController<
         > {
 
     private final Set<Resolvable<?>> resolvables;
-    private final Map<Retrievable, FilteredRetrievable> retrievableControllers;
+    private final Map<Retrievable, MappedRetrievable> retrievableControllers;
     private final Map<Concludable, MappedConcludable> concludableControllers;
     private final Map<Negated, FilteredNegation> negationControllers;
     final ResolvableConjunction conjunction;
@@ -101,7 +101,7 @@ public abstract class ConjunctionController<
                 concludableControllers.put(c, registry().getOrCreateConcludable(c))
         );
         iterate(resolvables).filter(Resolvable::isRetrievable).map(Resolvable::asRetrievable).forEachRemaining(r ->
-                retrievableControllers.put(r, registry().createRetrievable(r))
+                retrievableControllers.put(r, registry().getOrCreateRetrievable(r))
         );
         iterate(resolvables).filter(Resolvable::isNegated).map(Resolvable::asNegated).forEachRemaining(negated ->
                 negationControllers.put(negated, registry().createNegation(negated, conjunction))
@@ -127,10 +127,13 @@ public abstract class ConjunctionController<
     public void routeConnectionRequest(Request<?> connectionRequest) {
         if (connectionRequest.isRetrievable()) {
             RetrievableRequest req = connectionRequest.asRetrievable();
-            FilteredRetrievable controllerView = retrievableControllers.get(req.controllerId());
+            MappedRetrievable controllerView = retrievableControllers.get(req.controllerId());
+            Mapping mapping = Mapping.of(controllerView.mapping());
+            ConceptMap newPID = mapping.transform(req.bounds());
             controllerView.controller().execute(actor -> actor.establishProcessorConnection(req
+                    .withMap(mapping::unTransform)
                     .withMap(c -> merge(c, req.bounds()))
-                    .withNewBounds(req.bounds().filter(controllerView.filter()))));
+                    .withNewBounds(newPID)));
         } else if (connectionRequest.isConcludable()) {
             ConcludableRequest req = connectionRequest.asConcludable();
             MappedConcludable controllerView = concludableControllers.get(req.controllerId());
@@ -68,6 +68,7 @@ public class ControllerRegistry {
     private final LogicManager logicMgr;
     private final Map<Concludable, Driver<ConcludableController.Match>> concludableControllers;
     private final Map<Driver<ConcludableController.Match>, Set<Concludable>> controllerConcludables;
+    private final Map<Retrievable, Driver<RetrievableController>> retrievableControllers;
     private final Map<Rule, Driver<ConditionController>> conditions;
     private final Map<Rule, Driver<ConclusionController.Match>> conclusions; // by Rule not Rule.Conclusion because well defined equality exists
     private final Map<Rule, Driver<ConclusionController.Explain>> explainConclusions;
@@ -85,6 +86,7 @@ public class ControllerRegistry {
         this.logicMgr = logicMgr;
         this.concludableControllers = new ConcurrentHashMap<>();
         this.controllerConcludables = new ConcurrentHashMap<>();
+        this.retrievableControllers = new ConcurrentHashMap<>();
         this.conditions = new ConcurrentHashMap<>();
         this.conclusions = new ConcurrentHashMap<>();
         this.explainConclusions = new ConcurrentHashMap<>();
@@ -231,12 +233,33 @@ public class ControllerRegistry {
         return Optional.empty();
     }
 
-    ControllerView.FilteredRetrievable createRetrievable(Retrievable retrievable) {
-        // TODO: Support re-using retrievables?
+    /**
+     * Rule conditions often share the same joins, so alpha-equivalent retrievables share a controller, and each of its
+     * processors fans its answers out to every conjunction that requests the same bounds. Lookup and registration
+     * happen under one lock, so concurrently created equivalent retrievables still share a single controller.
+     */
+    synchronized ControllerView.MappedRetrievable getOrCreateRetrievable(Retrievable retrievable) {
+        Optional<ControllerView.MappedRetrievable> controllerViewOpt = getRetrievable(retrievable);
+        if (controllerViewOpt.isPresent()) {
+            LOG.debug("Got RetrievableController: '{}'", retrievable.pattern());
+            return controllerViewOpt.get();
+        }
         Function<Driver<RetrievableController>, RetrievableController> actorFn =
                 driver -> new RetrievableController(driver, retrievable, controllerContext);
         LOG.debug("Create RetrievableController: '{}'", retrievable.pattern());
-        return ControllerView.retrievable(createController(actorFn), Modifiers.Filter.create(retrievable.retrieves()));
+        Driver<RetrievableController> controller = createController(actorFn);
+        retrievableControllers.put(retrievable, controller);
+        return ControllerView.retrievable(controller, identity(retrievable));
+    }
+
+    private Optional<ControllerView.MappedRetrievable> getRetrievable(Retrievable retrievable) {
+        for (Map.Entry<Retrievable, Driver<RetrievableController>> r : retrievableControllers.entrySet()) {
+            Optional<AlphaEquivalence> alphaEquality = retrievable.alphaEquals(r.getKey()).first();
+            if (alphaEquality.isPresent()) {
+                return Optional.of(ControllerView.retrievable(r.getValue(), alphaEquality.get().retrievableMapping()));
+            }
+        }
+        return Optional.empty();
     }
 
     ControllerView.FilteredNegation createNegation(Negated negated, ResolvableConjunction conjunction) {
@@ -303,8 +326,9 @@ public class ControllerRegistry {
             return new FilteredNegation(controller, filter);
         }
 
-        private static FilteredRetrievable retrievable(Driver<RetrievableController> controller, Modifiers.Filter filter) {
-            return new FilteredRetrievable(controller, filter);
+        private static MappedRetrievable retrievable(Driver<RetrievableController> controller,
+                                                     Map<Variable.Retrievable, Variable.Retrievable> mapping) {
+            return new MappedRetrievable(controller, mapping);
         }
 
         public abstract Driver<? extends AbstractController<?, ?, ?, ?, ?, ?>> controller();
@@ -348,17 +372,18 @@ public class ControllerRegistry {
             }
         }
 
-        public static class FilteredRetrievable extends ControllerView {
+        public static class MappedRetrievable extends ControllerView {
             private final Driver<RetrievableController> controller;
-            private final Modifiers.Filter filter;
+            private final Map<Variable.Retrievable, Variable.Retrievable> mapping;
 
-            private FilteredRetrievable(Driver<RetrievableController> controller, Modifiers.Filter filter) {
+            private MappedRetrievable(Driver<RetrievableController> controller, Map<Variable.Retrievable,
+                    Variable.Retrievable> mapping) {
                 this.controller = controller;
-                this.filter = filter;
+                this.mapping = mapping;
             }
 
-            public Modifiers.Filter filter() {
-                return filter;
+            public Map<Variable.Retrievable, Variable.Retrievable> mapping() {
+                return mapping;
             }
 
             @Override
@@ -52,7 +52,7 @@ public abstract class DisjunctionController<
         > extends AbstractController<ConceptMap, ConceptMap, OUTPUT, Request, PROCESSOR, CONTROLLER> {
 
     private final List<Pair<ResolvableConjunction, Driver<NestedConjunctionController>>> conjunctionControllers;
-    private final Set<Retrievable> outputVariables;
+    final Set<Retrievable> outputVariables;
     ResolvableDisjunction disjunction;
 
     DisjunctionController(Driver<CONTROLLER> driver, ResolvableDisjunction disjunction, Set<Identifier.Variable.Retrievable> outputVariables, Context context) {
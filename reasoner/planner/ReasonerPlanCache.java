@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.reasoner.planner;
+
+import com.vaticle.typedb.core.common.cache.CommonCache;
+import com.vaticle.typedb.core.logic.resolvable.Resolvable;
+import com.vaticle.typedb.core.pattern.variable.Variable;
+import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanner.CallMode;
+import com.vaticle.typedb.core.reasoner.planner.ReasonerPlanner.Plan;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The reasoner plans of a database, shared by its transactions.
+ * <p>
+ * Plans are keyed by the canonical form of their conjunction, and refer to the resolvables compiled for that form in
+ * the database's LogicCache. A plan is bound to the compiled set it was costed over, and is dropped once that set has
+ * been evicted and recompiled, so a plan never outlives its resolvables. Both caches are also replaced together when
+ * the schema changes. A plan is costed against the statistics of one committed version, so it is only reused by
+ * transactions that read the same version.
+ */
+public class ReasonerPlanCache {
+
+    private final CommonCache<Key, Entry> plans;
+
+    public ReasonerPlanCache() {
+        this.plans = new CommonCache<>();
+    }
+
+    Plan get(CallMode callMode, boolean explain, long statisticsVersion, Set<Resolvable<?>> compiled) {
+        Key key = new Key(callMode, explain, statisticsVersion);
+        Entry entry = plans.getIfPresent(key);
+        if (entry == null) return null;
+        else if (entry.compiled != compiled) {
+            plans.invalidate(key);
+            return null;
+        } else return entry.plan;
+    }
+
+    void put(CallMode callMode, boolean explain, long statisticsVersion, Set<Resolvable<?>> compiled, Plan plan) {
+        plans.put(new Key(callMode, explain, statisticsVersion), new Entry(compiled, plan));
+    }
+
+    private static class Entry {
+
+        private final Set<Resolvable<?>> compiled;
+        private final Plan plan;
+
+        private Entry(Set<Resolvable<?>> compiled, Plan plan) {
+            this.compiled = compiled;
+            this.plan = plan;
+        }
+    }
+
+    private static class Key {
+
+        private final String conjunction;
+        private final Set<Variable> mode;
+        private final boolean explain;
+        private final long statisticsVersion;
+        private final int hash;
+
+        private Key(CallMode callMode, boolean explain, long statisticsVersion) {
+            this.conjunction = callMode.conjunction.canonical();
+            this.mode = callMode.mode;
+            this.explain = explain;
+            this.statisticsVersion = statisticsVersion;
+            this.hash = Objects.hash(conjunction, mode, explain, statisticsVersion);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return conjunction.equals(that.conjunction) && mode.equals(that.mode) && explain == that.explain &&
+                    statisticsVersion == that.statisticsVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -57,19 +57,29 @@ public abstract class ReasonerPlanner {
     final LogicManager logicMgr;
     private final boolean explain;
     final CommonCache<CallMode, Plan> planCache;
+    private final ReasonerPlanCache sharedPlanCache;
+    private final long statisticsVersion;
     final ReasonerPerfCounters perfCounters;
 
-    public ReasonerPlanner(TraversalEngine traversalEng, ConceptManager conceptMgr, LogicManager logicMgr, ReasonerPerfCounters perfCounters, boolean explain) {
+    public ReasonerPlanner(TraversalEngine traversalEng, ConceptManager conceptMgr, LogicManager logicMgr,
+                           ReasonerPlanCache sharedPlanCache, ReasonerPerfCounters perfCounters, boolean explain) {
         this.traversalEng = traversalEng;
         this.conceptMgr = conceptMgr;
         this.logicMgr = logicMgr;
         this.perfCounters = perfCounters;
         this.explain = explain;
         this.planCache = new CommonCache<>();
+        this.sharedPlanCache = sharedPlanCache;
+        this.statisticsVersion = traversalEng.graph().data().stats().getDBStatisticsVersion();
     }
 
     public static ReasonerPlanner create(TraversalEngine traversalEng, ConceptManager conceptMgr, LogicManager logicMgr, ReasonerPerfCounters perfCounters, boolean explain) {
-        return RecursivePlanner.create(traversalEng, conceptMgr, logicMgr, perfCounters, explain);
+        return create(traversalEng, conceptMgr, logicMgr, new ReasonerPlanCache(), perfCounters, explain);
+    }
+
+    public static ReasonerPlanner create(TraversalEngine traversalEng, ConceptManager conceptMgr, LogicManager logicMgr,
+                                         ReasonerPlanCache sharedPlanCache, ReasonerPerfCounters perfCounters, boolean explain) {
+        return RecursivePlanner.create(traversalEng, conceptMgr, logicMgr, sharedPlanCache, perfCounters, explain);
     }
 
     static Set<Variable> estimateableVariables(Set<Variable> variables) {
@@ -102,13 +112,33 @@ public abstract class ReasonerPlanner {
         mayLogPlans(set(callMode.conjunction), callMode.mode);
     }
 
+    /**
+     * Call modes whose plan was shared by an earlier transaction are not expanded when their caller is planned, so
+     * they are planned here on first use.
+     */
     public Plan getPlan(ResolvableConjunction conjunction, Set<Variable> mode) {
-        return getPlan(new CallMode(conjunction, estimateableVariables(mode)));
+        CallMode callMode = new CallMode(conjunction, estimateableVariables(mode));
+        plan(callMode);
+        return getPlan(callMode);
     }
 
     synchronized void plan(CallMode callMode) {
         if (planCache.getIfPresent(callMode) == null) {
-            planCache.put(callMode, computePlan(callMode));
+            Plan plan = sharedPlanCache.get(callMode, explain, statisticsVersion, logicMgr.compile(callMode.conjunction));
+            if (plan == null) plan = computePlan(callMode);
+            planCache.put(callMode, plan);
+        }
+    }
+
+    /**
+     * Plans costed against uncommitted writes would mislead other transactions, so they are kept local, as are plans
+     * over resolvables that were evicted from the LogicCache while planning.
+     */
+    void cachePlan(CallMode callMode, Plan plan) {
+        planCache.put(callMode, plan);
+        Set<Resolvable<?>> compiled = logicMgr.compile(callMode.conjunction);
+        if (!traversalEng.graph().data().isModified() && compiled.containsAll(plan.plan())) {
+            sharedPlanCache.put(callMode, explain, statisticsVersion, compiled, plan);
         }
     }
 
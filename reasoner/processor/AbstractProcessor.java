@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -51,6 +52,7 @@ public abstract class AbstractProcessor<
 
     public final Driver<? extends AbstractController<?, INPUT, OUTPUT, REQ, PROCESSOR, ?>> controller;
     private final Context context;
+    private final ReasonerPerfCounters.Profile profile;
     private final Map<Identifier, InputPort<INPUT>> inputPorts;
     private final Map<Identifier, OutputPort<OUTPUT>> outputPorts;
     private final Map<Pair<Identifier, Identifier>, Runnable> pullRetries;
@@ -63,6 +65,7 @@ public abstract class AbstractProcessor<
         super(driver, debugName);
         this.controller = controller;
         this.context = context;
+        this.profile = context.perfCounters().profile(controller.debugName());
         this.inputPorts = new HashMap<>();
         this.outputPorts = new HashMap<>();
         this.reactiveCounter = 0;
@@ -83,12 +86,12 @@ public abstract class AbstractProcessor<
         throw TypeDBException.of(ILLEGAL_OPERATION);
     }
 
-    void pull(Identifier outputPortId) {
-        outputPorts.get(outputPortId).pull();
+    void pull(Identifier outputPortId, int demand) {
+        outputPorts.get(outputPortId).pull(demand);
     }
 
-    void receive(Identifier inputPortId, INPUT packet, Identifier publisherId) {
-        inputPorts.get(inputPortId).receive(publisherId, packet);
+    void receive(Identifier inputPortId, List<INPUT> packets, Identifier publisherId) {
+        inputPorts.get(inputPortId).receive(publisherId, packets);
     }
 
     public <PACKET> void schedulePullRetry(Publisher<PACKET> publisher, Subscriber<PACKET> subscriber) {
@@ -147,6 +150,23 @@ public abstract class AbstractProcessor<
         return context;
     }
 
+    /**
+     * @return the counters of this processor's controller, to which this processor's work is attributed
+     */
+    public ReasonerPerfCounters.Profile profile() {
+        return profile;
+    }
+
+    @Override
+    protected boolean isProfiled() {
+        return profile.isEnabled();
+    }
+
+    @Override
+    protected void recordExecution(long nanos) {
+        profile.actorTimeNs.add(nanos);
+    }
+
     public void onFinished(Identifier finishable) {
         throw TypeDBException.of(ILLEGAL_STATE);
     }
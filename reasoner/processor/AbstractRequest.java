@@ -57,7 +57,7 @@ public abstract class AbstractRequest<CONTROLLER_ID, BOUNDS, PACKET> {
         return inputPortId;
     }
 
-    Actor.Driver<? extends AbstractProcessor<PACKET, ?, ?, ?>> requestingProcessor() {
+    public Actor.Driver<? extends AbstractProcessor<PACKET, ?, ?, ?>> requestingProcessor() {
         return inputPortProcessor;
     }
 
@@ -23,13 +23,23 @@ import com.vaticle.typedb.core.concurrent.actor.Actor;
 import com.vaticle.typedb.core.reasoner.processor.reactive.Reactive;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.PublisherDelegate;
 
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
 import java.util.function.Function;
 
 /**
- * Governs an input to a processor
+ * Governs an input to a processor. Answers arrive from the connected OutputPort in batches, and are buffered here
+ * to be handed to the subscriber one pull at a time; the OutputPort is only pulled once the buffer is empty.
+ * <p>
+ * Each pull of the OutputPort carries a demand: the number of answers it may send. The demand starts at one, so a
+ * subscriber that only needs the first answer does not cause more to be computed, and doubles up to MAX_DEMAND each
+ * time a batch fully meets it.
  */
 public class InputPort<PACKET> implements Reactive.Publisher<PACKET> {
 
+    private static final int MAX_DEMAND = 64;
+
     private final Identifier identifier;
     private final AbstractProcessor<PACKET, ?, ?, ?> processor;
     private final PublisherDelegate<PACKET> publisherDelegate;
@@ -37,11 +47,19 @@ public class InputPort<PACKET> implements Reactive.Publisher<PACKET> {
     private Identifier outputPortId;
     private Subscriber<PACKET> subscriber;
     private Actor.Driver<? extends AbstractProcessor<?, PACKET, ?, ?>> outputPortProcessor;
+    private final Queue<PACKET> buffer;
+    private boolean isPulled;
+    private boolean isOutputPortPulled;
+    private int demand;
 
     InputPort(AbstractProcessor<PACKET, ?, ?, ?> processor) {
         this.processor = processor;
         this.identifier = processor.registerReactive(this);
         this.isReady = false;
+        this.buffer = new ArrayDeque<>();
+        this.isPulled = false;
+        this.isOutputPortPulled = false;
+        this.demand = 1;
         this.publisherDelegate = new PublisherDelegate<>(this, processor.context());
     }
 
@@ -63,12 +81,28 @@ public class InputPort<PACKET> implements Reactive.Publisher<PACKET> {
     public void pull(Subscriber<PACKET> subscriber) {
         assert subscriber.equals(this.subscriber);
         processor().tracer().ifPresent(tracer -> tracer.pull(subscriber.identifier(), identifier()));
-        if (isReady) outputPortProcessor.execute(actor -> actor.pull(outputPortId));
+        if (!buffer.isEmpty()) {
+            subscriber.receive(this, buffer.poll());
+        } else {
+            isPulled = true;
+            if (isReady && !isOutputPortPulled) {
+                isOutputPortPulled = true;
+                int demanded = demand;
+                outputPortProcessor.execute(actor -> actor.pull(outputPortId, demanded));
+            }
+        }
     }
 
-    public void receive(Identifier outputPortId, PACKET packet) {
-        processor().tracer().ifPresent(tracer -> tracer.receive(outputPortId, identifier(), packet));
-        subscriber.receive(this, packet);
+    public void receive(Identifier outputPortId, List<PACKET> packets) {
+        processor().tracer().ifPresent(tracer -> packets.forEach(packet -> tracer.receive(outputPortId, identifier(), packet)));
+        processor().profile().messagesReceived.add(1);
+        isOutputPortPulled = false;
+        if (packets.size() >= demand) demand = Math.min(demand * 2, MAX_DEMAND);
+        buffer.addAll(packets);
+        if (isPulled) {
+            isPulled = false;
+            subscriber.receive(this, buffer.poll());
+        }
     }
 
     @Override
@@ -22,8 +22,15 @@ import com.vaticle.typedb.core.concurrent.actor.Actor;
 import com.vaticle.typedb.core.reasoner.processor.reactive.Reactive;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.SubscriberDelegate;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vaticle.typedb.common.collection.Collections.list;
+
 /**
- * Governs an output from a processor
+ * Governs an output from a processor. Answers are sent to the connected InputPort in batches: when pulled with a
+ * demand, the port keeps pulling its publisher for as long as it answers synchronously, up to the demanded number of
+ * answers, and sends them all in one message. An answer that arrives asynchronously is sent on its own.
  */
 public class OutputPort<PACKET> implements Reactive.Subscriber<PACKET> {
 
@@ -33,6 +40,8 @@ public class OutputPort<PACKET> implements Reactive.Subscriber<PACKET> {
     private Identifier inputPortId;
     private Publisher<PACKET> publisher;
     private Actor.Driver<? extends AbstractProcessor<PACKET, ?, ?, ?>> inputPortProcessor;
+    private List<PACKET> batch;
+    private boolean isReceived;
 
     OutputPort(AbstractProcessor<?, PACKET, ?, ?> processor) {
         this.processor = processor;
@@ -53,13 +62,35 @@ public class OutputPort<PACKET> implements Reactive.Subscriber<PACKET> {
     @Override
     public void receive(Publisher<PACKET> publisher, PACKET packet) {
         subscriberDelegate.traceReceive(publisher, packet);
-        inputPortProcessor.execute(actor -> actor.receive(inputPortId, packet, identifier()));
+        if (batch != null) {
+            batch.add(packet);
+            isReceived = true;
+        } else {
+            send(list(packet));
+        }
     }
 
-    public void pull() {
+    public void pull(int demand) {
+        assert demand > 0;
         assert publisher != null;
         processor().context().tracer().ifPresent(tracer -> tracer.pull(inputPortId, identifier()));
-        publisher.pull(this);
+        processor().profile().pulls.add(1);
+        List<PACKET> answers = new ArrayList<>();
+        batch = answers;
+        try {
+            do {
+                isReceived = false;
+                publisher.pull(this);
+            } while (isReceived && answers.size() < demand);
+        } finally {
+            batch = null;
+        }
+        if (!answers.isEmpty()) send(answers);
+    }
+
+    private void send(List<PACKET> packets) {
+        processor().profile().answers.add(packets.size());
+        inputPortProcessor.execute(actor -> actor.receive(inputPortId, packets, identifier()));
     }
 
     @Override
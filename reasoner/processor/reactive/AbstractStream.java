@@ -18,6 +18,8 @@
 
 package com.vaticle.typedb.core.reasoner.processor.reactive;
 
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
+import com.vaticle.typedb.core.concept.answer.ConceptMap;
 import com.vaticle.typedb.core.reasoner.processor.AbstractProcessor;
 import com.vaticle.typedb.core.reasoner.processor.reactive.Reactive.Stream;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.PublisherDelegate;
@@ -25,6 +27,8 @@ import com.vaticle.typedb.core.reasoner.processor.reactive.common.PublisherRegis
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.SubscriberDelegate;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.SubscriberRegistry;
 
+import java.util.Set;
+
 public abstract class AbstractStream<INPUT, OUTPUT> extends AbstractReactive implements Stream<INPUT, OUTPUT> {
 
     private final SubscriberRegistry<OUTPUT> subscriberRegistry;
@@ -56,6 +60,16 @@ public abstract class AbstractStream<INPUT, OUTPUT> extends AbstractReactive imp
         return publisherRegistry;
     }
 
+    /**
+     * Deduplicates answers by their fingerprints, so that they are not kept for the lifetime of the query.
+     * Packets other than answers are deduplicated exactly.
+     */
+    static <PACKET> Set<PACKET> deduplicationSet() {
+        return FingerprintSet.create(
+                (packet, fingerprint) -> packet instanceof ConceptMap && ((ConceptMap) packet).fingerprint(fingerprint)
+        );
+    }
+
     void propagatePull(Publisher<INPUT> publisher) {
         publisherRegistry().setPulling(publisher);
         publisher.pull(this);
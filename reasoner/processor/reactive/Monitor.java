@@ -110,16 +110,37 @@ public class Monitor extends Actor<Monitor> {
     }
 
     public void createAnswer(Reactive.Identifier publisher) {
-        tracer().ifPresent(tracer -> tracer.createAnswer(publisher, driver()));
-        if (terminated) return;
-        getOrCreateNode(publisher).createAnswer();
+        createAnswers(publisher, 1);
     }
 
     public void consumeAnswer(Reactive.Identifier subscriber) {
-        tracer().ifPresent(tracer -> tracer.consumeAnswer(subscriber, driver()));
+        consumeAnswers(subscriber, 1);
+    }
+
+    /**
+     * Accounts for a batch of answers in one message, rather than one message per answer. Answers created are
+     * counted before answers consumed, so a reactive that consumes and re-emits answers can report both at once.
+     */
+    public void updateAnswers(Reactive.Identifier reactive, long answersCreated, long answersConsumed) {
+        if (answersCreated > 0) createAnswers(reactive, answersCreated);
+        if (answersConsumed > 0) consumeAnswers(reactive, answersConsumed);
+    }
+
+    public void createAnswers(Reactive.Identifier publisher, long answers) {
+        tracer().ifPresent(tracer -> {
+            for (long i = 0; i < answers; i++) tracer.createAnswer(publisher, driver());
+        });
+        if (terminated) return;
+        getOrCreateNode(publisher).createAnswers(answers);
+    }
+
+    public void consumeAnswers(Reactive.Identifier subscriber, long answers) {
+        tracer().ifPresent(tracer -> {
+            for (long i = 0; i < answers; i++) tracer.consumeAnswer(subscriber, driver());
+        });
         if (terminated) return;
         ReactiveNode subscriberNode = getOrCreateNode(subscriber);
-        subscriberNode.consumeAnswer();
+        subscriberNode.consumeAnswers(answers);
     }
 
     private static class ReactiveNode {
@@ -155,14 +176,14 @@ public class Monitor extends Actor<Monitor> {
             else return publishers.size();
         }
 
-        private void createAnswer() {
-            answersCreated += 1;
-            downstreamRoots.forEach((root, subs) -> root.updateAnswerCount(subs.size()));
+        private void createAnswers(long answers) {
+            answersCreated += answers;
+            downstreamRoots.forEach((root, subs) -> root.updateAnswerCount(subs.size() * answers));
         }
 
-        private void consumeAnswer() {
-            answersConsumed += 1;
-            iterate(activeUpstreamRoots()).forEachRemaining(root -> root.updateAnswerCount(-1));
+        private void consumeAnswers(long answers) {
+            answersConsumed += answers;
+            iterate(activeUpstreamRoots()).forEachRemaining(root -> root.updateAnswerCount(-answers));
         }
 
         Set<ReactiveNode> publishers() {
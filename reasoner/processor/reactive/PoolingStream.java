@@ -25,7 +25,6 @@ import com.vaticle.typedb.core.reasoner.processor.reactive.common.SubscriberRegi
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Stack;
@@ -66,8 +65,7 @@ public abstract class PoolingStream<PACKET> extends AbstractStream<PACKET, PACKE
     public void receive(Publisher<PACKET> publisher, PACKET packet) {
         subscriberDelegate().traceReceive(publisher, packet);
         publisherRegistry().recordReceive(publisher);
-        if (accept(publisher, packet)) publisherDelegate().monitorCreateAnswers(1);
-        publisherDelegate().monitorConsumeAnswers(1);
+        publisherDelegate().monitorAnswers(accept(publisher, packet) ? 1 : 0, 1);
         AtomicBoolean retry = new AtomicBoolean();
         retry.set(false);
         iterate(subscriberRegistry().pulling()).forEachRemaining(subscriber -> {
@@ -141,7 +139,7 @@ public abstract class PoolingStream<PACKET> extends AbstractStream<PACKET, PACKE
 
         private BufferedFanStream(AbstractProcessor<?, ?, ?, ?> processor, PublisherRegistry<PACKET> publisherRegistry) {
             super(processor, new SubscriberRegistry.Multi<>(), publisherRegistry);
-            this.bufferSet = new HashSet<>();
+            this.bufferSet = deduplicationSet();
             this.bufferList = new ArrayList<>();
             this.bufferPositions = new HashMap<>();
         }
@@ -24,7 +24,6 @@ import com.vaticle.typedb.core.reasoner.processor.AbstractProcessor;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.PublisherRegistry;
 import com.vaticle.typedb.core.reasoner.processor.reactive.common.SubscriberRegistry;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -141,7 +140,7 @@ public abstract class TransformationStream<INPUT, OUTPUT> extends AbstractStream
 
         public DistinctStream(AbstractProcessor<?, ?, ?, ?> processor) {
             super(processor, new SubscriberRegistry.Single<>(), new PublisherRegistry.Single<>());
-            this.deduplicationSet = new HashSet<>();
+            this.deduplicationSet = deduplicationSet();
         }
 
         @Override
@@ -40,8 +40,6 @@ import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -54,8 +52,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
+import static com.vaticle.typedb.core.common.collection.Bytes.KB;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Server.DUPLICATE_REQUEST;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Server.EMPTY_TRANSACTION_REQUEST;
@@ -80,6 +78,10 @@ public class TransactionService implements StreamObserver<TransactionProto.Trans
 
     private static final Logger LOG = LoggerFactory.getLogger(TransactionService.class);
     private static final int MAX_NETWORK_LATENCY_MILLIS = 3_000;
+    private static final long TARGET_RES_PART_BYTES = 32 * KB;
+    private static final int MAX_RES_PART_ANSWERS = 1_000;
+    private static final long MAX_RES_PART_DELAY_NANOS = MILLISECONDS.toNanos(1);
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
 
     private final TypeDBService typeDBSvc;
     private final StreamObserver<TransactionProto.Transaction.Server> responder;
@@ -329,6 +331,7 @@ public class TransactionService implements StreamObserver<TransactionProto.Trans
     protected void stream(UUID requestId) {
         ResponseStream<?> stream = streams.get(requestId);
         if (stream == null) throw TypeDBException.of(ITERATION_WITH_UNKNOWN_ID, requestId);
+        stream.grantCredit();
         stream.streamResParts();
     }
 
@@ -515,12 +518,30 @@ public class TransactionService implements StreamObserver<TransactionProto.Trans
                 ((StatusRuntimeException) error).getStatus().getCode().equals(Status.CANCELLED.getCode());
     }
 
+    /**
+     * Streams answers to the client in batches sized by their serialised size rather than by elapsed time.
+     *
+     * The client grants credit for a window of its prefetch size with the query, and with every stream request after
+     * that. Once a window is streamed, the stream responds CONTINUE, to which the client answers with a stream request.
+     * While that request travels, the next window is streamed in advance of it, for up to the network latency, and the
+     * answers streamed in advance are deducted from the credit the request grants when it arrives. The answers in
+     * flight are therefore bounded by two windows, however fast the client asks for more.
+     *
+     * The size of each response part is estimated from the serialised size of the previous parts, so that small
+     * answers are coalesced into few messages and large answers are not buffered beyond the target message size.
+     * The clock is only read when the batch size reaches a power of two, so a slow iterator still flushes its
+     * answers promptly, without reading the clock for each answer of a fast one.
+     */
     private class ResponseStream<T> {
 
         private final Function<List<T>, TransactionProto.Transaction.ResPart> resPartFn;
         private final Iterator<T> iterator;
         private final UUID requestID;
         private final int prefetchSize;
+        private int credit;
+        private int streamedInAdvance;
+        private int batchSize;
+        private double bytesPerAnswer;
 
         ResponseStream(Iterator<T> iterator, UUID requestID, int prefetchSize,
                        Function<List<T>, TransactionProto.Transaction.ResPart> resPartFn) {
@@ -528,32 +549,62 @@ public class TransactionService implements StreamObserver<TransactionProto.Trans
             this.requestID = requestID;
             if (prefetchSize < 1) throw TypeDBException.of(RPC_PREFETCH_SIZE_TOO_SMALL, prefetchSize);
             this.prefetchSize = prefetchSize;
+            this.credit = prefetchSize;
+            this.streamedInAdvance = 0;
             this.resPartFn = resPartFn;
+            this.batchSize = 1;
+            this.bytesPerAnswer = 0;
+        }
+
+        private void grantCredit() {
+            credit = prefetchSize - streamedInAdvance;
+            streamedInAdvance = 0;
         }
 
         private void streamResParts() {
-            streamResPartsWhile(i -> i < prefetchSize && iterator.hasNext());
+            credit -= streamResPartsWhile(credit, NO_DEADLINE);
             if (mayClose()) return;
 
             respondStreamState(CONTINUE);
-            Instant compensationEndTime = Instant.now().plusMillis(networkLatencyMillis);
-            streamResPartsWhile(i -> iterator.hasNext() && Instant.now().isBefore(compensationEndTime));
+            long compensationDeadline = System.nanoTime() + MILLISECONDS.toNanos(networkLatencyMillis);
+            streamedInAdvance = streamResPartsWhile(prefetchSize, compensationDeadline);
             mayClose();
         }
 
-        private void streamResPartsWhile(Predicate<Integer> predicate) {
-            List<T> answers = new ArrayList<>();
-            Instant startTime = Instant.now();
-            for (int i = 0; predicate.test(i); i++) {
+        /**
+         * @return the number of answers streamed, which is at most the limit
+         */
+        private int streamResPartsWhile(int limit, long deadlineNanos) {
+            if (limit <= 0 || (deadlineNanos != NO_DEADLINE && System.nanoTime() >= deadlineNanos)) return 0;
+            int streamed = 0;
+            List<T> answers = new ArrayList<>(Math.min(batchSize, limit));
+            long batchStart = System.nanoTime();
+            for (int i = 0; i < limit && iterator.hasNext(); i++) {
                 answers.add(iterator.next());
-                Instant currentTime = Instant.now();
-                if (Duration.between(startTime, currentTime).toMillis() >= 1) {
-                    respond(resPartFn.apply(answers));
+                streamed++;
+                int size = answers.size();
+                boolean flush = size >= batchSize;
+                if (!flush && (size & (size - 1)) == 0) {
+                    flush = System.nanoTime() - batchStart >= MAX_RES_PART_DELAY_NANOS;
+                }
+                if (flush) {
+                    respondAnswers(answers);
                     answers.clear();
-                    startTime = currentTime;
+                    batchStart = System.nanoTime();
+                    if (batchStart >= deadlineNanos) break;
                 }
             }
-            if (!answers.isEmpty()) respond(resPartFn.apply(answers));
+            if (!answers.isEmpty()) respondAnswers(answers);
+            return streamed;
+        }
+
+        private void respondAnswers(List<T> answers) {
+            TransactionProto.Transaction.ResPart resPart = resPartFn.apply(answers);
+            respond(resPart);
+            // the serialised size is memoised by protobuf, and is computed by gRPC anyway when marshalling
+            double sample = (double) resPart.getSerializedSize() / answers.size();
+            bytesPerAnswer = bytesPerAnswer == 0 ? sample : (bytesPerAnswer + sample) / 2;
+            batchSize = (int) Math.max(1, Math.min(MAX_RES_PART_ANSWERS, TARGET_RES_PART_BYTES / bytesPerAnswer));
         }
 
         private boolean mayClose() {
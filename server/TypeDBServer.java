@@ -230,7 +230,7 @@ public class TypeDBServer implements AutoCloseable {
         MigratorService migratorService = new MigratorService(databaseMgr, Version.VERSION);
 
         return NettyServerBuilder.forAddress(config.server().address())
-                .executor(Executors.service())
+                .executor(config.server().virtualThreads() ? Executors.virtualService() : Executors.service())
                 .workerEventLoopGroup(Executors.network())
                 .bossEventLoopGroup(Executors.network())
                 .maxConnectionIdle(1, TimeUnit.HOURS) // TODO: why 1 hour?
@@ -309,6 +309,7 @@ public class TypeDBServer implements AutoCloseable {
                 }
                 logger().info("Stopping storage layer...");
                 databaseMgr.close();
+                Executors.scheduler().stop();
                 System.runFinalization();
                 logger().info("{} server has been closed.", name());
             } catch (Throwable e) {
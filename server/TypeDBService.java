@@ -91,9 +91,14 @@ public class TypeDBService extends TypeDBGrpc.TypeDBImplBase {
 
         if (LOG.isDebugEnabled()) {
             Executors.scheduled().scheduleAtFixedRate(this::logConnectionStates, 0, 1, TimeUnit.MINUTES);
+            Executors.scheduled().scheduleAtFixedRate(this::logSchedulerStates, 0, 1, TimeUnit.MINUTES);
         }
     }
 
+    private void logSchedulerStates() {
+        LOG.debug("Query scheduler states: \n" + Executors.scheduler().counters());
+    }
+
     private void logConnectionStates() {
         if (sessionServices.isEmpty()) return;
         try {
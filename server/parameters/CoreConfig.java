@@ -196,14 +196,20 @@ public class CoreConfig {
     public static class Server {
 
         private final InetSocketAddress address;
+        private final boolean virtualThreads;
 
-        protected Server(InetSocketAddress address) {
+        protected Server(InetSocketAddress address, boolean virtualThreads) {
             this.address = address;
+            this.virtualThreads = virtualThreads;
         }
 
         public InetSocketAddress address() {
             return address;
         }
+
+        public boolean virtualThreads() {
+            return virtualThreads;
+        }
     }
 
     public static class Storage {
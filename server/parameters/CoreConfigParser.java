@@ -236,19 +236,21 @@ public class CoreConfigParser extends YAMLParser.Value.Compound<CoreConfig> {
 
         protected static final Predefined<InetSocketAddress> address =
                 predefined("address", "Address to listen for TypeDB Drivers on.", INET_SOCKET_ADDRESS);
-        private static final Set<Predefined<?>> parsers = set(address);
+        protected static final Predefined<Boolean> virtualThreads =
+                predefined("virtual-threads", "Handle transaction requests on virtual threads (requires Java 21 or above).", BOOLEAN);
+        private static final Set<Predefined<?>> parsers = set(address, virtualThreads);
 
         @Override
         public CoreConfig.Server parse(YAML yaml, String path) {
             if (yaml.isMap()) {
                 validatePredefinedKeys(parsers, yaml.asMap().keys(), path);
-                return new CoreConfig.Server(address.parse(yaml.asMap(), path));
+                return new CoreConfig.Server(address.parse(yaml.asMap(), path), virtualThreads.parse(yaml.asMap(), path, false));
             } else throw TypeDBException.of(CONFIG_YAML_MUST_BE_MAP, path);
         }
 
         @Override
         public List<com.vaticle.typedb.core.server.parameters.util.Help> helpList(String path) {
-            return list(address.help(path));
+            return list(address.help(path), virtualThreads.help(path));
         }
     }
 
@@ -97,6 +97,11 @@ public class YAMLParser {
                 else return valueParser.parse(yaml.get(key()), childPath);
             }
 
+            public TYPE parse(YAML.Map yaml, String path, TYPE defaultValue) {
+                if (!yaml.containsKey(key())) return defaultValue;
+                else return parse(yaml, path);
+            }
+
             public Help help(String path) {
                 return valueParser.help(concatenate(path, key()), description());
             }
@@ -52,6 +52,7 @@ public class CoreConfigTest {
         CoreConfig config = CoreConfigFactory.config(CONFIG_PATH_DEFAULT, emptySet(), new CoreConfigParser());
         assertTrue(config.storage().dataDir().toString().endsWith("server/data"));
         assertEquals(new InetSocketAddress("0.0.0.0", 1729), config.server().address());
+        assertFalse(config.server().virtualThreads());
         assertEquals(500 * Bytes.MB, config.storage().databaseCache().dataSize());
         assertEquals(500 * Bytes.MB, config.storage().databaseCache().indexSize());
         assertFalse(config.vaticleFactory().enable());
@@ -73,6 +74,7 @@ public class CoreConfigTest {
         CoreConfig config = CoreConfigFactory.config(configMinimalAbsPaths, new HashSet<>(), new CoreConfigParser());
         assertTrue(config.storage().dataDir().isAbsolute());
         assertEquals(new InetSocketAddress("0.0.0.0", 1730), config.server().address());
+        assertFalse(config.server().virtualThreads());
         assertEquals(200 * Bytes.MB, config.storage().databaseCache().dataSize());
         assertEquals(700 * Bytes.MB, config.storage().databaseCache().indexSize());
         assertFalse(config.vaticleFactory().enable());
@@ -165,6 +167,7 @@ public class CoreConfigTest {
                 set(
                         new Option("storage.data", "server/alt-data"),
                         new Option("server.address", "0.0.0.0:1730"),
+                        new Option("server.virtual-threads", "true"),
                         new Option("log.output.file.base-dir", "server/alt-logs"),
                         new Option("log.logger.default.level", "info"),
                         new Option("log.logger.typedb.output", "[file]")
@@ -173,6 +176,7 @@ public class CoreConfigTest {
         );
         assertTrue(config.storage().dataDir().toString().endsWith("server/alt-data"));
         assertEquals(new InetSocketAddress("0.0.0.0", 1730), config.server().address());
+        assertTrue(config.server().virtualThreads());
         assertFalse(config.vaticleFactory().enable());
         assertTrue(config.log().output().outputs().containsKey("stdout"));
         assertTrue(config.log().output().outputs().containsKey("file"));
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.vaticle.typedb.core.common.benchmark;
+
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures comparing, hashing and prefix-checking byte arrays of the sizes of real IIDs and edge keys, for both base
+ * arrays and views into the larger buffers that storage iterators return. Each operation is warmed up before it is
+ * timed, and reported in nanoseconds per operation.
+ */
+public class ByteArrayComparison {
+
+    private static final int THING_IID = 11;
+    private static final int ATTRIBUTE_IID = 20;
+    private static final int EDGE_KEY = 2 * THING_IID + 3;
+    private static final int KEYS = 1 << 12;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int ROUNDS = 500;
+
+    @Test
+    public void thing_iids() {
+        benchmark("thing-iid", THING_IID);
+    }
+
+    @Test
+    public void attribute_iids() {
+        benchmark("attribute-iid", ATTRIBUTE_IID);
+    }
+
+    @Test
+    public void edge_keys() {
+        benchmark("edge-key", EDGE_KEY);
+    }
+
+    private void benchmark(String name, int size) {
+        ByteArray[] bases = keys(size, false);
+        ByteArray[] views = keys(size, true);
+        ByteArray prefix = bases[0].copyRange(0, size / 2);
+        report(name, "base compareTo", () -> compare(bases));
+        report(name, "view compareTo", () -> compare(views));
+        report(name, "view equals", () -> equal(views));
+        report(name, "view hashCode", () -> hash(views));
+        report(name, "view hasPrefix", () -> prefixed(views, prefix));
+    }
+
+    /**
+     * Keys share a common prefix, like the IIDs of instances of one type, so that comparisons reach their tail.
+     */
+    private static ByteArray[] keys(int size, boolean isView) {
+        Random random = new Random(0);
+        ByteArray[] keys = new ByteArray[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            byte[] bytes = new byte[isView ? size + 8 : size];
+            random.nextBytes(bytes);
+            int start = isView ? 4 : 0;
+            for (int j = 0; j < size / 2; j++) bytes[start + j] = (byte) j;
+            keys[i] = isView ? ByteArray.of(bytes).view(start, start + size) : ByteArray.of(bytes);
+        }
+        return keys;
+    }
+
+    private static long compare(ByteArray[] keys) {
+        long sum = 0;
+        for (int i = 1; i < keys.length; i++) sum += keys[i - 1].compareTo(keys[i]);
+        return sum;
+    }
+
+    private static long equal(ByteArray[] keys) {
+        long sum = 0;
+        for (int i = 1; i < keys.length; i++) sum += keys[i - 1].equals(keys[i]) ? 1 : 0;
+        return sum;
+    }
+
+    private static long hash(ByteArray[] keys) {
+        // hash codes are cached, so every round hashes fresh views
+        long sum = 0;
+        for (ByteArray key : keys) sum += key.view(0, key.length()).hashCode();
+        return sum;
+    }
+
+    private static long prefixed(ByteArray[] keys, ByteArray prefix) {
+        long sum = 0;
+        for (ByteArray key : keys) sum += key.hasPrefix(prefix) ? 1 : 0;
+        return sum;
+    }
+
+    private static void report(String name, String operation, Operation op) {
+        long blackhole = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) blackhole += op.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) blackhole += op.run();
+        double nanosPerOp = (double) (System.nanoTime() - start) / ROUNDS / KEYS;
+        assertTrue(blackhole != Long.MIN_VALUE);
+        System.out.printf("%s %s: %.2f ns/op%n", name, operation, nanosPerOp);
+    }
+
+    private interface Operation {
+        long run();
+    }
+}
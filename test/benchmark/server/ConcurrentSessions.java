@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.vaticle.typedb.core.server.benchmark;
+
+import com.vaticle.typedb.core.TypeDB;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.concept.type.AttributeType;
+import com.vaticle.typedb.core.concurrent.executor.Executors;
+import com.vaticle.typedb.core.database.CoreDatabaseManager;
+import com.vaticle.typeql.lang.TypeQL;
+import com.vaticle.typeql.lang.query.TypeQLGet;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures request handling for many concurrent, mostly idle sessions issuing small reads, when requests are handled
+ * on the platform service executor and on virtual threads. Each session's requests are handled serially, as gRPC
+ * does for the messages of a single transaction stream.
+ */
+public class ConcurrentSessions {
+
+    private static final String database = "concurrent-sessions";
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve(database);
+    private static final Database options = new Database().dataDir(dataDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final int SESSIONS = 5_000;
+    private static final int READS_PER_SESSION = 10;
+    private static final int NAMES = 1_000;
+
+    private static CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        Diagnostics.initialiseNoop();
+        com.vaticle.typedb.core.test.integration.util.Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction tx = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                tx.concepts().putAttributeType("name", AttributeType.ValueType.STRING);
+                tx.commit();
+            }
+        }
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (TypeDB.Transaction tx = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                AttributeType.String name = tx.concepts().getAttributeType("name").asString();
+                for (int i = 0; i < NAMES; i++) name.put("name-" + i);
+                tx.commit();
+            }
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        databaseMgr.close();
+    }
+
+    @Test
+    public void platform_threads() {
+        benchmark("platform threads", Executors.service());
+    }
+
+    @Test
+    public void virtual_threads() {
+        assumeTrue(Runtime.version().feature() >= 21);
+        benchmark("virtual threads", Executors.virtualService());
+    }
+
+    private void benchmark(String name, Executor executor) {
+        AtomicLong answers = new AtomicLong(0);
+        List<TypeDB.Session> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) sessions.add(databaseMgr.session(database, Arguments.Session.Type.DATA));
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            TypeDB.Session session = sessions.get(i);
+            int client = i;
+            CompletableFuture<TypeDB.Transaction> transaction = CompletableFuture.supplyAsync(
+                    () -> session.transaction(Arguments.Transaction.Type.READ), executor
+            );
+            for (int r = 0; r < READS_PER_SESSION; r++) {
+                TypeQLGet query = TypeQL.parseQuery(
+                        "match $n \"name-" + ((client * READS_PER_SESSION + r) % NAMES) + "\" isa name; get;"
+                ).asGet();
+                transaction = transaction.thenApplyAsync(tx -> {
+                    answers.addAndGet(tx.query().get(query).count());
+                    return tx;
+                }, executor);
+            }
+            clients.add(transaction.thenAcceptAsync(TypeDB.Transaction::close, executor));
+        }
+        CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        sessions.forEach(TypeDB.Session::close);
+        assertEquals((long) SESSIONS * READS_PER_SESSION, answers.get());
+        System.out.printf("%s: %d sessions issued %d reads in %d ms%n", name, SESSIONS,
+                SESSIONS * READS_PER_SESSION, millis);
+    }
+}
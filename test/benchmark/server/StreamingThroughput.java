@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.vaticle.typedb.core.server.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.core.TypeDB;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.concept.type.AttributeType;
+import com.vaticle.typedb.core.database.CoreDatabaseManager;
+import com.vaticle.typedb.core.server.TypeDBService;
+import com.vaticle.typedb.protocol.OptionsProto;
+import com.vaticle.typedb.protocol.QueryProto;
+import com.vaticle.typedb.protocol.SessionProto;
+import com.vaticle.typedb.protocol.TransactionProto;
+import io.grpc.stub.StreamObserver;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.server.common.ResponseBuilder.UUIDAsByteString;
+import static com.vaticle.typedb.protocol.TransactionProto.Transaction.Stream.State.DONE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Measures the server-side cost of streaming large answer sets through the transaction service, for answers of
+ * different serialised sizes. The client is simulated in-process, so that the measurement excludes the network and
+ * only reflects the cost of batching and serialising response parts.
+ */
+public class StreamingThroughput {
+
+    private static final String database = "streaming-throughput";
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve(database);
+    private static final Database options = new Database().dataDir(dataDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final int ANSWERS = 50_000;
+    private static final int REPETITIONS = 5;
+
+    private static CoreDatabaseManager databaseMgr;
+    private static TypeDBService service;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        Diagnostics.initialiseNoop();
+        com.vaticle.typedb.core.test.integration.util.Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        service = new TypeDBService(new InetSocketAddress("localhost", 0), databaseMgr);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        databaseMgr.close();
+    }
+
+    @Test
+    public void small_answers() throws InterruptedException {
+        benchmark(16);
+    }
+
+    @Test
+    public void medium_answers() throws InterruptedException {
+        benchmark(256);
+    }
+
+    @Test
+    public void large_answers() throws InterruptedException {
+        benchmark(4096);
+    }
+
+    private void benchmark(int payloadSize) throws InterruptedException {
+        String label = "payload-" + payloadSize;
+        insertPayloads(label, payloadSize);
+        ByteString sessionID = openSession();
+        for (int i = 0; i < REPETITIONS; i++) {
+            Result result = streamAnswers("match $x isa " + label + "; get;", sessionID);
+            assertEquals(ANSWERS, result.answers);
+            System.out.printf("%s: %d answers in %d ms, %d response parts, %d bytes%n", label, result.answers,
+                    result.millis, result.resParts, result.bytes);
+        }
+    }
+
+    private static void insertPayloads(String label, int payloadSize) {
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction tx = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                tx.concepts().putAttributeType(label, AttributeType.ValueType.STRING);
+                tx.commit();
+            }
+        }
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (TypeDB.Transaction tx = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                AttributeType.String type = tx.concepts().getAttributeType(label).asString();
+                StringBuilder padding = new StringBuilder();
+                while (padding.length() < payloadSize) padding.append('x');
+                for (int i = 0; i < ANSWERS; i++) {
+                    String value = i + padding.toString();
+                    type.put(value.substring(0, payloadSize));
+                }
+                tx.commit();
+            }
+        }
+    }
+
+    private static ByteString openSession() throws InterruptedException {
+        BlockingQueue<SessionProto.Session.Open.Res> responses = new LinkedBlockingQueue<>();
+        service.sessionOpen(SessionProto.Session.Open.Req.newBuilder().setDatabase(database)
+                .setType(SessionProto.Session.Type.DATA).setOptions(OptionsProto.Options.getDefaultInstance())
+                .build(), new Responder<>(responses));
+        SessionProto.Session.Open.Res res = responses.poll(10, SECONDS);
+        assertNotNull(res);
+        return res.getSessionId();
+    }
+
+    private static Result streamAnswers(String query, ByteString sessionID) throws InterruptedException {
+        BlockingQueue<TransactionProto.Transaction.Server> responses = new LinkedBlockingQueue<>();
+        StreamObserver<TransactionProto.Transaction.Client> transaction = service.transaction(new Responder<>(responses));
+        transaction.onNext(client(TransactionProto.Transaction.Req.newBuilder().setOpenReq(
+                TransactionProto.Transaction.Open.Req.newBuilder().setSessionId(sessionID)
+                        .setType(TransactionProto.Transaction.Type.READ)
+                        .setOptions(OptionsProto.Options.getDefaultInstance())
+        )));
+        responses.take();
+
+        Result result = new Result();
+        long start = System.nanoTime();
+        ByteString queryID = UUIDAsByteString(UUID.randomUUID());
+        transaction.onNext(client(TransactionProto.Transaction.Req.newBuilder().setReqId(queryID).setQueryManagerReq(
+                QueryProto.QueryManager.Req.newBuilder().setGetReq(QueryProto.QueryManager.Get.Req.newBuilder().setQuery(query))
+                        .setOptions(OptionsProto.Options.getDefaultInstance())
+        )));
+        while (true) {
+            TransactionProto.Transaction.Server server = responses.poll(60, SECONDS);
+            assertNotNull(server);
+            result.bytes += server.getSerializedSize();
+            TransactionProto.Transaction.ResPart resPart = server.getResPart();
+            if (resPart.hasStreamResPart()) {
+                if (resPart.getStreamResPart().getState() == DONE) break;
+                transaction.onNext(client(TransactionProto.Transaction.Req.newBuilder().setReqId(queryID)
+                        .setStreamReq(TransactionProto.Transaction.Stream.Req.getDefaultInstance())));
+            } else {
+                result.resParts++;
+                result.answers += resPart.getQueryManagerResPart().getGetResPart().getAnswersCount();
+            }
+        }
+        result.millis = (System.nanoTime() - start) / 1_000_000;
+        transaction.onCompleted();
+        return result;
+    }
+
+    private static TransactionProto.Transaction.Client client(TransactionProto.Transaction.Req.Builder req) {
+        if (req.getReqId().isEmpty()) req.setReqId(UUIDAsByteString(UUID.randomUUID()));
+        return TransactionProto.Transaction.Client.newBuilder().addReqs(req).build();
+    }
+
+    private static class Result {
+        long answers = 0;
+        long resParts = 0;
+        long bytes = 0;
+        long millis = 0;
+    }
+
+    private static class Responder<T> implements StreamObserver<T> {
+
+        private final BlockingQueue<T> responses;
+
+        Responder(BlockingQueue<T> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void onNext(T value) {
+            responses.add(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            throw new RuntimeException(error);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
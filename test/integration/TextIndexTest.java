@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.test.integration;
+
+import com.vaticle.typedb.core.TypeDB;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options;
+import com.vaticle.typedb.core.concept.type.AttributeType;
+import com.vaticle.typedb.core.database.CoreDatabaseManager;
+import com.vaticle.typedb.core.graph.ThingGraph.TextIndex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.TYPE_HAS_BEEN_DELETED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TextIndexTest {
+
+    private static final String database = "text-index-test";
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve(database);
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Options.Database options = new Options.Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define name sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void setTextIndexed(boolean isTextIndexed) {
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.concepts().getAttributeType("name").asString().setTextIndexed(isTextIndexed);
+                txn.commit();
+            }
+        }
+    }
+
+    private void write(String query) {
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (query.startsWith("insert")) txn.query().insert(TypeQL.parseQuery(query).asInsert());
+                else txn.query().delete(TypeQL.parseQuery(query).asDelete());
+                txn.commit();
+            }
+        }
+    }
+
+    private Set<String> names(String predicate) {
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                String query = "match $n isa name; $n " + predicate + "; get;";
+                return txn.query().get(TypeQL.parseQuery(query).asGet())
+                        .map(answer -> answer.getConcept("n").asAttribute().asString().getValue()).toSet();
+            }
+        }
+    }
+
+    @Test
+    public void trigrams_are_case_folded_and_only_taken_from_runs_every_match_contains() {
+        assertEquals(set("hel", "ell", "llo"), TextIndex.trigrams("HeLLo"));
+        assertEquals(set(), TextIndex.trigrams("ab"));
+        assertEquals(set("cde"), TextIndex.trigrams(Pattern.compile("ab.*cde")));
+        assertEquals(set("abc"), TextIndex.trigrams(Pattern.compile("^abcd?e")));
+        assertEquals(set(), TextIndex.trigrams(Pattern.compile("abc|def")));
+        assertEquals(set(), TextIndex.trigrams(Pattern.compile("x(abc)?yz")));
+        assertEquals(set(), TextIndex.trigrams(Pattern.compile("[Aa]li.*")));
+    }
+
+    @Test
+    public void indexed_predicates_match_existing_inserted_and_deleted_attributes() {
+        write("insert $a \"Alice Smith\" isa name; $b \"alicia keys\" isa name; " +
+                "$c \"Bob Smithson\" isa name; $d \"Carol\" isa name;");
+        Set<String> unindexedSmiths = names("contains \"smith\"");
+        assertEquals(set("Alice Smith", "Bob Smithson"), unindexedSmiths);
+
+        setTextIndexed(true);
+        assertEquals(unindexedSmiths, names("contains \"smith\""));
+
+        write("insert $a \"smithereens\" isa name; $b \"ALI\" isa name;");
+        assertEquals(set("Alice Smith", "Bob Smithson", "smithereens"), names("contains \"smith\""));
+        assertEquals(set("Alice Smith", "Bob Smithson"), names("like \".*Smith.*\""));
+        // predicates without trigrams are not narrowed down by the index
+        assertEquals(set("Alice Smith", "alicia keys", "ALI"), names("contains \"al\""));
+        assertEquals(set("Alice Smith", "alicia keys"), names("like \"^[Aa]li.*\""));
+
+        write("match $n \"Bob Smithson\" isa name; delete $n isa name;");
+        assertEquals(set("Alice Smith", "smithereens"), names("contains \"smith\""));
+
+        setTextIndexed(false);
+        assertEquals(set("Alice Smith", "smithereens"), names("contains \"smith\""));
+        assertEquals(set("Alice Smith"), names("like \".*Smith.*\""));
+    }
+
+    @Test
+    public void text_index_is_kept_when_the_database_is_reopened() {
+        setTextIndexed(true);
+        write("insert $a \"Alice Smith\" isa name; $b \"Carol\" isa name;");
+        databaseMgr.close();
+        databaseMgr = CoreDatabaseManager.open(options);
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                assertTrue(txn.concepts().getAttributeType("name").asString().isTextIndexed());
+            }
+        }
+        assertEquals(set("Alice Smith"), names("contains \"smith\""));
+    }
+
+    @Test
+    public void deleted_types_cannot_be_text_indexed() {
+        try (TypeDB.Session session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (TypeDB.Transaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                AttributeType.String nickname = txn.concepts().putAttributeType("nickname", AttributeType.ValueType.STRING).asString();
+                nickname.delete();
+                try {
+                    nickname.setTextIndexed(true);
+                    fail();
+                } catch (TypeDBException e) {
+                    assertEquals(TYPE_HAS_BEEN_DELETED.code(), e.errorMessage().code());
+                }
+            }
+        }
+    }
+}
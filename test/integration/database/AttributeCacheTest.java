@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_INLINE_MAX_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AttributeCacheTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("attribute-cache-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "attribute-cache-test";
+    private static final String inline = "alice";
+    private static final String outOfLine = "x".repeat(STRING_INLINE_MAX_SIZE + 1);
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "name sub attribute, value string;" +
+                        "born sub attribute, value datetime;").asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert " +
+                        "$a '" + inline + "' isa name; $b '" + outOfLine + "' isa name; " +
+                        "$c 2000-01-01T00:00 isa born;").asInsert());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    /**
+     * @return the IIDs of the instances of an attribute type, by value, as read by a new read transaction
+     */
+    private Map<Object, VertexIID.Attribute<?>> read(String type) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                GraphManager graphMgr = txn.graphMgr;
+                Map<Object, VertexIID.Attribute<?>> iids = new HashMap<>();
+                graphMgr.data().getReadable(graphMgr.schema().getType(type)).forEachRemaining(vertex -> {
+                    AttributeVertex<?> attribute = vertex.asAttribute();
+                    iids.put(attribute.value(), attribute.iid());
+                });
+                return iids;
+            }
+        }
+    }
+
+    @Test
+    public void decoded_inline_strings_and_datetimes_are_reused_across_transactions() {
+        Map<Object, VertexIID.Attribute<?>> names = read("name");
+        Map<Object, VertexIID.Attribute<?>> borns = read("born");
+        assertEquals(1, borns.size());
+        assertTrue(names.get(inline).asString().isValueInline());
+        assertSame(names.get(inline), read("name").get(inline));
+        assertSame(borns.values().iterator().next(), read("born").values().iterator().next());
+    }
+
+    @Test
+    public void out_of_line_strings_are_not_cached() {
+        VertexIID.Attribute<?> iid = read("name").get(outOfLine);
+        assertFalse(iid.asString().isValueInline());
+        VertexIID.Attribute<?> reread = read("name").get(outOfLine);
+        assertNotSame(iid, reread);
+        assertEquals(iid, reread);
+    }
+
+    @Test
+    public void the_cache_is_discarded_when_the_schema_changes() {
+        VertexIID.Attribute<?> iid = read("name").get(inline);
+        assertSame(iid, read("name").get(inline));
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define person sub entity, owns name;").asDefine());
+                txn.commit();
+            }
+        }
+        VertexIID.Attribute<?> reread = read("name").get(inline);
+        assertNotSame(iid, reread);
+        assertEquals(iid, reread);
+        assertSame(reread, read("name").get(inline));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.ThingVertex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.PLAYING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class DegreesTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("degrees-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "degrees-test";
+    private static final String alice = "match $p isa person, has email 'alice@vaticle.com';";
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "person sub entity, owns name, owns email, plays friendship:friend;" +
+                        "friendship sub relation, relates friend;" +
+                        "name sub attribute, value string;" +
+                        "email sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+        write("insert $a isa person, has email 'alice@vaticle.com', has name 'alice', has name 'ali';" +
+                "$b isa person, has name 'bob'; $c isa person, has name 'carol';" +
+                "(friend: $a, friend: $b) isa friendship; (friend: $a, friend: $c) isa friendship;");
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void write(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (query.contains("delete")) txn.query().delete(TypeQL.parseQuery(query).asDelete());
+                else txn.query().insert(TypeQL.parseQuery(query).asInsert());
+                txn.commit();
+            }
+        }
+    }
+
+    private void setDegreeCounted(boolean isDegreeCounted) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.concepts().getEntityType("person").setDegreeCounted(isDegreeCounted);
+                txn.commit();
+            }
+        }
+    }
+
+    private String aliceIID() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery(alice + " get $p;").asGet()).next()
+                        .getConcept("p").asThing().getIIDForPrinting();
+            }
+        }
+    }
+
+    private Optional<Long> aliceDegree(String adjacentType, boolean isHas) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                GraphManager graphMgr = txn.graphMgr;
+                ThingVertex vertex = graphMgr.data().getReadable(VertexIID.Thing.of(
+                        txn.query().get(TypeQL.parseQuery(alice + " get $p;").asGet()).next()
+                                .getConcept("p").asThing().getIID()
+                ), true);
+                return graphMgr.data().degrees().degree(
+                        vertex, isHas ? HAS.forward() : PLAYING.forward(),
+                        set(isHas ? graphMgr.schema().getType(adjacentType) : graphMgr.schema().getType(adjacentType, "friendship"))
+                );
+            }
+        }
+    }
+
+    private long countNames(String iid, Arguments.Transaction.Type type, String insert) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(type, new Options.Transaction().infer(true))) {
+                if (insert != null) txn.query().insert(TypeQL.parseQuery(insert).asInsert());
+                return txn.query().get(TypeQL.parseQuery(
+                        "match $p iid " + iid + "; $p has name $n; get $n; count;"
+                ).asGetAggregate()).get().asLong().value();
+            }
+        }
+    }
+
+    @Test
+    public void build_counts_the_existing_edges_of_persisted_instances() {
+        assertFalse(aliceDegree("name", true).isPresent());
+        setDegreeCounted(true);
+        assertEquals(Optional.of(2L), aliceDegree("name", true));
+        assertEquals(Optional.of(1L), aliceDegree("email", true));
+        assertEquals(Optional.of(2L), aliceDegree("friend", false));
+        setDegreeCounted(false);
+        assertFalse(aliceDegree("name", true).isPresent());
+    }
+
+    @Test
+    public void counters_are_merged_as_edges_are_committed_and_deleted() {
+        setDegreeCounted(true);
+        write(alice + " insert $p has name 'al';");
+        write("match $b isa person, has name 'bob'; $a isa person, has email 'alice@vaticle.com'; " +
+                "insert (friend: $a, friend: $b) isa friendship;");
+        write(alice + " $p has name $n; $n 'ali'; delete $p has $n;");
+        assertEquals(Optional.of(2L), aliceDegree("name", true));
+        assertEquals(Optional.of(3L), aliceDegree("friend", false));
+    }
+
+    @Test
+    public void concurrent_transactions_do_not_conflict_on_counters() {
+        setDegreeCounted(true);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            CoreTransaction first = session.transaction(Arguments.Transaction.Type.WRITE);
+            CoreTransaction second = session.transaction(Arguments.Transaction.Type.WRITE);
+            first.query().insert(TypeQL.parseQuery(alice + " insert $p has name 'first';").asInsert());
+            second.query().insert(TypeQL.parseQuery(alice + " insert $p has name 'second';").asInsert());
+            first.commit();
+            second.commit();
+        }
+        assertEquals(Optional.of(4L), aliceDegree("name", true));
+    }
+
+    @Test
+    public void count_aggregation_of_an_owner_matches_the_iterated_count() {
+        String iid = aliceIID();
+        long iterated = countNames(iid, Arguments.Transaction.Type.READ, null);
+        setDegreeCounted(true);
+        assertEquals(2, iterated);
+        assertEquals(iterated, countNames(iid, Arguments.Transaction.Type.READ, null));
+        write(alice + " insert $p has name 'al';");
+        assertEquals(3, countNames(iid, Arguments.Transaction.Type.READ, null));
+        // buffered writes are not in the counters, so the count falls back to iterating
+        assertEquals(4, countNames(iid, Arguments.Transaction.Type.WRITE, alice + " insert $p has name 'lis';"));
+    }
+
+    @Test
+    public void count_aggregation_includes_inferred_ownerships() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define rule everyone-is-a-friend: when { " +
+                        "$p isa person; (friend: $p, friend: $f) isa friendship; } then { $p has name 'friend'; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+        setDegreeCounted(true);
+        assertEquals(3, countNames(aliceIID(), Arguments.Transaction.Type.READ, null));
+    }
+}
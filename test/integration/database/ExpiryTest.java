@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.encoding.iid.IndexIID;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExpiryTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("expiry-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "expiry-test";
+    private static final long SWEEP_TIMEOUT_MILLIS = 10_000;
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "token sub entity, owns name;" +
+                        "user sub entity, owns name;" +
+                        "name sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void setExpiry(Duration expiry) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (expiry == null) txn.concepts().getEntityType("token").unsetExpiry();
+                else txn.concepts().getEntityType("token").setExpiry(expiry);
+                txn.commit();
+            }
+        }
+    }
+
+    private void write(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (query.startsWith("insert")) txn.query().insert(TypeQL.parseQuery(query).asInsert());
+                else txn.query().delete(TypeQL.parseQuery(query).asDelete());
+                txn.commit();
+            }
+        }
+    }
+
+    private long count(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery(query).asGet()).count();
+            }
+        }
+    }
+
+    private List<IndexIID.Expiry> indexed() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.graphMgr.data().expiries().expired(Long.MAX_VALUE).toList();
+            }
+        }
+    }
+
+    private ByteArray tokenVertexValue() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                GraphManager graphMgr = txn.graphMgr;
+                return graphMgr.data().storage().get(VertexIID.Thing.of(
+                        txn.query().get(TypeQL.parseQuery("match $t isa token; get;").asGet()).next()
+                                .getConcept("t").asThing().getIID()
+                ));
+            }
+        }
+    }
+
+    private void sweep() throws InterruptedException {
+        databaseMgr.get(database).expirySweeper().maySweep();
+        long timeout = System.currentTimeMillis() + SWEEP_TIMEOUT_MILLIS;
+        while (!indexed().isEmpty() && System.currentTimeMillis() < timeout) Thread.sleep(50);
+    }
+
+    @Test
+    public void deadlines_are_indexed_with_their_instances_and_deleted_with_them() {
+        setExpiry(Duration.ofHours(1));
+        long before = System.currentTimeMillis();
+        write("insert $t isa token, has name 'abc';");
+        long after = System.currentTimeMillis();
+
+        List<IndexIID.Expiry> indexed = indexed();
+        assertEquals(1, indexed.size());
+        long deadline = indexed.get(0).deadline();
+        assertTrue(before + Duration.ofHours(1).toMillis() <= deadline);
+        assertTrue(deadline <= after + Duration.ofHours(1).toMillis());
+        assertEquals(deadline, tokenVertexValue().decodeLong());
+
+        write("match $t isa token; delete $t isa token;");
+        assertEquals(0, indexed().size());
+    }
+
+    @Test
+    public void expired_instances_are_hidden_by_type_and_by_edge_before_they_are_swept() throws InterruptedException {
+        setExpiry(Duration.ofMillis(1));
+        write("insert $t isa token, has name 'abc'; $u isa user, has name 'xyz';");
+        Thread.sleep(10);
+
+        assertEquals(0, count("match $t isa token; get;"));
+        assertEquals(0, count("match $t isa token, has name 'abc'; get;"));
+        assertEquals(0, count("match $n 'abc' isa name; $x has $n; get $x;"));
+        assertEquals(1, indexed().size());
+
+        sweep();
+        assertEquals(0, indexed().size());
+        assertEquals(0, count("match $n 'abc' isa name; $x has $n; get $x;"));
+        assertEquals(1, count("match $u isa user, has name 'xyz'; get;"));
+        assertEquals(2, count("match $n isa name; get;"));
+    }
+
+    @Test
+    public void instances_are_read_until_they_expire() {
+        setExpiry(Duration.ofHours(1));
+        write("insert $t isa token, has name 'abc';");
+        assertEquals(1, count("match $t isa token; get;"));
+        assertEquals(1, count("match $n 'abc' isa name; $x has $n; get $x;"));
+    }
+
+    @Test
+    public void unsetting_the_expiry_clears_the_deadlines_and_index_entries_of_existing_instances() {
+        setExpiry(Duration.ofMillis(1));
+        write("insert $t isa token, has name 'abc';");
+        assertEquals(1, indexed().size());
+
+        setExpiry(null);
+        assertTrue(tokenVertexValue().isEmpty());
+        assertEquals(0, indexed().size());
+        assertEquals(1, count("match $t isa token; get;"));
+    }
+}
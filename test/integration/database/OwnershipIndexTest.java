@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static com.vaticle.typedb.common.collection.Collections.list;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OwnershipIndexTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("ownership-index-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "ownership-index-test";
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "person sub entity, owns name, owns age;" +
+                        "company sub entity, owns name;" +
+                        "name sub attribute, value string;" +
+                        "age sub attribute, value long;").asDefine());
+                txn.commit();
+            }
+        }
+        write("insert $p1 isa person, has name 'alice', has name 'ally', has age 30;" +
+                "$p2 isa person, has name 'bob';" +
+                "$c isa company, has name 'acme', has name 'alice';");
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void write(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (query.startsWith("insert")) txn.query().insert(TypeQL.parseQuery(query).asInsert());
+                else txn.query().delete(TypeQL.parseQuery(query).asDelete());
+                txn.commit();
+            }
+        }
+    }
+
+    private void setOwnershipIndexed(boolean isOwnershipIndexed) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.concepts().getAttributeType("name").setOwnershipIndexed(isOwnershipIndexed);
+                txn.commit();
+            }
+        }
+    }
+
+    private List<String> indexedNames(String ownerType) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                GraphManager graphMgr = txn.graphMgr;
+                assertTrue(graphMgr.data().ownershipIndex().isReadable());
+                return graphMgr.data().ownershipIndex().attributes(
+                        graphMgr.schema().getType(ownerType), graphMgr.schema().getType("name"), ASC
+                ).map(attribute -> attribute.asAttribute().asString().value()).toList();
+            }
+        }
+    }
+
+    private long personNameCount() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery("match $p isa person, has name $n; get;").asGet()).count();
+            }
+        }
+    }
+
+    @Test
+    public void build_indexes_existing_ownerships_by_owner_type() {
+        long unindexed = personNameCount();
+        setOwnershipIndexed(true);
+        assertEquals(list("alice", "ally", "bob"), indexedNames("person"));
+        assertEquals(list("acme", "alice"), indexedNames("company"));
+        assertEquals(unindexed, personNameCount());
+    }
+
+    @Test
+    public void index_follows_ownerships_written_after_it_is_built() {
+        setOwnershipIndexed(true);
+        write("insert $p isa person, has name 'carol';");
+        write("match $p isa person, has name $n; $n 'bob'; delete $p has $n;");
+        assertEquals(list("alice", "ally", "carol"), indexedNames("person"));
+        assertEquals(list("acme", "alice"), indexedNames("company"));
+        assertEquals(3, personNameCount());
+    }
+
+    @Test
+    public void drop_deletes_all_entries_and_a_rebuild_starts_from_the_current_data() {
+        setOwnershipIndexed(true);
+        setOwnershipIndexed(false);
+        // this ownership is deleted while the type is not indexed, so an entry that survived the drop would be stale
+        write("match $p isa person, has name $n; $n 'ally'; delete $p has $n;");
+        setOwnershipIndexed(true);
+        assertEquals(list("alice", "bob"), indexedNames("person"));
+        assertEquals(list("acme", "alice"), indexedNames("company"));
+    }
+
+    @Test
+    public void index_is_not_read_once_the_transaction_writes() {
+        setOwnershipIndexed(true);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert $p isa person, has name 'dave';").asInsert());
+                assertFalse(txn.graphMgr.data().ownershipIndex().isReadable());
+                assertEquals(4, txn.query().get(TypeQL.parseQuery("match $p isa person, has name $n; get;").asGet()).count());
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Label;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.concept.type.EntityType;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.ThingGraph;
+import com.vaticle.typedb.core.graph.vertex.ThingVertex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.common.exception.ErrorMessage.TypeWrite.PURGED_INSTANCES_PLAY_ROLES;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PurgeInstancesTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("purge-instances-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "purge-instances-test";
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "person sub entity, owns name;" +
+                        "student sub person;" +
+                        "company sub entity, owns name, plays employment:employer;" +
+                        "employment sub relation, relates employer;" +
+                        "name sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert " +
+                        "$p isa person, has name 'alice'; $s isa student, has name 'bob';" +
+                        "$c isa company, has name 'alice'; (employer: $c) isa employment;").asInsert());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private Set<String> owned(String ownerType) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery("match $x isa " + ownerType + ", has name $n; get $n;").asGet())
+                        .map(answer -> answer.getConcept("n").asAttribute().asString().getValue()).toSet();
+            }
+        }
+    }
+
+    private long count(String type) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery("match $x isa " + type + "; get;").asGet()).count();
+            }
+        }
+    }
+
+    @Test
+    public void purge_deletes_instances_of_subtypes_their_ownerships_and_statistics() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.concepts().getEntityType("person").purgeInstances();
+                txn.commit();
+            }
+        }
+        assertEquals(0, count("person"));
+        assertEquals(set(), owned("person"));
+        assertEquals(set("alice"), owned("company"));
+        // attributes are kept, even if they are no longer owned
+        assertEquals(2, count("name"));
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                ThingGraph.Statistics statistics = txn.graphMgr.data().stats();
+                assertEquals(0, statistics.thingVertexCount(Label.of("person")));
+                assertEquals(0, statistics.thingVertexCount(Label.of("student")));
+                assertEquals(0, statistics.hasEdgeCount(Label.of("person"), Label.of("name")));
+                assertEquals(0, statistics.hasEdgeCount(Label.of("student"), Label.of("name")));
+                assertEquals(1, statistics.thingVertexCount(Label.of("company")));
+                assertEquals(1, statistics.hasEdgeCount(Label.of("company"), Label.of("name")));
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert $p isa person, has name 'carol';").asInsert());
+                txn.commit();
+            }
+        }
+        assertEquals(set("carol"), owned("person"));
+    }
+
+    @Test
+    public void other_writes_of_the_purging_transaction_are_committed_with_the_range_deletes() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define email sub attribute, value string; company owns email;").asDefine());
+                txn.concepts().getEntityType("company").setDegreeCounted(true);
+                txn.concepts().getEntityType("person").purgeInstances();
+                txn.commit();
+            }
+        }
+        databaseMgr.close();
+        databaseMgr = CoreDatabaseManager.open(options);
+        assertEquals(0, count("person"));
+        assertEquals(set("alice"), owned("company"));
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                EntityType company = txn.concepts().getEntityType("company");
+                assertTrue(company.getOwns(txn.concepts().getAttributeType("email")).isPresent());
+                assertTrue(company.isDegreeCounted());
+                GraphManager graphMgr = txn.graphMgr;
+                ThingVertex vertex = graphMgr.data().getReadable(VertexIID.Thing.of(
+                        company.getInstances().first().get().getIID()
+                ), true);
+                assertEquals(Optional.of(1L), graphMgr.data().degrees().degree(
+                        vertex, HAS.forward(), set(graphMgr.schema().getType("name"))
+                ));
+            }
+        }
+    }
+
+    @Test
+    public void instances_that_play_roles_are_not_purged() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.concepts().getEntityType("company").purgeInstances();
+                fail();
+            } catch (TypeDBException e) {
+                assertEquals(PURGED_INSTANCES_PLAY_ROLES.code(), e.errorMessage().code());
+            }
+        }
+        assertEquals(1, count("company"));
+        assertEquals(set("alice"), owned("company"));
+    }
+}
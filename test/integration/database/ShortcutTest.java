@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.database;
+
+import com.vaticle.typedb.common.collection.Pair;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.exception.TypeDBException;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.concept.type.RelationType;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.ThingVertex;
+import com.vaticle.typedb.core.graph.vertex.TypeVertex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.vaticle.typedb.common.collection.Collections.pair;
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.SHORTCUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ShortcutTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("shortcut-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "shortcut-test";
+    private static final String follows = "match (follower: $x, followee: $y) isa follows; " +
+            "$x has name $nx; $y has name $ny; get $nx, $ny;";
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define " +
+                        "person sub entity, owns name, plays follows:follower, plays follows:followee;" +
+                        "follows sub relation, relates follower, relates followee;" +
+                        "name sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+        write("insert $a isa person, has name 'a'; $b isa person, has name 'b'; $c isa person, has name 'c';" +
+                "$d isa person, has name 'd'; $g isa person, has name 'g';" +
+                "(follower: $a, followee: $b) isa follows; (follower: $a, followee: $c) isa follows;" +
+                "(follower: $a, follower: $b, followee: $d) isa follows; (follower: $g, followee: $g) isa follows;");
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void write(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                if (query.contains("insert")) {
+                    txn.query().insert(TypeQL.parseQuery(query).asInsert());
+                } else {
+                    txn.query().delete(TypeQL.parseQuery(query).asDelete());
+                }
+                txn.commit();
+            }
+        }
+    }
+
+    private void setShortcut(boolean hasShortcut) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                RelationType follows = txn.concepts().getRelationType("follows");
+                if (hasShortcut) follows.setShortcut(follows.getRelates("follower"), follows.getRelates("followee"));
+                else follows.unsetShortcut();
+                txn.commit();
+            }
+        }
+    }
+
+    private static String name(ThingVertex person) {
+        return person.outs().edge(HAS).to().first().get().asAttribute().asString().value();
+    }
+
+    /**
+     * @return the pairs of players connected by shortcut edges, read forwards and backwards, which must agree
+     */
+    private Set<Pair<String, String>> shortcuts() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                GraphManager graphMgr = txn.graphMgr;
+                TypeVertex followsType = graphMgr.schema().getType("follows");
+                Set<Pair<String, String>> forward = new HashSet<>();
+                Set<Pair<String, String>> backward = new HashSet<>();
+                graphMgr.data().getReadable(graphMgr.schema().getType("person")).forEachRemaining(person -> {
+                    person.outs().edge(SHORTCUT, followsType).to()
+                            .forEachRemaining(followee -> forward.add(pair(name(person), name(followee))));
+                    person.ins().edge(SHORTCUT, followsType).from()
+                            .forEachRemaining(follower -> backward.add(pair(name(follower), name(person))));
+                });
+                assertEquals(forward, backward);
+                return forward;
+            }
+        }
+    }
+
+    private Set<Pair<String, String>> answers(String query) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                return txn.query().get(TypeQL.parseQuery(query).asGet()).map(answer -> pair(
+                        answer.getConcept("nx").asAttribute().asString().getValue(),
+                        answer.getConcept("ny").asAttribute().asString().getValue()
+                )).toSet();
+            }
+        }
+    }
+
+    /**
+     * @return the pairs of players found with the ROLEPLAYER two-hop, as the relation is retrieved
+     */
+    private Set<Pair<String, String>> rolePlayerPairs() {
+        return answers("match $r (follower: $x, followee: $y) isa follows; " +
+                "$x has name $nx; $y has name $ny; get $r, $nx, $ny;");
+    }
+
+    @Test
+    public void shortcuts_of_existing_relations_are_built_and_dropped_with_the_declaration() {
+        assertEquals(set(), shortcuts());
+        setShortcut(true);
+        assertEquals(set(pair("a", "b"), pair("a", "c"), pair("a", "d"), pair("b", "d"), pair("g", "g")), shortcuts());
+        assertEquals(rolePlayerPairs(), shortcuts());
+        setShortcut(false);
+        assertEquals(set(), shortcuts());
+    }
+
+    @Test
+    public void shortcuts_follow_role_players_as_they_are_added_and_deleted() {
+        setShortcut(true);
+        write("match $c isa person, has name 'c'; $d isa person, has name 'd'; " +
+                "insert (follower: $c, followee: $d) isa follows;");
+        write("match $r (follower: $a, followee: $b) isa follows; $a has name 'a'; $b has name 'b'; " +
+                "$g isa person, has name 'g'; insert $r (followee: $g);");
+        write("match $r (follower: $b, followee: $d) isa follows; $b has name 'b'; $d has name 'd'; " +
+                "delete $r (follower: $b);");
+        write("match $r (follower: $a, followee: $c) isa follows; $a has name 'a'; $c has name 'c'; " +
+                "delete $r isa follows;");
+        assertEquals(set(pair("a", "b"), pair("a", "g"), pair("a", "d"), pair("c", "d"), pair("g", "g")), shortcuts());
+        assertEquals(rolePlayerPairs(), shortcuts());
+    }
+
+    @Test
+    public void queries_through_shortcuts_match_the_roleplayer_two_hop() {
+        Set<Pair<String, String>> twoHop = answers(follows);
+        assertEquals(rolePlayerPairs(), twoHop);
+        setShortcut(true);
+        assertEquals(twoHop, answers(follows));
+        assertEquals(set(pair("a", "b"), pair("a", "c"), pair("a", "d")),
+                answers("match $x has name 'a'; (follower: $x, followee: $y) isa follows; " +
+                        "$x has name $nx; $y has name $ny; get $nx, $ny;"));
+    }
+
+    @Test
+    public void concurrent_changes_to_the_players_of_a_relation_with_a_shortcut_conflict() {
+        setShortcut(true);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            CoreTransaction txn1 = session.transaction(Arguments.Transaction.Type.WRITE);
+            CoreTransaction txn2 = session.transaction(Arguments.Transaction.Type.WRITE);
+            txn1.query().insert(TypeQL.parseQuery("match $r (follower: $a, followee: $b) isa follows; " +
+                    "$a has name 'a'; $b has name 'b'; $c isa person, has name 'c'; insert $r (follower: $c);").asInsert());
+            txn2.query().insert(TypeQL.parseQuery("match $r (follower: $a, followee: $b) isa follows; " +
+                    "$a has name 'a'; $b has name 'b'; $d isa person, has name 'd'; insert $r (followee: $d);").asInsert());
+            txn1.commit();
+            try {
+                txn2.commit();
+                fail();
+            } catch (TypeDBException e) {
+                // success: the edge from the follower added by txn1 to the followee added by txn2 would be missing
+            }
+        }
+        assertEquals(rolePlayerPairs(), shortcuts());
+    }
+}
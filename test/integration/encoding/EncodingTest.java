@@ -48,6 +48,7 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSorted;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeLongAsSortedCompact;
 import static com.vaticle.typedb.core.common.collection.ByteArray.encodeStringAsSorted;
 import static com.vaticle.typedb.core.common.collection.ByteArray.join;
 import static com.vaticle.typedb.core.common.collection.Bytes.MB;
@@ -134,11 +135,11 @@ public class EncodingTest {
     private ByteArray expectedIID(GraphManager graphMgr, Label typeLabel, long instanceNumber) {
         TypeVertex type = graphMgr.schema().getType(typeLabel);
         if (type.isEntityType())
-            return ByteArray.join(ENTITY.prefix().bytes(), type.iid().bytes(), encodeLongAsSorted(instanceNumber));
+            return ByteArray.join(ENTITY.prefix().bytes(), type.iid().bytes(), encodeLongAsSortedCompact(instanceNumber));
         else if (type.isRelationType())
-            return ByteArray.join(RELATION.prefix().bytes(), type.iid().bytes(), encodeLongAsSorted(instanceNumber));
+            return ByteArray.join(RELATION.prefix().bytes(), type.iid().bytes(), encodeLongAsSortedCompact(instanceNumber));
         else if (type.isRoleType())
-            return ByteArray.join(ROLE.prefix().bytes(), type.iid().bytes(), encodeLongAsSorted(instanceNumber));
+            return ByteArray.join(ROLE.prefix().bytes(), type.iid().bytes(), encodeLongAsSortedCompact(instanceNumber));
         else throw TypeDBException.of(ILLEGAL_ARGUMENT);
     }
 
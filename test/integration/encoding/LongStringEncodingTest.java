@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.vaticle.typedb.core.encoding;
+
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.exception.TypeDBCheckedException;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Options;
+import com.vaticle.typedb.core.database.CoreDatabaseManager;
+import com.vaticle.typedb.core.database.CoreSession;
+import com.vaticle.typedb.core.database.CoreTransaction;
+import com.vaticle.typedb.core.encoding.iid.VertexIID;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
+import com.vaticle.typedb.core.graph.vertex.TypeVertex;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeString;
+import static com.vaticle.typedb.core.common.collection.ByteArray.encodeUnsignedShort;
+import static com.vaticle.typedb.core.common.collection.ByteArray.join;
+import static com.vaticle.typedb.core.common.collection.Bytes.LONG_SIZE;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.common.parameters.Arguments.Transaction.Type.READ;
+import static com.vaticle.typedb.core.common.parameters.Arguments.Transaction.Type.WRITE;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_ENCODING;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_INLINE_MAX_SIZE;
+import static com.vaticle.typedb.core.encoding.Encoding.ValueType.STRING_OUT_OF_LINE_PREFIX_SIZE;
+import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Thing.ATTRIBUTE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongStringEncodingTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("long-string-encoding-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Options.Database options = new Options.Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageIndexCacheSize(MB).storageDataCacheSize(MB);
+    private static final String database = "long-string-encoding-test";
+
+    private static final String prefix = "x".repeat(STRING_OUT_OF_LINE_PREFIX_SIZE);
+    private static final String inline = "i".repeat(STRING_INLINE_MAX_SIZE);
+    private static final String first = prefix + "a".repeat(100);
+    private static final String second = prefix + "b".repeat(100);
+
+    private CoreDatabaseManager databaseMgr;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(WRITE)) {
+                txn.query().define(TypeQL.parseQuery("define description sub attribute, value string;").asDefine());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private void insert(String... values) {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(WRITE)) {
+                for (String value : values) txn.concepts().getAttributeType("description").asString().put(value);
+                txn.commit();
+            }
+        }
+    }
+
+    private static VertexIID.Attribute.String iid(TypeVertex type, String value) {
+        try {
+            return new VertexIID.Attribute.String(type.iid(), value);
+        } catch (TypeDBCheckedException e) {
+            throw e.toUnchecked();
+        }
+    }
+
+    @Test
+    public void long_strings_are_encoded_by_length_prefix_and_hash_and_stored_under_their_iid() {
+        insert(inline, first);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(READ)) {
+                GraphManager graph = txn.traversal().graph();
+                TypeVertex type = graph.schema().getType("description");
+                ByteArray attributePrefix = join(ATTRIBUTE.prefix().bytes(), type.iid().bytes(), STRING.bytes());
+
+                VertexIID.Attribute.String inlineIID = iid(type, inline);
+                assertTrue(inlineIID.isValueInline());
+                assertTrue(graph.data().storage().get(inlineIID).isEmpty());
+
+                VertexIID.Attribute.String firstIID = iid(type, first);
+                assertFalse(firstIID.isValueInline());
+                ByteArray expectedPrefix = join(
+                        attributePrefix, encodeUnsignedShort(first.length()), encodeString(prefix, STRING_ENCODING)
+                );
+                assertTrue(firstIID.bytes().hasPrefix(expectedPrefix));
+                assertEquals(expectedPrefix.length() + LONG_SIZE + 1, firstIID.bytes().length());
+                assertEquals(0, firstIID.disambiguator());
+                assertEquals(encodeString(first, STRING_ENCODING), graph.data().storage().get(firstIID));
+
+                VertexIID.Attribute.String secondIID = iid(type, second);
+                assertTrue(secondIID.bytes().hasPrefix(expectedPrefix));
+                assertNotEquals(firstIID, secondIID);
+            }
+        }
+    }
+
+    @Test
+    public void long_strings_sharing_a_prefix_are_looked_up_by_their_full_value() {
+        insert(first, second);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(READ)) {
+                assertEquals(first, txn.concepts().getAttributeType("description").asString().get(first).getValue());
+                assertEquals(second, txn.concepts().getAttributeType("description").asString().get(second).getValue());
+                assertNull(txn.concepts().getAttributeType("description").asString().get(prefix + "c".repeat(100)));
+                Set<String> matched = txn.query().get(TypeQL.parseQuery(
+                        "match $d isa description; $d \"" + second + "\"; get;"
+                ).asGet()).map(answer -> answer.getConcept("d").asAttribute().asString().getValue()).toSet();
+                assertEquals(set(second), matched);
+                assertEquals(set(first, second), txn.concepts().getAttributeType("description").asString()
+                        .getInstances().map(attribute -> attribute.getValue()).toSet());
+            }
+        }
+    }
+
+    @Test
+    public void long_strings_colliding_with_a_stored_string_take_the_next_disambiguator() {
+        // a hash collision is simulated by storing another value of the same length under the IID of the first
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(WRITE)) {
+                GraphManager graph = txn.traversal().graph();
+                VertexIID.Attribute.String firstIID = iid(graph.schema().getType("description"), first);
+                graph.data().storage().putUntracked(firstIID, encodeString(second, STRING_ENCODING));
+                txn.commit();
+            }
+        }
+        insert(first);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(WRITE)) {
+                GraphManager graph = txn.traversal().graph();
+                TypeVertex type = graph.schema().getType("description");
+                AttributeVertex<String> stored = graph.data().getReadable(type, first);
+                assertEquals(1, stored.iid().asString().disambiguator());
+                assertEquals(first, stored.value());
+                assertEquals(first, txn.concepts().getAttributeType("description").asString().get(first).getValue());
+                // a buffered attribute is resolved to the same disambiguator as the stored one
+                assertEquals(stored.iid(), graph.data().put(type, first, stored.existence()).iid());
+            }
+        }
+    }
+
+    @Test
+    public void concurrent_inserts_of_the_same_new_long_string_do_not_conflict() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            CoreTransaction txn1 = session.transaction(WRITE);
+            CoreTransaction txn2 = session.transaction(WRITE);
+            txn1.concepts().getAttributeType("description").asString().put(first);
+            txn2.concepts().getAttributeType("description").asString().put(first);
+            txn2.concepts().getAttributeType("description").asString().put(second);
+            txn1.commit();
+            txn2.commit();
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(READ)) {
+                assertEquals(set(first, second), txn.concepts().getAttributeType("description").asString()
+                        .getInstances().map(attribute -> attribute.getValue()).toSet());
+                assertEquals(0, txn.traversal().graph().data().getReadable(
+                        txn.traversal().graph().schema().getType("description"), first
+                ).iid().asString().disambiguator());
+            }
+        }
+    }
+}
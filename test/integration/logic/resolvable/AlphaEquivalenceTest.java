@@ -124,6 +124,15 @@ public class AlphaEquivalenceTest {
         return Concludable.create(conjunction);
     }
 
+    private Retrievable retrievable(String... variableStrings) {
+        List<Statement> statements = new ArrayList<>();
+        for (String variableString : variableStrings) statements.add(TypeQL.parseStatement(variableString));
+        VariableRegistry registry = VariableRegistry.createFromStatements(statements, null);
+        Conjunction conjunction = new Conjunction(registry.variables(), list());
+        inferTypes(conjunction);
+        return new Retrievable(conjunction);
+    }
+
     private static Concludable.Relation relation(Set<Concludable> concludables) {
         return iterate(concludables).filter(Concludable::isRelation).first().get().asRelation();
     }
@@ -535,6 +544,54 @@ public class AlphaEquivalenceTest {
         concludables.forEach(c -> testAlphaEquivalenceSymmetricReflexive(c, concludables, new HashSet<>()));
     }
 
+    @Test
+    public void test_retrievable_equivalent() {
+        schema("define person sub entity, owns age; age sub attribute, value long;");
+        Retrievable p = retrievable("$p isa person", "$p has age $a", "$a > 17");
+        Retrievable q = retrievable("$q isa person", "$q has age $b", "$b > 17");
+        FunctionalIterator<AlphaEquivalence> equivalences = p.alphaEquals(q);
+        Map<String, String> varNameMap = alphaMapToStringMap(equivalences.next());
+        assertFalse(equivalences.hasNext());
+        assertEquals("$q", varNameMap.get("$p"));
+        assertEquals("$b", varNameMap.get("$a"));
+        assertTrue(q.alphaEquals(p).first().isPresent());
+        assertTrue(p.alphaEquals(p).first().isPresent());
+    }
+
+    @Test
+    public void test_retrievable_not_equivalent() {
+        schema("define person sub entity, owns age, owns years; age sub attribute, value long; " +
+                "years sub attribute, value long;");
+        Retrievable p = retrievable("$p isa person", "$p has age $a", "$a > 17");
+        List<Retrievable> retrievables = list(
+                retrievable("$q isa person", "$q has age $b", "$b > 18"),
+                retrievable("$q isa person", "$q has years $b", "$b > 17"),
+                retrievable("$q isa person", "$q has age $b", "$b < 17"),
+                retrievable("$q isa person", "$q has age $b")
+        );
+        retrievables.forEach(r -> {
+            assertFalse(p.alphaEquals(r).first().isPresent());
+            assertFalse(r.alphaEquals(p).first().isPresent());
+        });
+    }
+
+    @Test(timeout = 60_000)
+    public void test_retrievable_pairing_search_is_bounded() {
+        schema("define person sub entity, owns age; age sub attribute, value long;");
+        int size = 12;
+        String[] p = new String[2 * size], q = new String[2 * size];
+        for (int i = 0; i < size; i++) {
+            p[2 * i] = "$p" + i + " has age $a" + i;
+            q[2 * i] = "$q" + i + " has age $b" + i;
+            p[2 * i + 1] = "$a" + i + " > " + i;
+            // only the last predicate differs, so the search cannot succeed and must give up within its bound
+            q[2 * i + 1] = "$b" + i + " > " + (i == size - 1 ? size : i);
+        }
+        Retrievable retrievableP = retrievable(p), retrievableQ = retrievable(q);
+        assertFalse(retrievableP.alphaEquals(retrievableQ).first().isPresent());
+        assertTrue(retrievableP.alphaEquals(retrievableP).first().isPresent());
+    }
+
     private static void testAlphaEquivalenceSymmetricReflexive(Concludable concludableA, Concludable concludableB,
                                                                boolean isValid) {
         assertTrue(concludableA.alphaEquals(concludableA).first().isPresent());
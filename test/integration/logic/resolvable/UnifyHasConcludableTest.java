@@ -101,6 +101,9 @@ public class UnifyHasConcludableTest {
                     "last-name sub name;" +
                     "age sub attribute, value long;" +
                     "self-owning-attribute sub attribute, value long, owns self-owning-attribute;" +
+                    "player sub entity, owns level, owns score;" +
+                    "level sub attribute, value long;" +
+                    "score sub attribute, value double;" +
                     "").asDefine());
             tx.commit();
         }
@@ -148,6 +151,12 @@ public class UnifyHasConcludableTest {
         return type.asLong().put(longValue);
     }
 
+    private Thing instanceOf(String doubleAttributeLabel, Double doubleValue) {
+        AttributeType type = conceptMgr.getAttributeType(doubleAttributeLabel);
+        assert type != null;
+        return type.asDouble().put(doubleValue);
+    }
+
     //TODO: create more tests when type inference is working to test unifier pruning
 
     @Test
@@ -775,4 +784,78 @@ public class UnifyHasConcludableTest {
         unified = unifier.unUnify(concepts, new Unifier.Requirements.Instance(map()));
         assertFalse(unified.hasNext());
     }
+
+    @Test
+    public void has_attribute_equal_to_long_constant_is_bound_when_it_exists() {
+        String conjunction = "{ $y has level 30; }";
+        Set<Concludable> concludables = Concludable.create(resolvedConjunction(conjunction, logicMgr));
+        Concludable.Has queryConcludable = concludables.iterator().next().asHas();
+
+        Rule rule = createRule("has-rule", "{ $x isa player; $l isa level; }", "$x has $l", logicMgr);
+
+        List<Unifier> unifiers = queryConcludable.unify(rule.conclusion(), conceptMgr).toList();
+        assertEquals(1, unifiers.size());
+        Unifier unifier = unifiers.get(0);
+
+        // an attribute that does not exist yet may still be inferred by the rule body, so it is left unbound
+        assertTrue(unifier.constantBounds(conceptMgr).concepts().isEmpty());
+
+        Thing level = instanceOf("level", 30L);
+        instanceOf("level", 31L);
+        ConceptMap bounds = unifier.constantBounds(conceptMgr);
+        assertEquals(1, bounds.concepts().size());
+        assertEquals(level, bounds.getConcept("l"));
+    }
+
+    @Test
+    public void has_attribute_equal_to_long_constant_is_not_bound_for_double_attributes() {
+        String conjunction = "{ $y has score 30; }";
+        Set<Concludable> concludables = Concludable.create(resolvedConjunction(conjunction, logicMgr));
+        Concludable.Has queryConcludable = concludables.iterator().next().asHas();
+
+        Rule rule = createRule("has-rule", "{ $x isa player; $s isa score; }", "$x has $s", logicMgr);
+
+        List<Unifier> unifiers = queryConcludable.unify(rule.conclusion(), conceptMgr).toList();
+        assertEquals(1, unifiers.size());
+        Unifier unifier = unifiers.get(0);
+
+        // the long constant compares equal to double attributes, which are never bound by value
+        Thing score = instanceOf("score", 30.0);
+        assertTrue(unifier.constantBounds(conceptMgr).concepts().isEmpty());
+
+        // so the comparison is still checked against each conclusion answer, across value types
+        Map<Identifier.Variable, Concept> concepts = map(
+                pair(Identifier.Variable.namedConcept("x"), instanceOf("player")),
+                pair(Identifier.Variable.namedConcept("s"), score)
+        );
+        assertTrue(unifier.unUnify(concepts, new Unifier.Requirements.Instance(map())).hasNext());
+        concepts = map(
+                pair(Identifier.Variable.namedConcept("x"), instanceOf("player")),
+                pair(Identifier.Variable.namedConcept("s"), instanceOf("score", 30.5))
+        );
+        assertFalse(unifier.unUnify(concepts, new Unifier.Requirements.Instance(map())).hasNext());
+    }
+
+    @Test
+    public void has_attribute_equal_to_double_constant_is_not_bound() {
+        Rule rule = createRule("has-rule", "{ $x isa player; $l isa level; }", "$x has $l", logicMgr);
+        instanceOf("level", 30L);
+        instanceOf("score", 30.0);
+        instanceOf("score", 30.0000001);
+
+        // a double constant compares equal to a long attribute
+        String conjunction = "{ $y has level 30.0; }";
+        Concludable.Has queryConcludable = Concludable.create(resolvedConjunction(conjunction, logicMgr)).iterator().next().asHas();
+        List<Unifier> unifiers = queryConcludable.unify(rule.conclusion(), conceptMgr).toList();
+        assertEquals(1, unifiers.size());
+        assertTrue(unifiers.get(0).constantBounds(conceptMgr).concepts().isEmpty());
+
+        // and to any double attribute within the comparison tolerance
+        Rule scoreRule = createRule("score-rule", "{ $x isa player; $s isa score; }", "$x has $s", logicMgr);
+        conjunction = "{ $y has score 30.0; }";
+        queryConcludable = Concludable.create(resolvedConjunction(conjunction, logicMgr)).iterator().next().asHas();
+        unifiers = queryConcludable.unify(scoreRule.conclusion(), conceptMgr).toList();
+        assertEquals(1, unifiers.size());
+        assertTrue(unifiers.get(0).constantBounds(conceptMgr).concepts().isEmpty());
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.vaticle.typedb.core.reasoner;
+
+import com.vaticle.typedb.common.collection.Either;
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.core.common.collection.ByteArray;
+import com.vaticle.typedb.core.common.diagnostics.Diagnostics;
+import com.vaticle.typedb.core.common.parameters.Arguments;
+import com.vaticle.typedb.core.common.parameters.Label;
+import com.vaticle.typedb.core.common.parameters.Options;
+import com.vaticle.typedb.core.common.parameters.Options.Database;
+import com.vaticle.typedb.core.concept.answer.ConceptMap;
+import com.vaticle.typedb.core.concurrent.actor.ActorExecutorGroup;
+import com.vaticle.typedb.core.database.CoreDatabaseManager;
+import com.vaticle.typedb.core.database.CoreSession;
+import com.vaticle.typedb.core.database.CoreTransaction;
+import com.vaticle.typedb.core.logic.ConditionTable;
+import com.vaticle.typedb.core.logic.Rule;
+import com.vaticle.typedb.core.test.integration.util.Util;
+import com.vaticle.typedb.core.traversal.common.Identifier;
+import com.vaticle.typedb.core.traversal.common.Identifier.Variable.Retrievable;
+import com.vaticle.typeql.lang.TypeQL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.vaticle.typedb.common.collection.Collections.list;
+import static com.vaticle.typedb.common.collection.Collections.set;
+import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConditionTableTest {
+
+    private static final Path dataDir = Paths.get(System.getProperty("user.dir")).resolve("condition-table-test");
+    private static final Path logDir = dataDir.resolve("logs");
+    private static final Database options = new Database().dataDir(dataDir).reasonerDebuggerDir(logDir)
+            .storageDataCacheSize(MB).storageIndexCacheSize(MB);
+    private static final String database = "condition-table-test";
+    private static final String query = "match $x has is-still-good $a; get;";
+    private static CoreDatabaseManager databaseMgr;
+
+    private CoreTransaction singleThreadElgTransaction(CoreSession session, Arguments.Transaction.Type transactionType) {
+        CoreTransaction transaction = session.transaction(transactionType, new Options.Transaction().infer(true));
+        ActorExecutorGroup service = new ActorExecutorGroup(1, new NamedThreadFactory("typedb-actor"));
+        transaction.reasoner().controllerRegistry().setExecutorService(service);
+        return transaction;
+    }
+
+    @BeforeClass
+    public static void beforeClass() {
+        Diagnostics.initialiseNoop();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        Util.resetDirectory(dataDir);
+        databaseMgr = CoreDatabaseManager.open(options);
+        databaseMgr.create(database);
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery(
+                        "define milk sub entity, owns age-in-days, owns is-still-good;" +
+                                "cheese sub entity, owns age-in-days;" +
+                                "age-in-days sub attribute, value long; is-still-good sub attribute, value boolean;" +
+                                "rule old-milk-is-not-good: when { $x isa milk, has age-in-days >= 10; } " +
+                                "then { $x has is-still-good false; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        databaseMgr.close();
+    }
+
+    private static long snapshot(CoreTransaction txn) {
+        return txn.traversal().graph().data().storage().snapshotStart();
+    }
+
+    @Test
+    public void test_tabled_answers_are_served_until_a_dependency_is_written() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.READ)) {
+                ConditionTable table = txn.logic().conditionTable();
+                Rule rule = txn.logic().getRule("old-milk-is-not-good");
+                Set<Label> dependencies = txn.logic().conditionDependencies(rule);
+                assertTrue(dependencies.contains(Label.of("milk")));
+                assertFalse(dependencies.contains(Label.of("cheese")));
+
+                long snapshot = snapshot(txn);
+                Map<Retrievable, Either<Label, ByteArray>> bounds = emptyMap();
+                Map<Retrievable, Either<Label, ByteArray>> answer = new HashMap<>();
+                answer.put(Identifier.Variable.namedConcept("x"), Either.second(ByteArray.encodeLong(1)));
+                List<Map<Retrievable, Either<Label, ByteArray>>> answers = list(answer);
+                table.put(rule, bounds, answers, dependencies, snapshot);
+                assertEquals(answers, table.get(rule, bounds, snapshot).get());
+                assertEquals(answers, table.get(rule, bounds, snapshot + 5).get());
+
+                // writes to types the condition does not depend on leave the entry valid
+                table.writeStarted(set(Label.of("cheese")));
+                table.writeFinished(set(Label.of("cheese")), snapshot + 1);
+                assertTrue(table.get(rule, bounds, snapshot + 1).isPresent());
+
+                // a dependency being committed hides the entry, and once committed invalidates it for every reader
+                table.writeStarted(set(Label.of("milk")));
+                assertFalse(table.get(rule, bounds, snapshot).isPresent());
+                table.writeFinished(set(Label.of("milk")), snapshot + 2);
+                assertFalse(table.get(rule, bounds, snapshot).isPresent());
+                assertFalse(table.get(rule, bounds, snapshot + 2).isPresent());
+
+                // an entry computed before the write can no longer be tabled, one computed after it can
+                table.put(rule, bounds, answers, dependencies, snapshot);
+                assertFalse(table.get(rule, bounds, snapshot + 2).isPresent());
+                table.put(rule, bounds, answers, dependencies, snapshot + 2);
+                assertTrue(table.get(rule, bounds, snapshot + 2).isPresent());
+            }
+        }
+    }
+
+    @Test
+    public void test_readers_see_writes_committed_after_the_condition_was_tabled() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert $x isa milk, has age-in-days 5;").asInsert());
+                txn.query().insert(TypeQL.parseQuery("insert $x isa milk, has age-in-days 10;").asInsert());
+                txn.commit();
+            }
+            for (int i = 0; i < 2; i++) {
+                // the second reader is answered from the table populated by the first
+                try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                    List<? extends ConceptMap> answers = txn.query().get(TypeQL.parseQuery(query).asGet()).toList();
+                    assertEquals(1, answers.size());
+                }
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                try (CoreTransaction writer = session.transaction(Arguments.Transaction.Type.WRITE)) {
+                    writer.query().insert(TypeQL.parseQuery("insert $x isa milk, has age-in-days 15;").asInsert());
+                    writer.commit();
+                }
+                // the reader that started before the write still gets the answers of its own snapshot
+                assertEquals(1, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                assertEquals(2, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                assertEquals(2, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+            }
+        }
+    }
+}
@@ -33,6 +33,13 @@ import com.vaticle.typedb.core.database.CoreDatabaseManager;
 import com.vaticle.typedb.core.database.CoreSession;
 import com.vaticle.typedb.core.database.CoreTransaction;
 import com.vaticle.typedb.core.logic.LogicManager;
+import com.vaticle.typedb.core.pattern.Conjunction;
+import com.vaticle.typedb.core.pattern.Disjunction;
+import com.vaticle.typedb.core.reasoner.common.ReasonerPerfCounters;
+import com.vaticle.typedb.core.reasoner.common.Traversal;
+import com.vaticle.typedb.core.reasoner.controller.ConcludableController;
+import com.vaticle.typedb.core.reasoner.controller.ConclusionController;
+import com.vaticle.typedb.core.reasoner.controller.ControllerRegistry;
 import com.vaticle.typedb.core.test.integration.util.Util;
 import com.vaticle.typeql.lang.TypeQL;
 import org.junit.After;
@@ -43,11 +50,16 @@ import org.junit.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.vaticle.typedb.core.common.collection.Bytes.MB;
+import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
+import static com.vaticle.typedb.core.common.parameters.Concept.Existence.STORED;
 import static junit.framework.TestCase.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class ReasonerTest {
@@ -60,7 +72,12 @@ public class ReasonerTest {
     private static CoreDatabaseManager databaseMgr;
 
     private CoreTransaction singleThreadElgTransaction(CoreSession session, Arguments.Transaction.Type transactionType) {
-        CoreTransaction transaction = session.transaction(transactionType, new Options.Transaction().infer(true));
+        return singleThreadElgTransaction(session, transactionType, new Options.Transaction().infer(true));
+    }
+
+    private CoreTransaction singleThreadElgTransaction(CoreSession session, Arguments.Transaction.Type transactionType,
+                                                       Options.Transaction transactionOptions) {
+        CoreTransaction transaction = session.transaction(transactionType, transactionOptions);
         ActorExecutorGroup service = new ActorExecutorGroup(1, new NamedThreadFactory("typedb-actor"));
         transaction.reasoner().controllerRegistry().setExecutorService(service);
         return transaction;
@@ -310,4 +327,158 @@ public class ReasonerTest {
             }
         }
     }
+
+    @Test
+    public void test_stored_only_traversal_of_a_single_variable_excludes_inferred_concepts() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery(
+                        "define person sub entity, owns name, plays friendship:friend;" +
+                                "friendship sub relation, relates friend; name sub attribute, value string;" +
+                                "rule alice-and-bob-are-friends: when {" +
+                                "  $x isa person, has name \"alice\"; $y isa person, has name \"bob\";" +
+                                "} then { (friend: $x, friend: $y) isa friendship; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery(
+                        "insert $x isa person, has name \"alice\"; $y isa person, has name \"bob\";" +
+                                "$z isa person, has name \"carol\"; (friend: $y, friend: $z) isa friendship;"
+                ).asInsert());
+                txn.commit();
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                // reasoning buffers the inferred friendship in the transaction
+                String query = "match $r isa friendship; get;";
+                assertEquals(2, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+
+                Disjunction disjunction = Disjunction.create(TypeQL.parseQuery(query).asGet().match().conjunction().normalise());
+                txn.logic().typeInference().applyCombination(disjunction);
+                Conjunction conjunction = disjunction.conjunctions().get(0);
+                ControllerRegistry registry = txn.reasoner().controllerRegistry();
+                ConceptMap noBounds = new ConceptMap(new HashMap<>());
+                assertEquals(2, Traversal.traversalIterator(registry, conjunction, noBounds).toList().size());
+                List<ConceptMap> stored = Traversal.traversalIterator(registry, conjunction, noBounds, true).toList();
+                assertEquals(1, stored.size());
+                assertEquals(STORED, stored.get(0).getConcept("r").asThing().existence());
+            }
+        }
+    }
+
+    @Test
+    public void test_rules_with_alpha_equivalent_conditions_share_retrievables() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery(
+                        "define person sub entity, owns age, owns is-adult, owns can-vote;" +
+                                "age sub attribute, value long; is-adult sub attribute, value boolean;" +
+                                "can-vote sub attribute, value boolean;" +
+                                "rule adults: when { $p isa person, has age $a; $a >= 18; } " +
+                                "then { $p has is-adult true; };" +
+                                "rule voters: when { $q isa person, has age $b; $b >= 18; } " +
+                                "then { $q has can-vote true; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery(
+                        "insert $x isa person, has age 10; $y isa person, has age 20; $z isa person, has age 30;"
+                ).asInsert());
+                txn.commit();
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                String both = "match $x has is-adult true, has can-vote true; get;";
+                assertEquals(2, txn.query().get(TypeQL.parseQuery(both).asGet()).toList().size());
+                String voters = "match $x isa person, has can-vote $v; get;";
+                assertEquals(2, txn.query().get(TypeQL.parseQuery(voters).asGet()).toList().size());
+                String minors = "match $x isa person, has age $a; not { $x has is-adult true; }; get;";
+                List<? extends ConceptMap> ans = txn.query().get(TypeQL.parseQuery(minors).asGet()).toList();
+                assertEquals(1, ans.size());
+                assertEquals(10L, (long) ans.get(0).getConcept("a").asAttribute().asLong().getValue());
+            }
+        }
+    }
+
+    @Test
+    public void test_negations_typed_by_different_outer_scopes_are_compiled_separately() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery(
+                        "define person sub entity, owns name; company sub entity, owns name;" +
+                                "name sub attribute, value string;" +
+                                "rule people-are-named-bob: when { $p isa person; } then { $p has name \"bob\"; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert $x isa person; $y isa company;").asInsert());
+                txn.commit();
+            }
+            // the negated conjunctions print the same, but only the one typed by person triggers the rule
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                String companies = "match $x isa company; not { $x has name \"bob\"; }; get;";
+                assertEquals(1, txn.query().get(TypeQL.parseQuery(companies).asGet()).toList().size());
+            }
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                String people = "match $x isa person; not { $x has name \"bob\"; }; get;";
+                assertEquals(0, txn.query().get(TypeQL.parseQuery(people).asGet()).toList().size());
+            }
+        }
+    }
+
+    @Test
+    public void test_profiles_count_the_work_of_each_controller() {
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.SCHEMA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().define(TypeQL.parseQuery(
+                        "define person sub entity, owns name; name sub attribute, value string;" +
+                                "rule people-are-named-bob: when { $p isa person; } then { $p has name \"bob\"; };"
+                ).asDefine());
+                txn.commit();
+            }
+        }
+        try (CoreSession session = databaseMgr.session(database, Arguments.Session.Type.DATA)) {
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.WRITE)) {
+                txn.query().insert(TypeQL.parseQuery("insert $x isa person; $y isa person; $z isa person;").asInsert());
+                txn.commit();
+            }
+            String query = "match $x isa person, has name $n; get;";
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ)) {
+                assertEquals(3, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+                assertTrue(txn.reasoner().controllerRegistry().perfCounters().profiles().isEmpty());
+            }
+            Options.Transaction profiled = new Options.Transaction().infer(true).reasonerPerfCounters(true);
+            try (CoreTransaction txn = singleThreadElgTransaction(session, Arguments.Transaction.Type.READ, profiled)) {
+                assertEquals(3, txn.query().get(TypeQL.parseQuery(query).asGet()).toList().size());
+                Map<String, ReasonerPerfCounters.Profile> profiles = txn.reasoner().controllerRegistry().perfCounters().profiles();
+
+                ReasonerPerfCounters.Profile conclusion = profile(profiles, ConclusionController.class.getSimpleName());
+                // one materialisation, and one answer, per person satisfying the condition
+                assertEquals(3, conclusion.materialisations.get());
+                assertEquals(3, conclusion.answers.get());
+                assertTrue(conclusion.pulls.get() > 0);
+                assertTrue(conclusion.processors.get() > 0);
+
+                ReasonerPerfCounters.Profile concludable = profile(profiles, ConcludableController.class.getSimpleName());
+                assertEquals(0, concludable.materialisations.get());
+                assertEquals(3, concludable.answers.get());
+                assertTrue(concludable.pulls.get() > 0);
+                assertTrue(concludable.messagesReceived.get() > 0);
+            }
+        }
+    }
+
+    private static ReasonerPerfCounters.Profile profile(Map<String, ReasonerPerfCounters.Profile> profiles, String controller) {
+        List<ReasonerPerfCounters.Profile> matching = iterate(profiles.entrySet())
+                .filter(e -> e.getKey().startsWith(controller)).map(Map.Entry::getValue).toList();
+        assertEquals(1, matching.size());
+        return matching.get(0);
+    }
 }
@@ -55,6 +55,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -666,4 +667,45 @@ public class TraversalTest {
             assertTrue(expectedAnswers.containsAll(actualAnswers));
         }
     }
+
+    @Test
+    public void parallel_traversal_from_hub_matches_sequential() {
+        try (CoreTransaction transaction = session.transaction(WRITE)) {
+            transaction.query().define(TypeQL.parseQuery(
+                    "define person sub entity, owns name, plays friendship:friend;" +
+                            "friendship sub relation, relates friend; name sub attribute, value string;"
+            ).asDefine());
+            transaction.commit();
+        }
+        session.close();
+        session = databaseMgr.session(database, Arguments.Session.Type.DATA);
+        try (CoreTransaction transaction = session.transaction(WRITE)) {
+            transaction.query().insert(TypeQL.parseQuery("insert $h isa person, has name \"hub\";").asInsert());
+            for (int i = 0; i < 500; i++) {
+                transaction.query().insert(TypeQL.parseQuery(
+                        "match $h isa person, has name \"hub\"; insert $f isa person, has name \"friend-" + i + "\";" +
+                                "(friend: $h, friend: $f) isa friendship;"
+                ).asInsert());
+            }
+            // the hub plays the same role twice, so it is reached more than once from its own relations
+            for (int i = 0; i < 5; i++) {
+                transaction.query().insert(TypeQL.parseQuery(
+                        "match $h isa person, has name \"hub\"; insert (friend: $h, friend: $h) isa friendship;"
+                ).asInsert());
+            }
+            transaction.commit();
+        }
+        String query = "match $h isa person, has name \"hub\"; $r (friend: $h, friend: $f) isa friendship; " +
+                "$f has name $n; get $r, $f, $n;";
+        List<? extends ConceptMap> sequential, parallel;
+        try (CoreTransaction transaction = session.transaction(READ, new Options.Transaction().parallel(false))) {
+            sequential = transaction.query().get(TypeQL.parseQuery(query).asGet()).toList();
+        }
+        try (CoreTransaction transaction = session.transaction(READ, new Options.Transaction().parallel(true))) {
+            parallel = transaction.query().get(TypeQL.parseQuery(query).asGet()).toList();
+        }
+        assertEquals(505, sequential.size());
+        assertEquals(sequential.size(), parallel.size());
+        assertEquals(new HashSet<>(sequential), new HashSet<>(parallel));
+    }
 }
@@ -25,6 +25,7 @@ import com.vaticle.typedb.core.concurrent.producer.FunctionalProducer;
 import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.ThingGraph.TextIndex;
 import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typedb.core.traversal.common.Identifier;
 import com.vaticle.typedb.core.traversal.common.Modifiers;
@@ -44,6 +45,7 @@ import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.ISA;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
@@ -55,6 +57,7 @@ import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.PLAYS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.RELATES;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.SUB;
 import static com.vaticle.typeql.lang.common.TypeQLToken.Annotation.KEY;
+import static com.vaticle.typeql.lang.common.TypeQLToken.Predicate.SubString.CONTAINS;
 import static com.vaticle.typeql.lang.common.TypeQLToken.Predicate.SubString.LIKE;
 import static java.util.Collections.emptySet;
 
@@ -170,6 +173,14 @@ public abstract class GraphTraversal extends Traversal {
             return iter;
         }
 
+        FunctionalIterator<VertexMap> permutationIterator(GraphManager graphMgr, int parallelisation, Executor executor) {
+            assert planner != null && cache != null;
+            planner.tryOptimise(graphMgr, false);
+            FunctionalIterator<VertexMap> iter = planner.procedure().iterator(graphMgr, parameters, modifiers, parallelisation, executor);
+            cache.mayUpdatePlanner(structure, modifiers, planner);
+            return iter;
+        }
+
         FunctionalProducer<VertexMap> permutationProducer(GraphManager graphMgr, int parallelisation) {
             assert planner != null && cache != null;
             planner.tryOptimise(graphMgr, false);
@@ -178,6 +189,10 @@ public abstract class GraphTraversal extends Traversal {
             return producer;
         }
 
+        public void excludeInferred() {
+            parameters.excludeInferred();
+        }
+
         public void equalThings(Identifier.Variable thing1, Identifier.Variable thing2) {
             structure.equalEdge(structure.thingVertex(thing1), structure.thingVertex(thing2));
         }
@@ -215,6 +230,12 @@ public abstract class GraphTraversal extends Traversal {
             structure.rolePlayer(structure.thingVertex(relation), structure.thingVertex(player), roleTypes, repetition);
         }
 
+        public void shortcut(Identifier.Variable player, Identifier.Variable coPlayer, Set<Label> relationTypes,
+                             Set<Label> roleTypes, Set<Label> coPlayerRoleTypes) {
+            structure.shortcut(structure.thingVertex(player), structure.thingVertex(coPlayer), relationTypes,
+                    roleTypes, coPlayerRoleTypes);
+        }
+
         public void clearLabels(Identifier.Variable type) {
             structure.typeVertex(type).props().clearLabels();
         }
@@ -222,8 +243,18 @@ public abstract class GraphTraversal extends Traversal {
         public void predicateThing(Identifier.Variable left, TypeQLToken.Predicate token, String right) {
             Predicate.Value.String predicate = Predicate.Value.String.of(token);
             structure.thingVertex(left).props().predicate(predicate);
-            if (token == LIKE) parameters.pushValue(left, predicate, new Parameters.Value.Regex(right));
-            else parameters.pushValue(left, predicate, new Parameters.Value.String(right));
+            if (token == LIKE) {
+                Parameters.Value.Regex regex = new Parameters.Value.Regex(right);
+                parameters.pushValue(left, predicate, regex);
+                if (!TextIndex.trigrams(regex.pattern()).isEmpty()) {
+                    structure.thingVertex(left).props().hasSubstringTrigrams(true);
+                }
+            } else {
+                parameters.pushValue(left, predicate, new Parameters.Value.String(right));
+                if (token == CONTAINS && !TextIndex.trigrams(right).isEmpty()) {
+                    structure.thingVertex(left).props().hasSubstringTrigrams(true);
+                }
+            }
         }
 
         public void predicateThing(Identifier.Variable left, TypeQLToken.Predicate.Equality token, Boolean right) {
@@ -98,12 +98,14 @@ public abstract class Traversal {
         private final Map<Pair<Identifier.Variable, Predicate.Value<?, ?>>, Set<Value<?>>> values;
         private final Map<Identifier.Variable, Pair<Predicate.Value<?, ?>, Value<?>>> largestGTPredicates;
         private final Map<Identifier.Variable, Pair<Predicate.Value<?, ?>, Value<?>>> smallestLTPredicates;
+        private boolean excludeInferred;
 
         public Parameters() {
             iids = new HashMap<>();
             values = new HashMap<>();
             largestGTPredicates = new HashMap<>();
             smallestLTPredicates = new HashMap<>();
+            excludeInferred = false;
         }
 
         public void putIID(Identifier.Variable identifier, VertexIID.Thing iid) {
@@ -127,6 +129,18 @@ public abstract class Traversal {
             }
         }
 
+        /**
+         * Restrict the traversal to stored concepts, so that inferred things and inferred has edges that are buffered
+         * in the transaction are never traversed.
+         */
+        public void excludeInferred() {
+            this.excludeInferred = true;
+        }
+
+        public boolean excludesInferred() {
+            return excludeInferred;
+        }
+
         public VertexIID.Thing getIID(Identifier.Variable identifier) {
             return iids.get(identifier);
         }
@@ -148,6 +162,7 @@ public abstract class Traversal {
             StringBuilder str = new StringBuilder().append("Parameters: {");
             if (!iids.isEmpty()) str.append("\n\tiid: ").append(iids);
             if (!values.isEmpty()) str.append("\n\tvalues: ").append(values);
+            if (excludeInferred) str.append("\n\texclude inferred");
             str.append("\n}");
             return str.toString();
         }
@@ -159,12 +174,12 @@ public abstract class Traversal {
 
             Parameters that = (Parameters) o;
 
-            return iids.equals(that.iids) && values.equals(that.values);
+            return iids.equals(that.iids) && values.equals(that.values) && excludeInferred == that.excludeInferred;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(iids, values);
+            return Objects.hash(iids, values, excludeInferred);
         }
 
         public static class Value<T> implements Comparable<Value<?>> {
@@ -28,6 +28,7 @@ import com.vaticle.typedb.core.traversal.common.VertexMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 public class TraversalEngine {
 
@@ -53,6 +54,11 @@ public class TraversalEngine {
         return traversal.permutationIterator(graphMgr);
     }
 
+    public FunctionalIterator<VertexMap> iterator(GraphTraversal.Thing traversal, int parallelisation, Executor executor) {
+        traversal.initialise(cache);
+        return traversal.permutationIterator(graphMgr, parallelisation, executor);
+    }
+
     public FunctionalIterator<VertexMap> iterator(GraphTraversal.Type traversal) {
         return traversal.permutationIterator(graphMgr);
     }
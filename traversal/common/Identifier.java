@@ -130,6 +130,7 @@ public abstract class Identifier {
         final Reference reference;
         private final int hash;
         protected final Integer id;
+        private String syntax;
 
         private Variable(Reference reference, @Nullable Integer id) {
             this.reference = reference;
@@ -201,7 +202,9 @@ public abstract class Identifier {
 
         @Override
         public String toString() {
-            return reference.syntax() + (id == null ? "" : id.toString());
+            // answers are fingerprinted by their variables' syntax, so it is only built once
+            if (syntax == null) syntax = reference.syntax() + (id == null ? "" : id.toString());
+            return syntax;
         }
 
         @Override
@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.traversal.common;
 
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
 import com.vaticle.typedb.core.graph.vertex.Vertex;
 import com.vaticle.typedb.core.traversal.common.Identifier.Variable.Retrievable;
 
@@ -57,6 +58,14 @@ public class VertexMap {
         map.forEach(action);
     }
 
+    /**
+     * Fingerprints this answer by the IIDs of its vertices, so it can be deduplicated without being kept.
+     */
+    public boolean fingerprint(FingerprintSet.Fingerprint fingerprint) {
+        map.forEach((id, vertex) -> fingerprint.add(id.toString(), vertex.iid().bytes()));
+        return true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
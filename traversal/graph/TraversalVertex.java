@@ -164,11 +164,13 @@ public abstract class TraversalVertex<EDGE extends TraversalEdge<?, ?>, PROPERTI
         public static class Thing extends Properties {
 
             private boolean hasIID;
+            private boolean hasSubstringTrigrams;
             private final Set<Label> types;
             private final Set<Predicate.Value<?, ?>> predicates;
 
             public Thing() {
                 hasIID = false;
+                hasSubstringTrigrams = false;
                 types = new HashSet<>();
                 predicates = new HashSet<>();
             }
@@ -197,6 +199,18 @@ public abstract class TraversalVertex<EDGE extends TraversalEdge<?, ?>, PROPERTI
                 predicates.add(predicate);
             }
 
+            /**
+             * @return true if a contains or like predicate has a value with trigrams, so a text index can narrow down
+             * the candidates. Plans are shared between values, so this is part of the properties.
+             */
+            public boolean hasSubstringTrigrams() {
+                return hasSubstringTrigrams;
+            }
+
+            public void hasSubstringTrigrams(boolean hasSubstringTrigrams) {
+                this.hasSubstringTrigrams = hasSubstringTrigrams;
+            }
+
             @Override
             public boolean isThing() {
                 return true;
@@ -209,8 +223,8 @@ public abstract class TraversalVertex<EDGE extends TraversalEdge<?, ?>, PROPERTI
 
             @Override
             public String toString() {
-                return String.format("[thing] { hasIID: %s, types: %s, predicates: %s }",
-                        hasIID, types, predicates);
+                return String.format("[thing] { hasIID: %s, types: %s, predicates: %s, hasSubstringTrigrams: %s }",
+                        hasIID, types, predicates, hasSubstringTrigrams);
             }
 
             @Override
@@ -220,13 +234,14 @@ public abstract class TraversalVertex<EDGE extends TraversalEdge<?, ?>, PROPERTI
 
                 Properties.Thing that = (Properties.Thing) o;
                 return (this.hasIID == that.hasIID &&
+                        this.hasSubstringTrigrams == that.hasSubstringTrigrams &&
                         this.types.equals(that.types) &&
                         this.predicates.equals(that.predicates));
             }
 
             @Override
             public int hashCode() {
-                return Objects.hash(this.hasIID, this.types, this.predicates);
+                return Objects.hash(this.hasIID, this.hasSubstringTrigrams, this.types, this.predicates);
             }
         }
 
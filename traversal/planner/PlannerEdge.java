@@ -49,6 +49,7 @@ import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.PLAYING;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.RELATING;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.SHORTCUT;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS_KEY;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.PLAYS;
@@ -1021,6 +1022,9 @@ public abstract class PlannerEdge<VERTEX_FROM extends PlannerVertex<?>, VERTEX_T
                     return new Relating(from, to);
                 } else if (encoding == ROLEPLAYER) {
                     return new RolePlayer(from, to, structureEdge.asRolePlayer().repetition(), structureEdge.asRolePlayer().types());
+                } else if (encoding == SHORTCUT) {
+                    StructureEdge.Native.Shortcut shortcut = structureEdge.asShortcut();
+                    return new Shortcut(from, to, shortcut.relationTypes(), shortcut.fromRoleTypes(), shortcut.toRoleTypes());
                 } else {
                     throw TypeDBException.of(UNRECOGNISED_VALUE);
                 }
@@ -1059,6 +1063,10 @@ public abstract class PlannerEdge<VERTEX_FROM extends PlannerVertex<?>, VERTEX_T
                     return false;
                 }
 
+                public boolean isShortcut() {
+                    return false;
+                }
+
                 public Thing.Has.Directional asHas() {
                     throw TypeDBException.of(ILLEGAL_CAST, className(this.getClass()), className(Thing.Has.Directional.class));
                 }
@@ -1074,6 +1082,10 @@ public abstract class PlannerEdge<VERTEX_FROM extends PlannerVertex<?>, VERTEX_T
                 public Thing.RolePlayer.Directional asRolePlayer() {
                     throw TypeDBException.of(ILLEGAL_CAST, className(this.getClass()), className(Thing.RolePlayer.Directional.class));
                 }
+
+                public Thing.Shortcut.Directional asShortcut() {
+                    throw TypeDBException.of(ILLEGAL_CAST, className(this.getClass()), className(Thing.Shortcut.Directional.class));
+                }
             }
 
             static class Has extends Thing {
@@ -1372,6 +1384,84 @@ public abstract class PlannerEdge<VERTEX_FROM extends PlannerVertex<?>, VERTEX_T
                     }
                 }
             }
+
+            public static class Shortcut extends Thing {
+
+                private final Set<Label> relationTypes;
+                private final Set<Label> fromRoleTypes;
+                private final Set<Label> toRoleTypes;
+
+                Shortcut(PlannerVertex.Thing from, PlannerVertex.Thing to, Set<Label> relationTypes,
+                         Set<Label> fromRoleTypes, Set<Label> toRoleTypes) {
+                    super(from, to, SHORTCUT);
+                    assert !relationTypes.isEmpty() && !fromRoleTypes.isEmpty() && !toRoleTypes.isEmpty();
+                    this.relationTypes = relationTypes;
+                    this.fromRoleTypes = fromRoleTypes;
+                    this.toRoleTypes = toRoleTypes;
+                }
+
+                @Override
+                protected void initialiseDirectionalEdges() {
+                    forward = new Directional(from.asThing(), to.asThing(), FORWARD);
+                    backward = new Directional(to.asThing(), from.asThing(), BACKWARD);
+                }
+
+                public class Directional extends Thing.Directional {
+
+                    private final boolean isForward;
+
+                    private Directional(PlannerVertex.Thing from, PlannerVertex.Thing to, Encoding.Direction.Edge direction) {
+                        super(from, to, direction, SHORTCUT);
+                        this.isForward = direction == FORWARD;
+                    }
+
+                    @Override
+                    public boolean isShortcut() {
+                        return true;
+                    }
+
+                    @Override
+                    public Thing.Shortcut.Directional asShortcut() {
+                        return this;
+                    }
+
+                    public Set<Label> relationTypes() {
+                        return relationTypes;
+                    }
+
+                    /**
+                     * @return the role types played by the players this edge starts from, in the direction of this edge
+                     */
+                    public Set<Label> fromRoleTypes() {
+                        return isForward ? fromRoleTypes : toRoleTypes;
+                    }
+
+                    public Set<Label> toRoleTypes() {
+                        return isForward ? toRoleTypes : fromRoleTypes;
+                    }
+
+                    /**
+                     * The number of co-players of a player: the role instances it plays per player, times the
+                     * players in the other role per relation.
+                     */
+                    @Override
+                    void computeCost(GraphManager graphMgr) {
+                        if (isLoop() || to.props().hasIID()) {
+                            cost = 1;
+                            return;
+                        }
+
+                        cost = 0;
+                        double players = graphMgr.data().stats().thingVertexSum(from.props().types());
+                        double relations = graphMgr.data().stats().thingVertexSum(relationTypes);
+                        if (players > 0 && relations > 0) {
+                            cost = graphMgr.data().stats().thingVertexSum(fromRoleTypes()) / players *
+                                    graphMgr.data().stats().thingVertexSum(toRoleTypes()) / relations;
+                        }
+                        assert !Double.isNaN(cost);
+                    }
+                }
+            }
         }
     }
 }
@@ -22,12 +22,15 @@ import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.optimiser.OptimiserConstraint;
 import com.vaticle.typedb.core.common.optimiser.OptimiserVariable;
+import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.TypeVertex;
 import com.vaticle.typedb.core.traversal.common.Identifier;
 import com.vaticle.typedb.core.traversal.graph.TraversalVertex;
 
 import javax.annotation.Nullable;
+import java.util.Set;
 
 import static com.vaticle.typedb.common.util.Objects.className;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
@@ -36,6 +39,8 @@ import static com.vaticle.typedb.core.traversal.planner.GraphPlanner.INIT_ZERO;
 import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.Equality.EQ;
 import static java.lang.Math.log;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Collections.emptySet;
 
 public abstract class PlannerVertex<PROPERTIES extends TraversalVertex.Properties>
         extends TraversalVertex<PlannerEdge.Directional<?, ?>, PROPERTIES> {
@@ -202,6 +207,9 @@ public abstract class PlannerVertex<PROPERTIES extends TraversalVertex.Propertie
 
     public static class Thing extends PlannerVertex<Properties.Thing> {
 
+        // the fraction of a text-indexed type's instances expected to share the trigrams of a substring predicate
+        private static final double TEXT_INDEX_SELECTIVITY = 0.01;
+
         Thing(Identifier id) {
             this(id, null);
         }
@@ -224,9 +232,33 @@ public abstract class PlannerVertex<PROPERTIES extends TraversalVertex.Propertie
                 if (iterate(props().predicates()).anyMatch(p -> p.operator().equals(EQ))) {
                     cost = props().types().size();
                 } else {
-                    cost = graphMgr.data().stats().thingVertexSum(props().types());
+                    Set<TypeVertex> ownerTypes = ownerTypes(graphMgr);
+                    cost = 0;
+                    for (Label label : props().types()) {
+                        TypeVertex type = graphMgr.schema().getType(label);
+                        double count = graphMgr.data().stats().thingVertexCount(type);
+                        if (props().hasSubstringTrigrams() && type.isTextIndexed()) count *= TEXT_INDEX_SELECTIVITY;
+                        if (!ownerTypes.isEmpty() && type.isOwnershipIndexed()) {
+                            count = min(count, graphMgr.data().stats().hasEdgeSum(ownerTypes, type));
+                        }
+                        cost += count;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the types that a has edge requires of the owners of this vertex, which an ownership indexed type can
+         * start from without reading the attributes of other owners
+         */
+        private Set<TypeVertex> ownerTypes(GraphManager graphMgr) {
+            for (PlannerEdge.Directional<?, ?> edge : ins()) {
+                if (edge.isNative() && edge.asNative().isThing() && edge.asNative().asThing().isHas() &&
+                        edge.direction().isForward()) {
+                    return iterate(edge.asNative().asThing().from().props().types()).map(graphMgr.schema()::getType).toSet();
                 }
             }
+            return emptySet();
         }
 
         @Override
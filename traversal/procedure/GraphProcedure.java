@@ -18,6 +18,7 @@
 
 package com.vaticle.typedb.core.traversal.procedure;
 
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.parameters.Label;
@@ -36,6 +37,7 @@ import com.vaticle.typedb.core.traversal.planner.PlannerEdge;
 import com.vaticle.typedb.core.traversal.planner.PlannerVertex;
 import com.vaticle.typedb.core.traversal.predicate.Predicate;
 import com.vaticle.typedb.core.traversal.scanner.GraphIterator;
+import com.vaticle.typedb.core.traversal.scanner.GraphPartitions;
 import com.vaticle.typedb.core.traversal.structure.Structure;
 import com.vaticle.typedb.core.traversal.structure.StructureEdge;
 import com.vaticle.typedb.core.traversal.structure.StructureVertex;
@@ -51,11 +53,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
 import static com.vaticle.typedb.core.concurrent.producer.Producers.async;
+import static com.vaticle.typedb.core.concurrent.producer.Producers.asyncOrdered;
 import static java.util.Comparator.comparing;
 
 public class GraphProcedure implements PermutationProcedure {
@@ -122,16 +126,14 @@ public class GraphProcedure implements PermutationProcedure {
         }
         Optional<Order> order = modifiers.sorting().order(initialVertex().id());
         boolean sortByValue = order.isPresent();
-        if (initialVertex().id().isRetrievable() && modifiers.filter().variables().contains(initialVertex().id().asVariable().asRetrievable())) {
-            return async(initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
-                    // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
-                    .map(v -> new GraphIterator(graphMgr, v, this, params, modifiers).distinct()), parallelisation);
-        } else {
-            return async(initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
-                    .map(v -> new GraphIterator(graphMgr, v, this, params, modifiers)), parallelisation)
-                    // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
-                    .distinct();
-        }
+        boolean distinctPerStart = initialVertex().id().isRetrievable() &&
+                modifiers.filter().variables().contains(initialVertex().id().asVariable().asRetrievable());
+        FunctionalProducer<VertexMap> producer = async(new GraphPartitions(
+                graphMgr, this, params, modifiers, initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue),
+                distinctPerStart
+        ), parallelisation);
+        // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
+        return distinctPerStart ? producer : producer.distinct(FingerprintSet.concurrent(VertexMap::fingerprint));
     }
 
     @Override
@@ -146,13 +148,34 @@ public class GraphProcedure implements PermutationProcedure {
         if (initialVertex().id().isRetrievable() && modifiers.filter().variables().contains(initialVertex().id().asVariable().asRetrievable())) {
             return initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
                     // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
-                    .flatMap(v -> new GraphIterator(graphMgr, v, this, params, modifiers).distinct());
+                    .flatMap(v -> new GraphIterator(graphMgr, v, this, params, modifiers).distinct(FingerprintSet.create(VertexMap::fingerprint)));
         } else {
             // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
             return initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
                     .flatMap(v -> new GraphIterator(graphMgr, v, this, params, modifiers))
                     // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
-                    .distinct();
+                    .distinct(FingerprintSet.create(VertexMap::fingerprint));
+        }
+    }
+
+    @Override
+    public FunctionalIterator<VertexMap> iterator(GraphManager graphMgr, Traversal.Parameters params,
+                                                  Modifiers modifiers, int parallelisation, Executor executor) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace(params.toString());
+            LOG.trace(this.toString());
+        }
+        // answers are ordered by the initial vertex first, so each start vertex is a consecutive range of the output
+        Optional<Order> order = modifiers.sorting().order(initialVertex().id());
+        boolean sortByValue = order.isPresent();
+        if (initialVertex().id().isRetrievable() && modifiers.filter().variables().contains(initialVertex().id().asVariable().asRetrievable())) {
+            return asyncOrdered(initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
+                    .map(v -> new GraphIterator(graphMgr, v, this, params, modifiers).distinct(FingerprintSet.create(VertexMap::fingerprint))), parallelisation, executor);
+        } else {
+            return asyncOrdered(initialVertex().iterator(graphMgr, params, order.orElse(ASC), sortByValue)
+                    .map(v -> new GraphIterator(graphMgr, v, this, params, modifiers)), parallelisation, executor)
+                    // TODO we can reduce the size of the distinct() set if the traversal engine doesn't overgenerate as much
+                    .distinct(FingerprintSet.create(VertexMap::fingerprint));
         }
     }
 
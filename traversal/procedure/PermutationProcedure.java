@@ -25,6 +25,8 @@ import com.vaticle.typedb.core.traversal.Traversal;
 import com.vaticle.typedb.core.traversal.common.Modifiers;
 import com.vaticle.typedb.core.traversal.common.VertexMap;
 
+import java.util.concurrent.Executor;
+
 public interface PermutationProcedure {
 
     FunctionalProducer<VertexMap> producer(GraphManager graphMgr, Traversal.Parameters params,
@@ -32,4 +34,10 @@ public interface PermutationProcedure {
 
     FunctionalIterator<VertexMap> iterator(GraphManager graphMgr, Traversal.Parameters params,
                                            Modifiers modifiers);
+
+    /**
+     * Produces the same answers in the same order as the sequential iterator, evaluating them in parallel
+     */
+    FunctionalIterator<VertexMap> iterator(GraphManager graphMgr, Traversal.Parameters params,
+                                           Modifiers modifiers, int parallelisation, Executor executor);
 }
@@ -30,6 +30,7 @@ import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.encoding.iid.PrefixIID;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.adjacency.ThingAdjacency;
 import com.vaticle.typedb.core.graph.edge.TypeEdge;
 import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
 import com.vaticle.typedb.core.graph.vertex.ThingVertex;
@@ -75,6 +76,7 @@ import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.HAS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.PLAYING;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Base.RELATING;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.SHORTCUT;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.OWNS_KEY;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Type.PLAYS;
@@ -936,6 +938,10 @@ public abstract class ProcedureEdge<
                     PlannerEdge.Native.Thing.RolePlayer.Directional rp = edge.asRolePlayer();
                     if (isForward) return new RolePlayer.Forward(from, to, rp.repetition(), rp.roleTypes());
                     else return new RolePlayer.Backward(from, to, rp.repetition(), rp.roleTypes());
+                } else if (edge.isShortcut()) {
+                    PlannerEdge.Native.Thing.Shortcut.Directional sc = edge.asShortcut();
+                    if (isForward) return new Shortcut.Forward(from, to, sc.relationTypes(), sc.fromRoleTypes(), sc.toRoleTypes());
+                    else return new Shortcut.Backward(from, to, sc.relationTypes(), sc.fromRoleTypes(), sc.toRoleTypes());
                 } else {
                     throw TypeDBException.of(UNRECOGNISED_VALUE);
                 }
@@ -958,6 +964,10 @@ public abstract class ProcedureEdge<
                     StructureEdge.Native.RolePlayer rp = edge.asRolePlayer();
                     if (isForward) return new RolePlayer.Forward(from, to, rp.repetition(), rp.types());
                     else return new RolePlayer.Backward(from, to, rp.repetition(), rp.types());
+                } else if (encoding == SHORTCUT) {
+                    StructureEdge.Native.Shortcut sc = edge.asShortcut();
+                    if (isForward) return new Shortcut.Forward(from, to, sc.relationTypes(), sc.fromRoleTypes(), sc.toRoleTypes());
+                    else return new Shortcut.Backward(from, to, sc.relationTypes(), sc.toRoleTypes(), sc.fromRoleTypes());
                 } else {
                     throw TypeDBException.of(UNRECOGNISED_VALUE);
                 }
@@ -1000,6 +1010,22 @@ public abstract class ProcedureEdge<
                     super(from, to, direction, HAS);
                 }
 
+                /**
+                 * Inferred has edges may connect stored owners and attributes, so excluding inferred vertices is not
+                 * enough: the edge itself must be checked. Inferred edges only live in the transaction's buffer.
+                 */
+                <T extends ThingVertex> Forwardable<T, Order.Asc> excludeInferred(
+                        Forwardable<T, Order.Asc> iterator, ThingAdjacency adjacency, Traversal.Parameters params
+                ) {
+                    if (!params.excludesInferred()) return iterator;
+                    else return iterator.filter(adjacent -> !adjacency.isInferred(HAS, adjacent));
+                }
+
+                boolean isClosure(ThingAdjacency adjacency, ThingVertex adjacent, Traversal.Parameters params) {
+                    return adjacency.edge(HAS, adjacent) != null &&
+                            (!params.excludesInferred() || !adjacency.isInferred(HAS, adjacent));
+                }
+
                 static class Forward extends Has {
 
                     Forward(ProcedureVertex.Thing from, ProcedureVertex.Thing to) {
@@ -1012,6 +1038,12 @@ public abstract class ProcedureEdge<
                     ) {
                         assert fromVertex.isThing();
                         ThingVertex owner = fromVertex.asThing();
+                        return excludeInferred(branchAttributes(graphMgr, owner, params), owner.outs(), params);
+                    }
+
+                    private Forwardable<? extends ThingVertex, Order.Asc> branchAttributes(
+                            GraphManager graphMgr, ThingVertex owner, Traversal.Parameters params
+                    ) {
                         if (to.props().hasIID()) {
                             Optional<AttributeVertex<?>> attributeVertex = branchToIID(graphMgr, params, owner);
                             if (attributeVertex.isPresent()) {
@@ -1057,7 +1089,7 @@ public abstract class ProcedureEdge<
                     @Override
                     public boolean isClosure(GraphManager graphMgr, Vertex<?, ?> fromVertex, Vertex<?, ?> toVertex,
                                              Traversal.Parameters params) {
-                        return fromVertex.asThing().outs().edge(HAS, toVertex.asThing()) != null;
+                        return isClosure(fromVertex.asThing().outs(), toVertex.asThing(), params);
                     }
 
                     @Override
@@ -1078,7 +1110,12 @@ public abstract class ProcedureEdge<
                     ) {
                         assert fromVertex.isThing() && fromVertex.asThing().isAttribute();
                         AttributeVertex<?> att = fromVertex.asThing().asAttribute();
+                        return excludeInferred(branchOwners(graphMgr, att, params), att.ins(), params);
+                    }
 
+                    private Forwardable<? extends ThingVertex, Order.Asc> branchOwners(
+                            GraphManager graphMgr, AttributeVertex<?> att, Traversal.Parameters params
+                    ) {
                         if (to.props().hasIID()) {
                             Optional<ThingVertex> toVertex = backwardBranchToIIDFiltered(graphMgr, att, HAS, params.getIID(to.id().asVariable()), to.props().types());
                             if (toVertex.isPresent()) return to.iterateAndFilterPredicates(toVertex.get(), params, ASC);
@@ -1098,7 +1135,7 @@ public abstract class ProcedureEdge<
                     @Override
                     public boolean isClosure(GraphManager graphMgr, Vertex<?, ?> fromVertex,
                                              Vertex<?, ?> toVertex, Traversal.Parameters params) {
-                        return fromVertex.asThing().ins().edge(HAS, toVertex.asThing()) != null;
+                        return isClosure(fromVertex.asThing().ins(), toVertex.asThing(), params);
                     }
 
                     @Override
@@ -1522,6 +1559,135 @@ public abstract class ProcedureEdge<
                     }
                 }
             }
+
+            /**
+             * Steps from a player to its co-players: the players of the {@code toRoleTypes} in the relations where the
+             * player plays one of the {@code fromRoleTypes}, through a different role. Relation types that declare a
+             * shortcut between exactly these roles are traversed through their SHORTCUT edges, and the rest through
+             * the ROLEPLAYER edges of each relation.
+             */
+            public static abstract class Shortcut extends Thing {
+
+                final Set<Label> relationTypes;
+                final Set<Label> fromRoleTypes;
+                final Set<Label> toRoleTypes;
+
+                private Shortcut(
+                        ProcedureVertex.Thing from, ProcedureVertex.Thing to, Encoding.Direction.Edge direction,
+                        Set<Label> relationTypes, Set<Label> fromRoleTypes, Set<Label> toRoleTypes
+                ) {
+                    super(from, to, direction, SHORTCUT);
+                    this.relationTypes = relationTypes;
+                    this.fromRoleTypes = fromRoleTypes;
+                    this.toRoleTypes = toRoleTypes;
+                }
+
+                @Override
+                public Forwardable<? extends ThingVertex, Order.Asc> branch(
+                        GraphManager graphMgr, Vertex<?, ?> fromVertex, Traversal.Parameters params
+                ) {
+                    assert fromVertex.isThing() && !relationTypes.isEmpty();
+                    ThingVertex player = fromVertex.asThing();
+
+                    if (to.props().hasIID()) {
+                        assert to.id().isVariable();
+                        ThingVertex coPlayer = graphMgr.data().getReadable(params.getIID(to.id().asVariable()), false);
+                        if (coPlayer == null || !isClosure(graphMgr, player, coPlayer, params)) return emptySorted();
+                        else return to.iterateAndFilter(coPlayer, params, ASC);
+                    } else {
+                        Set<TypeVertex> relationTypeVertices = iterate(relationTypes).map(graphMgr.schema()::getType).toSet();
+                        return to.mergeAndFilterPredicatesOnVertices(
+                                graphMgr,
+                                iterate(to.props().types()).map(graphMgr.schema()::getType)
+                                        .map(t -> new Pair<>(t, iterate(relationTypeVertices).mergeMapForwardable(
+                                                rel -> coPlayers(graphMgr, player, rel, t), ASC
+                                        ).distinct()))
+                                        .toList(),
+                                params, ASC
+                        );
+                    }
+                }
+
+                @Override
+                public boolean isClosure(
+                        GraphManager graphMgr, Vertex<?, ?> fromVertex, Vertex<?, ?> toVertex, Traversal.Parameters params
+                ) {
+                    ThingVertex player = fromVertex.asThing();
+                    ThingVertex coPlayer = toVertex.asThing();
+                    return iterate(relationTypes).map(graphMgr.schema()::getType).anyMatch(
+                            rel -> coPlayers(graphMgr, player, rel, coPlayer.type()).findFirst(coPlayer).isPresent()
+                    );
+                }
+
+                private Forwardable<ThingVertex, Order.Asc> coPlayers(
+                        GraphManager graphMgr, ThingVertex player, TypeVertex relationType, TypeVertex coPlayerType
+                ) {
+                    Set<TypeVertex> relatedRoleTypes = graphMgr.schema().relatedRoleTypes(relationType);
+                    Set<TypeVertex> playerRoleTypes = iterate(graphMgr.schema().playedRoleTypes(player.type()))
+                            .filter(rt -> fromRoleTypes.contains(rt.properLabel()) && relatedRoleTypes.contains(rt)).toSet();
+                    Set<TypeVertex> coPlayerRoleTypes = iterate(graphMgr.schema().playedRoleTypes(coPlayerType))
+                            .filter(rt -> toRoleTypes.contains(rt.properLabel()) && relatedRoleTypes.contains(rt)).toSet();
+                    if (playerRoleTypes.isEmpty() || coPlayerRoleTypes.isEmpty()) return emptySorted();
+
+                    PrefixIID coPlayerPrefix = PrefixIID.of(coPlayerType.encoding().instance());
+                    Pair<TypeVertex, TypeVertex> shortcut = relationType.shortcut();
+                    if (shortcut != null && playerRoleTypes.equals(set(shortcut.first())) &&
+                            coPlayerRoleTypes.equals(set(shortcut.second()))) {
+                        return player.outs().edge(SHORTCUT, relationType, coPlayerPrefix, coPlayerType.iid()).to();
+                    } else if (shortcut != null && playerRoleTypes.equals(set(shortcut.second())) &&
+                            coPlayerRoleTypes.equals(set(shortcut.first()))) {
+                        return player.ins().edge(SHORTCUT, relationType, coPlayerPrefix, coPlayerType.iid()).from();
+                    } else {
+                        PrefixIID relationPrefix = PrefixIID.of(relationType.encoding().instance());
+                        return iterate(playerRoleTypes).flatMap(
+                                rt -> player.ins().edge(ROLEPLAYER, rt, relationPrefix, relationType.iid()).fromAndOptimised()
+                        ).mergeMapForwardable(relationAndRole -> iterate(coPlayerRoleTypes).mergeMapForwardable(
+                                rt -> relationAndRole.key().outs().edge(ROLEPLAYER, rt, coPlayerPrefix, coPlayerType.iid()).toAndOptimised(),
+                                ASC
+                        ).filter(
+                                coPlayerAndRole -> !coPlayerAndRole.value().equals(relationAndRole.value())
+                        ).mapSorted(KeyValue::key, coPlayer -> KeyValue.of(coPlayer, null), ASC), ASC);
+                    }
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    return super.equals(o) && ((Shortcut) o).relationTypes.equals(relationTypes) &&
+                            ((Shortcut) o).fromRoleTypes.equals(fromRoleTypes) && ((Shortcut) o).toRoleTypes.equals(toRoleTypes);
+                }
+
+                @Override
+                public String toString() {
+                    return super.toString() + String.format(" { relationTypes: %s, fromRoleTypes: %s, toRoleTypes: %s }",
+                            relationTypes, fromRoleTypes, toRoleTypes);
+                }
+
+                static class Forward extends Shortcut {
+
+                    Forward(ProcedureVertex.Thing from, ProcedureVertex.Thing to, Set<Label> relationTypes,
+                            Set<Label> fromRoleTypes, Set<Label> toRoleTypes) {
+                        super(from, to, FORWARD, relationTypes, fromRoleTypes, toRoleTypes);
+                    }
+
+                    @Override
+                    public ProcedureEdge<?, ?> reverse() {
+                        return new Backward(to, from, relationTypes, toRoleTypes, fromRoleTypes);
+                    }
+                }
+
+                static class Backward extends Shortcut {
+
+                    Backward(ProcedureVertex.Thing from, ProcedureVertex.Thing to, Set<Label> relationTypes,
+                             Set<Label> fromRoleTypes, Set<Label> toRoleTypes) {
+                        super(from, to, BACKWARD, relationTypes, fromRoleTypes, toRoleTypes);
+                    }
+
+                    @Override
+                    public ProcedureEdge<?, ?> reverse() {
+                        return new Forward(to, from, relationTypes, toRoleTypes, fromRoleTypes);
+                    }
+                }
+            }
         }
     }
 }
@@ -24,10 +24,12 @@ import com.vaticle.typedb.core.common.exception.TypeDBCheckedException;
 import com.vaticle.typedb.core.common.exception.TypeDBException;
 import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
 import com.vaticle.typedb.core.common.iterator.sorted.SortedIterator.Forwardable;
+import com.vaticle.typedb.core.common.parameters.Label;
 import com.vaticle.typedb.core.common.parameters.Order;
 import com.vaticle.typedb.core.encoding.Encoding;
 import com.vaticle.typedb.core.encoding.iid.VertexIID;
 import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.ThingGraph.TextIndex;
 import com.vaticle.typedb.core.graph.vertex.AttributeVertex;
 import com.vaticle.typedb.core.graph.vertex.ThingVertex;
 import com.vaticle.typedb.core.graph.vertex.TypeVertex;
@@ -63,6 +65,7 @@ import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILL
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.UNSUPPORTED_OPERATION;
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.emptySorted;
+import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.intersect;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.iterateSorted;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.merge;
 import static com.vaticle.typedb.core.encoding.Encoding.ValueType.BOOLEAN;
@@ -79,6 +82,9 @@ import static com.vaticle.typedb.core.encoding.Encoding.Vertex.Type.ROLE_TYPE;
 import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.Equality.EQ;
 import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.Equality.GTE;
 import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.Equality.LTE;
+import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.SubString.CONTAINS;
+import static com.vaticle.typedb.core.traversal.predicate.PredicateOperator.SubString.LIKE;
+import static java.util.Collections.emptySet;
 
 public abstract class ProcedureVertex<
         VERTEX extends Vertex<?, ?>,
@@ -233,7 +239,7 @@ public abstract class ProcedureVertex<
             } else {
                 if (id().isVariable()) types = types.filter(t -> !t.encoding().equals(ROLE_TYPE));
                 List<Pair<TypeVertex, Forwardable<ThingVertex, ORDER>>> itersByType = types.map(t ->
-                        new Pair<>(t, graphMgr.data().getReadable(t, order))
+                        new Pair<>(t, iterateCandidates(graphMgr, parameters, t, order))
                 ).toList();
                 return mergeAndFilterPredicatesOnVertices(
                         graphMgr, itersByType, parameters, order, forceValueSort
@@ -241,6 +247,60 @@ public abstract class ProcedureVertex<
             }
         }
 
+        /**
+         * Indexed attribute types narrow down their instances: text-indexed types by the trigrams of contains and like
+         * predicates, and ownership indexed types by the types of owners that a has edge requires. The candidates are
+         * a superset of the matches, so they are still checked against the predicates and edges.
+         */
+        private <ORDER extends Order> Forwardable<ThingVertex, ORDER> iterateCandidates(
+                GraphManager graphMgr, Traversal.Parameters parameters, TypeVertex type, ORDER order
+        ) {
+            if (!type.isAttributeType()) return graphMgr.data().getReadable(type, order);
+            List<Forwardable<ThingVertex, ORDER>> candidates = new ArrayList<>();
+            if (type.valueType() == STRING && type.isTextIndexed()) {
+                Set<String> trigrams = substringTrigrams(parameters);
+                if (!trigrams.isEmpty()) candidates.add(graphMgr.data().textIndex().candidates(type, trigrams, order));
+            }
+            if (type.isOwnershipIndexed() && graphMgr.data().ownershipIndex().isReadable()) {
+                ownerTypes().ifPresent(ownerTypes -> candidates.add(iterate(graphMgr.schema().ownersOfAttributeType(type, emptySet()))
+                        .filter(ownerType -> ownerTypes.contains(ownerType.properLabel()))
+                        .<ThingVertex, ORDER>mergeMapForwardable(ownerType -> graphMgr.data().ownershipIndex().attributes(ownerType, type, order), order)
+                        .distinct()));
+            }
+            if (candidates.isEmpty()) return graphMgr.data().getReadable(type, order);
+            else if (candidates.size() == 1) return candidates.get(0);
+            else return intersect(iterate(candidates), order);
+        }
+
+        /**
+         * @return the types that a has edge requires of the owners of this vertex, if it has one
+         */
+        private Optional<Set<Label>> ownerTypes() {
+            for (ProcedureEdge<?, ?> edge : outs()) {
+                if (edge instanceof ProcedureEdge.Native.Thing.Has.Backward) return Optional.of(edge.to().asThing().props().types());
+            }
+            for (ProcedureEdge<?, ?> edge : ins()) {
+                if (edge instanceof ProcedureEdge.Native.Thing.Has.Forward) return Optional.of(edge.from().asThing().props().types());
+            }
+            return Optional.empty();
+        }
+
+        private Set<String> substringTrigrams(Traversal.Parameters parameters) {
+            Set<String> trigrams = new HashSet<>();
+            for (Predicate.Value<?, ?> predicate : props().predicates()) {
+                if (predicate.operator().equals(CONTAINS)) {
+                    for (Traversal.Parameters.Value<?> value : parameters.getValues(id().asVariable(), predicate)) {
+                        trigrams.addAll(TextIndex.trigrams(value.asString()));
+                    }
+                } else if (predicate.operator().equals(LIKE)) {
+                    for (Traversal.Parameters.Value<?> value : parameters.getValues(id().asVariable(), predicate)) {
+                        trigrams.addAll(TextIndex.trigrams(value.asRegex().pattern()));
+                    }
+                }
+            }
+            return trigrams;
+        }
+
         <ORDER extends Order> Forwardable<? extends ThingVertex, ORDER> iterateAndFilter(
                 ThingVertex vertex, Traversal.Parameters params, ORDER order
         ) {
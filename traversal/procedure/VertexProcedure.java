@@ -35,10 +35,12 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static com.vaticle.typedb.common.collection.Collections.map;
 import static com.vaticle.typedb.common.collection.Collections.pair;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
 import static com.vaticle.typedb.core.concurrent.producer.Producers.async;
 
@@ -87,6 +89,9 @@ public class VertexProcedure implements PermutationProcedure {
         assert vertex.id().isRetrievable() && modifiers.filter().variables().contains(vertex.id().asVariable().asRetrievable());
         Optional<Order> order = modifiers.sorting().order(vertex.id());
         FunctionalIterator<? extends Vertex<?, ?>> iterator = vertex.iterator(graphMgr, params, order.orElse(ASC), order.isPresent());
+        if (params.excludesInferred()) {
+            iterator = iterator.filter(v -> !v.isThing() || v.asThing().existence() != INFERRED);
+        }
         for (ProcedureEdge<?, ?> e : vertex.loops()) {
             iterator = iterator.filter(v -> e.isClosure(graphMgr, v, v, params));
         }
@@ -100,6 +105,13 @@ public class VertexProcedure implements PermutationProcedure {
         });
     }
 
+    @Override
+    public FunctionalIterator<VertexMap> iterator(GraphManager graphMgr, Traversal.Parameters params,
+                                                  Modifiers modifiers, int parallelisation, Executor executor) {
+        // a single vertex scan has nothing to evaluate in parallel
+        return iterator(graphMgr, params, modifiers);
+    }
+
     @Override
     public String toString() {
         StringBuilder str = new StringBuilder();
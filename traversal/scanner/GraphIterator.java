@@ -37,6 +37,7 @@ import com.vaticle.typedb.core.traversal.procedure.ProcedureVertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -54,6 +55,7 @@ import static com.vaticle.typedb.core.common.exception.ErrorMessage.Transaction.
 import static com.vaticle.typedb.core.common.iterator.Iterators.iterate;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.intersect;
 import static com.vaticle.typedb.core.common.iterator.sorted.SortedIterators.Forwardable.iterateSorted;
+import static com.vaticle.typedb.core.common.parameters.Concept.Existence.INFERRED;
 import static com.vaticle.typedb.core.common.parameters.Order.Asc.ASC;
 
 /**
@@ -71,6 +73,9 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
     private final Map<Identifier.Variable, Scope> scopes;
     private final Map<ProcedureVertex<?, ?>, VertexTraverser> vertexTraversers;
     private final Vertex<?, ?> initial;
+    private final GraphPartitions.Group group;
+    private final Vertex<?, ?> secondAfter;
+    private final int secondAfterRepeats;
     private final SortedSet<ProcedureVertex<?, ?>> toTraverse;
     private final SortedSet<ProcedureVertex<?, ?>> toRevisit;
     private Direction direction;
@@ -82,11 +87,27 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
 
     public GraphIterator(GraphManager graphMgr, Vertex<?, ?> initial, GraphProcedure procedure,
                          Traversal.Parameters params, Modifiers modifiers) {
+        this(graphMgr, initial, procedure, params, modifiers, null, null, 0);
+    }
+
+    /**
+     * @param group              - if present, this iterator may split its remaining second-vertex candidates off into
+     *                           the group
+     * @param secondAfter        - if present, only second-vertex candidates from this vertex onwards are traversed
+     * @param secondAfterRepeats - the number of candidates equal to secondAfter that were already traversed, and are
+     *                           skipped: a vertex can be a candidate more than once, such as through distinct roles
+     */
+    GraphIterator(GraphManager graphMgr, Vertex<?, ?> initial, GraphProcedure procedure, Traversal.Parameters params,
+                  Modifiers modifiers, @Nullable GraphPartitions.Group group, @Nullable Vertex<?, ?> secondAfter,
+                  int secondAfterRepeats) {
         this.graphMgr = graphMgr;
         this.procedure = procedure;
         this.params = params;
         this.initial = initial;
         this.modifiers = modifiers;
+        this.group = group;
+        this.secondAfter = secondAfter;
+        this.secondAfterRepeats = secondAfterRepeats;
         this.toTraverse = new TreeSet<>(Comparator.comparing(ProcedureVertex::order));
         this.toRevisit = new TreeSet<>(Comparator.comparing(ProcedureVertex::order));
         this.scopes = new HashMap<>();
@@ -288,6 +309,8 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
         private final boolean sortByValue;
         private Forwardable<Vertex<?, ?>, ? extends Order> iterator;
         private Vertex<?, ?> vertex;
+        private Vertex<?, ?> lastCandidate;
+        private int lastCandidateRepeats;
         private boolean anyAnswerFound;
 
         private VertexTraverser(ProcedureVertex<?, ?> procedureVertex) {
@@ -315,14 +338,38 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
             Forwardable<Vertex<?, ?>, ? extends Order> iterator = getIterator();
             while (iterator.hasNext()) {
                 vertex = getIterator().next();
+                if (procedureVertex.order() == 1) countCandidate();
+                if (isExcluded()) continue;
                 if (verifyLoops()) {
                     anyAnswerFound = true;
+                    if (group != null && procedureVertex.order() == 1 && group.trySplit()) splitRemainder();
                     return true;
                 }
             }
             return false;
         }
 
+        private void countCandidate() {
+            if (vertex.equals(lastCandidate)) lastCandidateRepeats++;
+            else {
+                lastCandidate = vertex;
+                lastCandidateRepeats = 1;
+            }
+        }
+
+        /**
+         * Hand every candidate after the current one to a new iterator, so this iterator only finishes the subtree
+         * below the current vertex. Later candidates equal to the current vertex are handed over too, as they are
+         * distinct paths to it. The second vertex is only ever traversed from the single initial vertex, so its
+         * iterator is never rebuilt once exhausted.
+         */
+        private void splitRemainder() {
+            assert vertex != null && vertex.equals(lastCandidate);
+            group.offer(new GraphIterator(graphMgr, initial, procedure, params, modifiers, group, vertex, lastCandidateRepeats));
+            iterator.recycle();
+            iterator = iterateSorted(ASC);
+        }
+
         private Vertex<?, ?> vertex() {
             return vertex;
         }
@@ -331,6 +378,12 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
             return anyAnswerFound;
         }
 
+        private boolean isExcluded() {
+            if (!vertex.isThing()) return false;
+            else if (params.excludesInferred() && vertex.asThing().existence() == INFERRED) return true;
+            else return graphMgr.data().expiries().isExpired(vertex.asThing());
+        }
+
         private boolean verifyLoops() {
             assert vertex != null;
             for (ProcedureEdge<?, ?> edge : procedureVertex.loops()) {
@@ -379,11 +432,27 @@ public class GraphIterator extends AbstractFunctionalIterator<VertexMap> {
                 if (procedureVertex.equals(procedure.initialVertex())) iterator = createIteratorFromInitial();
                 else if (procedureVertex.isStartVertex()) iterator = createIteratorFromStart();
                 else iterator = createIteratorFromEdges();
+                if (secondAfter != null && procedureVertex.order() == 1) {
+                    iterator = skipTo(iterator, secondAfter, secondAfterRepeats);
+                }
                 // TODO: we may only need to find one valid answer if all dependents are not included in the filter and also find an answer
             }
             return iterator;
         }
 
+        private <ORDER extends Order> Forwardable<Vertex<?, ?>, ORDER> skipTo(
+                Forwardable<Vertex<?, ?>, ORDER> iterator, Vertex<?, ?> from, int repeats
+        ) {
+            iterator.forward(from);
+            for (int skipped = 0; skipped < repeats && iterator.hasNext() && iterator.peek().equals(from); skipped++) {
+                iterator.next();
+            }
+            // candidates are counted from the start of the full sequence, so that this iterator can split again
+            lastCandidate = from;
+            lastCandidateRepeats = repeats;
+            return iterator;
+        }
+
         private Forwardable<Vertex<?, ?>, ? extends Order> createIteratorFromInitial() {
             if (localScope != null) localScope.record(procedureVertex, initial.asThing());
             return iterateSorted(order, initial);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.vaticle.typedb.core.traversal.scanner;
+
+import com.vaticle.typedb.core.common.collection.FingerprintSet;
+import com.vaticle.typedb.core.common.iterator.AbstractFunctionalIterator;
+import com.vaticle.typedb.core.common.iterator.FunctionalIterator;
+import com.vaticle.typedb.core.concurrent.producer.Splittable;
+import com.vaticle.typedb.core.graph.GraphManager;
+import com.vaticle.typedb.core.graph.vertex.Vertex;
+import com.vaticle.typedb.core.traversal.Traversal;
+import com.vaticle.typedb.core.traversal.common.Modifiers;
+import com.vaticle.typedb.core.traversal.common.VertexMap;
+import com.vaticle.typedb.core.traversal.procedure.GraphProcedure;
+import com.vaticle.typedb.core.traversal.procedure.ProcedureVertex;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The source of work for a parallel traversal: one GraphIterator per start vertex, followed by any remainders that
+ * running GraphIterators split off once the start vertices are exhausted.
+ * <p>
+ * A GraphIterator can only be split by the thread running it, so splitting is cooperative: when the consumer has an
+ * idle worker and no work left for it, it requests a split, and the next running iterator to move its second vertex forward hands
+ * every remaining second-vertex candidate to a new GraphIterator and finishes only the subtree it is in. A hub start
+ * vertex is therefore shared between workers at the granularity of its second-vertex subtrees.
+ * <p>
+ * Only the consumer (the producer driving these iterators) may call hasNext() and next(); splits may be offered from
+ * any thread.
+ */
+@ThreadSafe
+public class GraphPartitions extends AbstractFunctionalIterator<FunctionalIterator<VertexMap>> implements Splittable {
+
+    private final GraphManager graphMgr;
+    private final GraphProcedure procedure;
+    private final Traversal.Parameters params;
+    private final Modifiers modifiers;
+    private final FunctionalIterator<? extends Vertex<?, ?>> starts;
+    private final boolean distinctPerStart;
+    private final boolean isSplittable;
+    private final Queue<FunctionalIterator<VertexMap>> splits;
+    private final AtomicBoolean isStarved;
+
+    public GraphPartitions(GraphManager graphMgr, GraphProcedure procedure, Traversal.Parameters params,
+                           Modifiers modifiers, FunctionalIterator<? extends Vertex<?, ?>> starts, boolean distinctPerStart) {
+        this.graphMgr = graphMgr;
+        this.procedure = procedure;
+        this.params = params;
+        this.modifiers = modifiers;
+        this.starts = starts;
+        this.distinctPerStart = distinctPerStart;
+        this.isSplittable = isSplittable(procedure, modifiers);
+        this.splits = new ConcurrentLinkedQueue<>();
+        this.isStarved = new AtomicBoolean(false);
+    }
+
+    /**
+     * Splitting happens at the second vertex, so there must be a subtree below it worth sharing, and its candidates
+     * must come in the default (ascending vertex) order, so that a remainder can be resumed by forwarding past a vertex.
+     */
+    private static boolean isSplittable(GraphProcedure procedure, Modifiers modifiers) {
+        if (procedure.vertexCount() < 3) return false;
+        ProcedureVertex<?, ?> second = procedure.vertex(1);
+        return second.isThing() && modifiers.sorting().order(second.id()).isEmpty();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !splits.isEmpty() || starts.hasNext();
+    }
+
+    @Override
+    public FunctionalIterator<VertexMap> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        FunctionalIterator<VertexMap> split = splits.poll();
+        if (split != null) return split;
+        else return new Group().iterator(starts.next());
+    }
+
+    @Override
+    public void requestSplit() {
+        if (isSplittable) isStarved.set(true);
+    }
+
+    @Override
+    public boolean hasSplit() {
+        return !splits.isEmpty();
+    }
+
+    @Override
+    public void recycle() {
+        starts.recycle();
+        FunctionalIterator<VertexMap> split;
+        while ((split = splits.poll()) != null) split.recycle();
+    }
+
+    /**
+     * The GraphIterators that share one start vertex. When the initial vertex is retrieved, answers can only repeat
+     * within a group, so each group deduplicates on its own.
+     */
+    class Group {
+
+        private final Set<VertexMap> produced;
+
+        private Group() {
+            if (!distinctPerStart) produced = null;
+            else if (isSplittable) produced = FingerprintSet.concurrent(VertexMap::fingerprint);
+            else produced = FingerprintSet.create(VertexMap::fingerprint);
+        }
+
+        private FunctionalIterator<VertexMap> iterator(Vertex<?, ?> start) {
+            return wrap(new GraphIterator(graphMgr, start, procedure, params, modifiers, isSplittable ? this : null, null, 0));
+        }
+
+        private FunctionalIterator<VertexMap> wrap(GraphIterator iterator) {
+            return produced == null ? iterator : iterator.distinct(produced);
+        }
+
+        boolean trySplit() {
+            return isStarved.get() && isStarved.compareAndSet(true, false);
+        }
+
+        void offer(GraphIterator remainder) {
+            splits.add(wrap(remainder));
+        }
+    }
+}
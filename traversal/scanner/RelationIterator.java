@@ -206,7 +206,8 @@ public class RelationIterator extends AbstractFunctionalIterator<VertexMap> {
             TypeVertex roleVertex = graphMgr.schema().getType(roleLabel);
             return player.ins().edge(ROLEPLAYER, roleVertex)
                     .fromAndOptimised()
-                    .filter(relRole -> relationTypes.contains(relRole.key().type().properLabel()));
+                    .filter(relRole -> relationTypes.contains(relRole.key().type().properLabel()) &&
+                            !graphMgr.data().expiries().isExpired(relRole.key()));
         }), ASC).filter(relRole -> !scoped.contains(relRole.value())).mapSorted(
                 relRole -> {
                     scoped.record(pos, relRole.value());
@@ -117,6 +117,14 @@ public class Structure {
         recordEdge(edge);
     }
 
+    public void shortcut(StructureVertex.Thing from, StructureVertex.Thing to, Set<Label> relationTypes,
+                         Set<Label> fromRoleTypes, Set<Label> toRoleTypes) {
+        StructureEdge.Native.Shortcut edge = new StructureEdge.Native.Shortcut(
+                from, to, relationTypes, fromRoleTypes, toRoleTypes, emptySet()
+        );
+        recordEdge(edge);
+    }
+
     private void recordEdge(StructureEdge<?, ?> edge) {
         edges.add(edge);
         if (edge.from().equals(edge.to())) edge.from().loop(edge);
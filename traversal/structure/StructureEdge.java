@@ -31,6 +31,7 @@ import java.util.Set;
 import static com.vaticle.typedb.common.util.Objects.className;
 import static com.vaticle.typedb.core.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
 import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.ROLEPLAYER;
+import static com.vaticle.typedb.core.encoding.Encoding.Edge.Thing.Optimised.SHORTCUT;
 
 public abstract class StructureEdge<VERTEX_FROM extends StructureVertex<?>, VERTEX_TO extends StructureVertex<?>>
         extends TraversalEdge<VERTEX_FROM, VERTEX_TO> {
@@ -194,6 +195,14 @@ public abstract class StructureEdge<VERTEX_FROM extends StructureVertex<?>, VERT
             throw TypeDBException.of(ILLEGAL_CAST, className(this.getClass()), className(RolePlayer.class));
         }
 
+        public boolean isShortcut() {
+            return false;
+        }
+
+        public Shortcut asShortcut() {
+            throw TypeDBException.of(ILLEGAL_CAST, className(this.getClass()), className(Shortcut.class));
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -257,6 +266,67 @@ public abstract class StructureEdge<VERTEX_FROM extends StructureVertex<?>, VERT
                         this.repetition == that.repetition);
             }
 
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+        /**
+         * Connects two players of the same relation, in the given role types, when the relation itself is not needed.
+         * It is answered with the shortcut edges of the relation types that declare a matching shortcut, and through
+         * the role instances of the other relation types.
+         */
+        public static class Shortcut extends Native<StructureVertex.Thing, StructureVertex.Thing> {
+
+            private final Set<Label> relationTypes;
+            private final Set<Label> fromRoleTypes;
+            private final Set<Label> toRoleTypes;
+            private final int hash;
+
+            Shortcut(StructureVertex.Thing from, StructureVertex.Thing to, Set<Label> relationTypes,
+                     Set<Label> fromRoleTypes, Set<Label> toRoleTypes, Set<Annotation> annotations) {
+                super(from, to, SHORTCUT, false, annotations);
+                this.relationTypes = relationTypes;
+                this.fromRoleTypes = fromRoleTypes;
+                this.toRoleTypes = toRoleTypes;
+                this.hash = Objects.hash(this.getClass(), from, to, encoding, relationTypes, fromRoleTypes, toRoleTypes);
+            }
+
+            public Set<Label> relationTypes() {
+                return relationTypes;
+            }
+
+            public Set<Label> fromRoleTypes() {
+                return fromRoleTypes;
+            }
+
+            public Set<Label> toRoleTypes() {
+                return toRoleTypes;
+            }
+
+            @Override
+            public boolean isShortcut() {
+                return true;
+            }
+
+            @Override
+            public Shortcut asShortcut() {
+                return this;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (o == null || getClass() != o.getClass()) return false;
+
+                Shortcut that = (Shortcut) o;
+                return (this.from.equals(that.from) &&
+                        this.to.equals(that.to) &&
+                        this.relationTypes.equals(that.relationTypes) &&
+                        this.fromRoleTypes.equals(that.fromRoleTypes) &&
+                        this.toRoleTypes.equals(that.toRoleTypes));
+            }
+
             @Override
             public int hashCode() {
                 return hash;